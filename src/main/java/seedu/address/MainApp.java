@@ -26,11 +26,15 @@ import seedu.address.model.ReadOnlyTaskCollection;
 import seedu.address.model.TaskCollection;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.BinaryTaskCollectionStorage;
+import seedu.address.storage.JournaledTaskCollectionStorage;
+import seedu.address.storage.JsonTaskCollectionStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.TaskCollectionStorage;
 import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.XmlRevisionArchive;
 import seedu.address.storage.XmlTaskCollectionStorage;
 import seedu.address.ui.Ui;
 import seedu.address.ui.UiManager;
@@ -63,8 +67,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        TaskCollectionStorage taskCollectionStorage = new XmlTaskCollectionStorage(
-            userPrefs.getAddressBookFilePath());
+        TaskCollectionStorage taskCollectionStorage = initTaskCollectionStorage(userPrefs);
         storage = new StorageManager(taskCollectionStorage, userPrefsStorage);
 
         initLogging(config);
@@ -78,6 +81,38 @@ public class MainApp extends Application {
         initEventsCenter();
     }
 
+    /**
+     * Returns the storage of the deadline manager at {@code userPrefs}'s data file path, in
+     * {@code userPrefs}'s storage format.
+     */
+    private TaskCollectionStorage initTaskCollectionStorage(UserPrefs userPrefs) {
+        switch (userPrefs.getStorageFormat()) {
+        case XML:
+            mergeLeftoverJournal(userPrefs.getAddressBookFilePath());
+            return new XmlTaskCollectionStorage(userPrefs.getAddressBookFilePath());
+        case JOURNALED_XML:
+            return new JournaledTaskCollectionStorage(userPrefs.getAddressBookFilePath());
+        case BINARY:
+            return new BinaryTaskCollectionStorage(userPrefs.getAddressBookFilePath());
+        case JSON:
+            return new JsonTaskCollectionStorage(userPrefs.getAddressBookFilePath());
+        default:
+            throw new AssertionError("Unknown storage format: " + userPrefs.getStorageFormat());
+        }
+    }
+
+    /**
+     * Merges a journal left next to the data file at {@code filePath} by the journaled XML format into
+     * the data file, so that the plain XML format neither ignores the changes in it nor overwrites them.
+     */
+    private void mergeLeftoverJournal(Path filePath) {
+        try {
+            JournaledTaskCollectionStorage.mergeJournal(filePath);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not merge the journal of " + filePath + " into it: " + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s deadline manager and {@code
      * userPrefs}. <br> The data from the sample deadline manager will be used instead if {@code
@@ -103,7 +138,8 @@ public class MainApp extends Application {
             initialData = new TaskCollection();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return new ModelManager(initialData, userPrefs,
+            new XmlRevisionArchive(userPrefs.getUndoHistoryFilePath()));
     }
 
     private void initLogging(Config config) {
@@ -168,6 +204,17 @@ public class MainApp extends Application {
             initializedPrefs = new UserPrefs();
         }
 
+        if (initializedPrefs.getUndoHistoryLimit() < 1) {
+            logger.warning("undoHistoryLimit in " + prefsFilePath + " is not positive. Using the default of "
+                + UserPrefs.DEFAULT_UNDO_HISTORY_LIMIT);
+            initializedPrefs.setUndoHistoryLimit(UserPrefs.DEFAULT_UNDO_HISTORY_LIMIT);
+        }
+        if (initializedPrefs.getParallelFilterThreshold() < 1) {
+            logger.warning("parallelFilterThreshold in " + prefsFilePath + " is not positive. Using the default of "
+                + UserPrefs.DEFAULT_PARALLEL_FILTER_THRESHOLD);
+            initializedPrefs.setParallelFilterThreshold(UserPrefs.DEFAULT_PARALLEL_FILTER_THRESHOLD);
+        }
+
         //Update prefs file in case it was missing to begin with or there are new/unused fields
         try {
             storage.saveUserPrefs(initializedPrefs);
@@ -193,6 +240,8 @@ public class MainApp extends Application {
         logger.info(
             "============================ [ Stopping deadline manager ] =============================");
         ui.stop();
+        storage.flushTaskCollection();
+        storage.shutdownTaskCollectionSaver();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -0,0 +1,15 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats in which the deadline manager can be kept in its data file.
+ */
+public enum StorageFormat {
+    /** The whole deadline manager is written as XML on every change. */
+    XML,
+    /** An XML snapshot of the deadline manager, with a journal of the changes since the snapshot. */
+    JOURNALED_XML,
+    /** The whole deadline manager is written in a compact binary format on every change. */
+    BINARY,
+    /** The whole deadline manager is written as json on every change. */
+    JSON
+}
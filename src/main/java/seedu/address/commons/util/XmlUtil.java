@@ -5,6 +5,8 @@ import static java.util.Objects.requireNonNull;
 import java.io.FileNotFoundException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -13,9 +15,15 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Helps with reading from and writing to XML files.
+ * <p>
+ * Creating a {@code JAXBContext} introspects the bound classes, which costs far more than converting a
+ * small document, so the context of each class is created once and kept. Marshallers and unmarshallers
+ * are cheap to create but cannot be shared between threads, so each thread keeps its own for each class.
  */
 public class XmlUtil {
 
+    private static final ConcurrentMap<Class<?>, Binding> bindings = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -36,10 +44,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
-
-        return ((T) um.unmarshal(file.toFile()));
+        return ((T) getUnmarshaller(classToConvert).unmarshal(file.toFile()));
     }
 
     /**
@@ -61,11 +66,111 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        getBinding(data.getClass()).getFormattedMarshaller().marshal(data, file.toFile());
+    }
+
+    /**
+     * Returns the JAXB context of {@code type}, which is created on first use and then reused.
+     *
+     * @throws JAXBException if {@code type} cannot be bound to XML.
+     */
+    public static JAXBContext getContext(Class<?> type) throws JAXBException {
+        return getBinding(type).context;
+    }
+
+    /**
+     * Returns the calling thread's marshaller of {@code type}, which writes unformatted XML documents. It
+     * is shared by later callers on the thread, so it must not be passed to other threads and its
+     * properties must not be changed.
+     *
+     * @throws JAXBException if {@code type} cannot be bound to XML.
+     */
+    public static Marshaller getMarshaller(Class<?> type) throws JAXBException {
+        return getBinding(type).getMarshaller();
+    }
+
+    /**
+     * Returns the calling thread's marshaller of {@code type} that writes elements into a larger document,
+     * without an XML declaration. Like {@link #getMarshaller(Class)}, it must not be passed to other
+     * threads and its properties must not be changed.
+     *
+     * @throws JAXBException if {@code type} cannot be bound to XML.
+     */
+    public static Marshaller getFragmentMarshaller(Class<?> type) throws JAXBException {
+        return getBinding(type).getFragmentMarshaller();
+    }
+
+    /**
+     * Returns the calling thread's unmarshaller of {@code type}. It must not be passed to other threads.
+     *
+     * @throws JAXBException if {@code type} cannot be bound to XML.
+     */
+    public static Unmarshaller getUnmarshaller(Class<?> type) throws JAXBException {
+        return getBinding(type).getUnmarshaller();
+    }
+
+    /**
+     * Returns the binding of {@code type}, creating its context if this is the first use of the type.
+     */
+    private static Binding getBinding(Class<?> type) throws JAXBException {
+        requireNonNull(type);
+        Binding binding = bindings.get(type);
+        if (binding == null) {
+            // two threads may both create a context for the same type, but only one of them is kept
+            Binding newBinding = new Binding(JAXBContext.newInstance(type));
+            binding = bindings.putIfAbsent(type, newBinding);
+            if (binding == null) {
+                binding = newBinding;
+            }
+        }
+        return binding;
+    }
+
+    /**
+     * The JAXB context of a class, with the marshallers and unmarshaller of each thread that uses it.
+     */
+    private static class Binding {
+        private final JAXBContext context;
+        private final ThreadLocal<Marshaller> marshaller = new ThreadLocal<>();
+        private final ThreadLocal<Marshaller> formattedMarshaller = new ThreadLocal<>();
+        private final ThreadLocal<Marshaller> fragmentMarshaller = new ThreadLocal<>();
+        private final ThreadLocal<Unmarshaller> unmarshaller = new ThreadLocal<>();
+
+        Binding(JAXBContext context) {
+            this.context = context;
+        }
+
+        Marshaller getMarshaller() throws JAXBException {
+            if (marshaller.get() == null) {
+                marshaller.set(context.createMarshaller());
+            }
+            return marshaller.get();
+        }
+
+        Marshaller getFormattedMarshaller() throws JAXBException {
+            if (formattedMarshaller.get() == null) {
+                Marshaller newMarshaller = context.createMarshaller();
+                newMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+                formattedMarshaller.set(newMarshaller);
+            }
+            return formattedMarshaller.get();
+        }
 
-        m.marshal(data, file.toFile());
+        Marshaller getFragmentMarshaller() throws JAXBException {
+            if (fragmentMarshaller.get() == null) {
+                Marshaller newMarshaller = context.createMarshaller();
+                newMarshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+                fragmentMarshaller.set(newMarshaller);
+            }
+            return fragmentMarshaller.get();
+        }
+
+        Unmarshaller getUnmarshaller() throws JAXBException {
+            if (unmarshaller.get() == null) {
+                unmarshaller.set(context.createUnmarshaller());
+            }
+            return unmarshaller.get();
+        }
     }
 
 }
@@ -4,7 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILENAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_FILEPATH;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.io.File;
 import java.io.IOException;
@@ -84,7 +83,6 @@ public class AttachmentCommand extends Command {
         Task editedTask = attachmentAction.perform(taskToEdit);
 
         model.updatePerson(taskToEdit, editedTask);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         model.commitAddressBook();
         return new CommandResult(attachmentAction.resultMessage());
     }
@@ -98,8 +96,9 @@ public class AttachmentCommand extends Command {
         assert taskToEdit != null;
 
 
-        return new Task(taskToEdit.getName(), taskToEdit.getPhone(), taskToEdit.getPriority(), taskToEdit.getEmail(),
-            taskToEdit.getDeadline(), taskToEdit.getAddress(), taskToEdit.getTags(), taskToEdit.getAttachments());
+        return new Task(taskToEdit.getId(), taskToEdit.getName(), taskToEdit.getPhone(), taskToEdit.getPriority(),
+            taskToEdit.getEmail(), taskToEdit.getDeadline(), taskToEdit.getAddress(), taskToEdit.getTags(),
+            taskToEdit.getAttachments());
     }
 
     @Override
@@ -229,8 +228,8 @@ public class AttachmentCommand extends Command {
             }
             HashSet<Attachment> updatedAttachments = new HashSet<>(taskToEdit.getAttachments());
             updatedAttachments.add(newAttachment);
-            return new Task(taskToEdit.getName(), taskToEdit.getPhone(), taskToEdit.getPriority(),
-                taskToEdit.getEmail(), taskToEdit.getDeadline(),
+            return new Task(taskToEdit.getId(), taskToEdit.getName(), taskToEdit.getPhone(),
+                taskToEdit.getPriority(), taskToEdit.getEmail(), taskToEdit.getDeadline(),
                 taskToEdit.getAddress(), taskToEdit.getTags(), updatedAttachments);
         }
 
@@ -302,8 +301,8 @@ public class AttachmentCommand extends Command {
             HashSet<Attachment> updatedAttachments = new HashSet<>(taskToEdit.getAttachments());
             updatedAttachments.remove(attachmentToDelete);
             resultMessage = String.format(MESSAGE_SUCCESS, nameToDelete);
-            return new Task(taskToEdit.getName(), taskToEdit.getPhone(), taskToEdit.getPriority(),
-                taskToEdit.getEmail(), taskToEdit.getDeadline(),
+            return new Task(taskToEdit.getId(), taskToEdit.getName(), taskToEdit.getPhone(),
+                taskToEdit.getPriority(), taskToEdit.getEmail(), taskToEdit.getDeadline(),
                 taskToEdit.getAddress(), taskToEdit.getTags(), updatedAttachments);
         }
 
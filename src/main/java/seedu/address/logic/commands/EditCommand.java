@@ -7,7 +7,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_PRIORITY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
-import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import java.util.Collections;
 import java.util.HashSet;
@@ -86,7 +85,6 @@ public class EditCommand extends Command {
         Task editedTask = createEditedPerson(taskToEdit, editPersonDescriptor);
 
         model.updatePerson(taskToEdit, editedTask);
-        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         model.commitAddressBook();
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedTask));
     }
@@ -110,8 +108,8 @@ public class EditCommand extends Command {
         // Attachments are not modifiable via 'EditCommand'
         Set<Attachment> updatedAttachments = taskToEdit.getAttachments();
 
-        return new Task(updatedName, updatedPhone, updatedPriority, updatedEmail, updatedDeadline,
-            updatedAddress, updatedTags, updatedAttachments);
+        return new Task(taskToEdit.getId(), updatedName, updatedPhone, updatedPriority, updatedEmail,
+            updatedDeadline, updatedAddress, updatedTags, updatedAttachments);
     }
 
     @Override
@@ -2,16 +2,15 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.function.Predicate;
-
 import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
-import seedu.address.model.task.Task;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 
 /**
- * Finds and lists all persons in deadline manager whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Displays only those tasks in the deadline manager that satisfy the given filter query. The query
+ * is planned against the indexes of the deadline manager, and the plan is reported with the result.
  */
 public class FilterCommand extends Command {
 
@@ -20,24 +19,33 @@ public class FilterCommand extends Command {
     public static final String MESSAGE_USAGE =
         COMMAND_WORD + ": Display only those tasks which satisfies the given filter predicate "
             + "and displays them as a list with index numbers.\n"
-            + "Parameters: FILTER_PREDICATE [FILTER_PREDICATES]...\n"
-            + "Example: " + COMMAND_WORD + " due<1/10/2018";
+            + "Parameters: FILTER_EXPRESSION, made of FILTER_PREDICATEs combined with and, or, not and (...)\n"
+            + "Example: " + COMMAND_WORD + " due<1/10/2018 and (t:friends or not p>2)";
+
+    public static final String MESSAGE_QUERY_PLAN = "Plan: %1$s";
 
-    private final Predicate<Task> predicate;
+    private final Query query;
 
-    public FilterCommand(Predicate<Task> predicate) {
-        this.predicate = predicate;
+    public FilterCommand(Query query) {
+        requireNonNull(query);
+        this.query = query;
     }
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        model.updateFilteredPersonList(predicate);
+        QueryPlan plan = model.planQuery(query);
+        model.updateFilteredPersonList(plan.getPredicate());
         return new CommandResult(
             String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
-                model.getFilteredPersonList().size()));
+                model.getFilteredPersonList().size())
+                + "\n" + String.format(MESSAGE_QUERY_PLAN, plan));
     }
 
-    // FilterCommand should only compare equal by identity -
-    // you can't really check two non-identical predicates for equality.
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof FilterCommand // instanceof handles nulls
+            && query.equals(((FilterCommand) other).query)); // state check
+    }
 }
@@ -5,25 +5,38 @@ import static java.util.Objects.requireNonNull;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
-import seedu.address.model.ReadOnlyTaskCollection;
 import seedu.address.model.task.Task;
 import seedu.address.storage.Storage;
+import seedu.address.storage.XmlTaskReader;
 
 /**
  * Imports all tasks from an external deadline manager export file.
+ * <p>
+ * The file is read and validated a batch at a time, and tasks that are already in the deadline manager,
+ * or earlier in the file, are skipped. The remaining tasks are added to the model together once the whole
+ * file has been read, so the import is saved once and undone in one step, and a malformed file leaves
+ * the deadline manager unchanged.
  */
 public class ImportCommand extends Command {
 
     public static final String COMMAND_WORD = "import";
     public static final String MESSAGE_IMPORT_ERROR = "Import failed. Error: %s";
-    public static final String MESSAGE_SUCCESS = "Imported successfully from external file.";
+    public static final String MESSAGE_SUCCESS = "Imported %1$d tasks from external file, skipped %2$d duplicates.";
     public static final String MESSAGE_USAGE = "import filename";
+
+    static final int BATCH_SIZE = 1000;
+
     private Path pathName;
+
     public ImportCommand(String filename) {
         this.pathName = Paths.get(filename);
     }
@@ -31,15 +44,29 @@ public class ImportCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
-        try {
-            ReadOnlyTaskCollection importedCollection = Storage.importTaskCollection(pathName).get();
-            for (Task task: importedCollection.getTaskList()) {
-                model.addPerson(task);
+        List<Task> importedTasks = new ArrayList<>();
+        Set<Task> seenTasks = new HashSet<>();
+        int skippedCount = 0;
+        try (XmlTaskReader reader = Storage.openTaskImport(pathName)) {
+            for (List<Task> batch = reader.readBatch(BATCH_SIZE); !batch.isEmpty();
+                 batch = reader.readBatch(BATCH_SIZE)) {
+                for (Task task : batch) {
+                    if (model.hasPerson(task) || !seenTasks.add(task)) {
+                        skippedCount++;
+                        continue;
+                    }
+                    // imported tasks come from another collection, so their ids may clash with ours
+                    importedTasks.add(task.withNewId());
+                }
             }
         } catch (DataConversionException | IOException e) {
             throw new CommandException(String.format(MESSAGE_IMPORT_ERROR, e));
         }
-        //model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        return new CommandResult(MESSAGE_SUCCESS);
+
+        if (!importedTasks.isEmpty()) {
+            model.addPersons(importedTasks);
+            model.commitAddressBook();
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, importedTasks.size(), skippedCount));
     }
 }
@@ -0,0 +1,67 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.task.Task;
+
+/**
+ * Lists the tasks in view that are due next, or due last, in order of deadline. The tasks are listed in
+ * the result, so the view keeps its filter and sort order.
+ */
+public class NextCommand extends Command {
+
+    public static final String COMMAND_WORD = "next";
+
+    /** The largest number of tasks that can be listed at once. */
+    public static final int MAX_COUNT = 1000;
+
+    public static final String MESSAGE_USAGE =
+        COMMAND_WORD + ": Lists the given number of tasks in view with the earliest deadlines, "
+            + "or the latest deadlines if followed by >, in order of deadline.\n"
+            + "Parameters: COUNT (at most " + MAX_COUNT + ") [<|>]\n"
+            + "Example 1: " + COMMAND_WORD + " 20\n"
+            + "Example 2: " + COMMAND_WORD + " 5 >";
+
+    public static final String MESSAGE_SUCCESS = "The %1$d tasks due %2$s:\n%3$s";
+    public static final String MESSAGE_TASK = "%1$d. %2$s (due %3$s)";
+    public static final String MESSAGE_COUNT_TOO_LARGE = "At most %1$d tasks can be listed at once.";
+
+    private final int count;
+    private final boolean isEarliestFirst;
+
+    /**
+     * Creates a NextCommand to list the {@code count} tasks with the earliest deadlines, or the
+     * latest if {@code isEarliestFirst} is false.
+     */
+    public NextCommand(int count, boolean isEarliestFirst) {
+        checkArgument(count > 0 && count <= MAX_COUNT);
+        this.count = count;
+        this.isEarliestFirst = isEarliestFirst;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        List<Task> nextDue = model.getNextDueTasks(count, isEarliestFirst);
+        List<String> lines = new ArrayList<>(nextDue.size());
+        for (Task task : nextDue) {
+            lines.add(String.format(MESSAGE_TASK, lines.size() + 1, task.getName(), task.getDeadline()));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, nextDue.size(), isEarliestFirst ? "next" : "last",
+            String.join("\n", lines)));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof NextCommand // instanceof handles nulls
+            && count == ((NextCommand) other).count
+            && isEarliestFirst == ((NextCommand) other).isEarliestFirst); // state check
+    }
+}
@@ -13,9 +13,25 @@ import seedu.address.model.Model;
 public class RedoCommand extends Command {
 
     public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Restores the last STEPS undone commands.\n"
+        + "Parameters: [STEPS] (must be a positive integer, 1 if omitted)\n"
+        + "Example: " + COMMAND_WORD + " 3";
+
     public static final String MESSAGE_SUCCESS = "Redo success!";
     public static final String MESSAGE_FAILURE = "No more commands to redo!";
 
+    private final int steps;
+
+    public RedoCommand() {
+        this(1);
+    }
+
+    public RedoCommand(int steps) {
+        this.steps = steps;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
@@ -24,8 +40,15 @@ public class RedoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.redoAddressBook();
+        model.redoAddressBook(steps);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof RedoCommand // instanceof handles nulls
+            && steps == ((RedoCommand) other).steps); // state check
+    }
 }
@@ -9,7 +9,7 @@ import seedu.address.model.Model;
 import seedu.address.model.task.Task;
 
 /**
- * Sort all tasks in the deadline manager by their name (aka title).
+ * Sorts the tasks in view by their name, deadline, priority or tag.
  */
 public class SortCommand extends Command {
 
@@ -20,7 +20,8 @@ public class SortCommand extends Command {
                     + "and displays them as a list with index numbers.\n"
                     + "Parameters: SORT_COMPARATOR [SORT_COMPARATORS]...\n"
                     + "Example 1: " + COMMAND_WORD + " name> due<\n"
-                    + "Example 2: " + COMMAND_WORD + " d>\n";
+                    + "Example 2: " + COMMAND_WORD + " d>\n"
+                    + "Example 3: " + COMMAND_WORD + " p< t<\n";
 
     public static final String MESSAGE_SUCCESS = "Sorted list.";
 
@@ -36,4 +37,11 @@ public class SortCommand extends Command {
         model.updateSortedPersonList(comparator);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof SortCommand // instanceof handles nulls
+            && comparator.equals(((SortCommand) other).comparator)); // state check
+    }
 }
@@ -0,0 +1,24 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.TaskStatistics;
+
+/**
+ * Shows the number of tasks in the deadline manager by priority, by tag and by how soon they are due.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_SUCCESS = "Statistics of %1$d tasks:\n%2$s";
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        TaskStatistics statistics = model.getStatistics();
+        return new CommandResult(String.format(MESSAGE_SUCCESS, statistics.getTaskCount(), statistics));
+    }
+}
@@ -13,9 +13,25 @@ import seedu.address.model.Model;
 public class UndoCommand extends Command {
 
     public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+        + ": Reverts the deadline manager to its state before the last STEPS undoable commands.\n"
+        + "Parameters: [STEPS] (must be a positive integer, 1 if omitted)\n"
+        + "Example: " + COMMAND_WORD + " 3";
+
     public static final String MESSAGE_SUCCESS = "Undo success!";
     public static final String MESSAGE_FAILURE = "No more commands to undo!";
 
+    private final int steps;
+
+    public UndoCommand() {
+        this(1);
+    }
+
+    public UndoCommand(int steps) {
+        this.steps = steps;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
@@ -24,8 +40,15 @@ public class UndoCommand extends Command {
             throw new CommandException(MESSAGE_FAILURE);
         }
 
-        model.undoAddressBook();
+        model.undoAddressBook(steps);
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         return new CommandResult(MESSAGE_SUCCESS);
     }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof UndoCommand // instanceof handles nulls
+            && steps == ((UndoCommand) other).steps); // state check
+    }
 }
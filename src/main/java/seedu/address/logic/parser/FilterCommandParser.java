@@ -2,25 +2,28 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import java.util.Set;
-import java.util.function.Predicate;
+import java.util.ArrayList;
+import java.util.InputMismatchException;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.tag.Tag;
-import seedu.address.model.task.Deadline;
+import seedu.address.model.query.AndQuery;
+import seedu.address.model.query.ConditionQuery;
+import seedu.address.model.query.NotQuery;
+import seedu.address.model.query.OrQuery;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryField;
 import seedu.address.model.task.FilterOperator;
-import seedu.address.model.task.Name;
-import seedu.address.model.task.Task;
 import seedu.address.model.task.exceptions.InvalidPredicateException;
 import seedu.address.model.task.exceptions.InvalidPredicateOperatorException;
 import seedu.address.model.task.exceptions.InvalidPredicateTestPhraseException;
-import seedu.address.model.util.SetUtil;
 
 /**
- * Parses input arguments and creates a new FindCommand object
+ * Parses input arguments and creates a new FilterCommand object
  */
 public class FilterCommandParser implements Parser<FilterCommand> {
 
@@ -29,10 +32,25 @@ public class FilterCommandParser implements Parser<FilterCommand> {
     private static final String MESSAGE_INVALID_TESTPHRASE_FORMAT = "Invalid filter test value: %1$s";
     private static final String MESSAGE_INVALID_GENERAL_PREDICATE_FORMAT = "Invalid filter: %1$s";
 
+    private static final Pattern OPEN_PARENTHESIS = Pattern.compile("\\(");
+    private static final Pattern CLOSE_PARENTHESIS = Pattern.compile("\\)");
+    private static final Pattern AND = Pattern.compile("and(?=[\\s(]|$)");
+    private static final Pattern OR = Pattern.compile("or(?=[\\s(]|$)");
+    private static final Pattern NOT = Pattern.compile("not(?=[\\s(]|$)");
+    private static final Pattern QUOTE = Pattern.compile("[\"\']");
+
+    // pattern that matches the key and operator of a condition, like:
+    // due=1/10/2018
+    // test<blah
+    // name>"hello world"
+    private static final Pattern KEY_OPERATOR = Pattern.compile("([a-zA-Z]+)\\s*([\\=\\<\\>\\:])\\s*");
+    private static final Pattern UNQUOTED_VALUE = Pattern.compile("[^\\s()\"\']+");
 
     /**
-     * Parses the given {@code String} of arguments in the context of the FindCommand and returns an
-     * FindCommand object for execution.
+     * Parses the given {@code String} of arguments in the context of the FilterCommand and returns a
+     * FilterCommand object for execution. Conditions are combined with {@code and}, {@code or},
+     * {@code not} and parentheses, in increasing order of precedence; conditions next to each other
+     * are combined with {@code and}.
      *
      * @throws ParseException if the user input does not conform the expected format
      */
@@ -44,61 +62,99 @@ public class FilterCommandParser implements Parser<FilterCommand> {
                 String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
         }
 
-        // pattern that matches things like:
-        // due=1/10/2018
-        // test<blah
-        // name>"hello world"
-        Pattern pattern = Pattern.compile("^([a-zA-Z]+)\\s*([\\=\\<\\>\\:])\\s*(\".+?\"|\'.+?\'|[\\S&&[^\"\']]+)$");
-        Matcher matcher = pattern.matcher(trimmedArgs);
-
-        if (!matcher.matches() || matcher.groupCount() != 3) {
+        // whitespace-separated quotable tokenizer
+        StringTokenizer tokenizer = new StringTokenizer(trimmedArgs,
+            Character::isWhitespace, ch -> ch == '\'' || ch == '\"');
+        try {
+            Query query = parseDisjunction(tokenizer);
+            if (tokenizer.hasNextToken()) {
+                throw new InputMismatchException("Unexpected input after the filter expression!");
+            }
+            return new FilterCommand(query);
+        } catch (NoSuchElementException e) {
             throw new ParseException(
-                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE));
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FilterCommand.MESSAGE_USAGE), e);
         }
+    }
 
-        final String key = matcher.group(1);
-        final FilterOperator operator = FilterOperator.parse(matcher.group(2));
-        String value = matcher.group(3);
-        if (value.startsWith("\"") || value.startsWith("\'")) {
-            assert value.length() >= 2 : "Regex error, string length not more than 2!";
-            value = value.substring(1, value.length() - 1);
+    /**
+     * Parses operands separated by {@code or}.
+     */
+    private Query parseDisjunction(StringTokenizer tokenizer) throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseConjunction(tokenizer));
+        while (tokenizer.hasNextPattern(OR)) {
+            tokenizer.nextPattern(OR);
+            operands.add(parseConjunction(tokenizer));
         }
-        final String testPhrase = value;
+        return operands.size() == 1 ? operands.get(0) : new OrQuery(operands);
+    }
 
-        Predicate<Task> predicate;
+    /**
+     * Parses operands separated by {@code and}, or by nothing but whitespace.
+     */
+    private Query parseConjunction(StringTokenizer tokenizer) throws ParseException {
+        List<Query> operands = new ArrayList<>();
+        operands.add(parseUnary(tokenizer));
+        while (tokenizer.hasNextToken() && !tokenizer.hasNextPattern(OR)
+            && !tokenizer.hasNextPattern(CLOSE_PARENTHESIS)) {
+            if (tokenizer.hasNextPattern(AND)) {
+                tokenizer.nextPattern(AND);
+            }
+            operands.add(parseUnary(tokenizer));
+        }
+        return operands.size() == 1 ? operands.get(0) : new AndQuery(operands);
+    }
+
+    /**
+     * Parses a negated operand, a parenthesised expression or a single condition.
+     */
+    private Query parseUnary(StringTokenizer tokenizer) throws ParseException {
+        if (tokenizer.hasNextPattern(NOT)) {
+            tokenizer.nextPattern(NOT);
+            return new NotQuery(parseUnary(tokenizer));
+        }
+        if (tokenizer.hasNextPattern(OPEN_PARENTHESIS)) {
+            tokenizer.nextPattern(OPEN_PARENTHESIS);
+            Query query = parseDisjunction(tokenizer);
+            tokenizer.nextPattern(CLOSE_PARENTHESIS);
+            return query;
+        }
+
+        Matcher matcher = KEY_OPERATOR.matcher(tokenizer.nextPattern(KEY_OPERATOR));
+        boolean isKeyOperator = matcher.matches();
+        assert isKeyOperator : "Regex error, key and operator did not match again!";
+        String value = tokenizer.hasNextPattern(QUOTE)
+            ? tokenizer.nextString()
+            : tokenizer.nextPattern(UNQUOTED_VALUE);
+        if (value.isEmpty()) {
+            throw new InputMismatchException("The value of a condition is empty!");
+        }
+        return parseCondition(matcher.group(1), matcher.group(2), value);
+    }
+
+    /**
+     * Parses a single {@code key operator value} condition of a filter query, where the value has
+     * been unquoted.
+     *
+     * @throws ParseException if the key, the operator or the value is not valid
+     */
+    private ConditionQuery parseCondition(String key, String operatorString, String testPhrase)
+        throws ParseException {
+        final QueryField field = QueryField.fromKey(key)
+            .orElseThrow(() -> new ParseException(String.format(MESSAGE_INVALID_KEY_FORMAT, key)));
+        final FilterOperator operator = FilterOperator.parse(operatorString);
 
         try {
-            switch (key) {
-            case "n": // fallthrough
-            case "name": {
-                Predicate<Name> namePredicate = Name.makeFilter(operator, testPhrase);
-                predicate = task -> namePredicate.test(task.getName());
-                break;
-            }
-            case "d": // fallthrough
-            case "due": {
-                Predicate<Deadline> deadlinePredicate = Deadline.makeFilter(operator, testPhrase);
-                predicate = task -> deadlinePredicate.test(task.getDeadline());
-                break;
-            }
-            case "t": // fallthrough
-            case "tag": {
-                Predicate<Set<Tag>> tagsPredicate = SetUtil.makeFilter(Tag.class, operator, testPhrase);
-                predicate = task -> tagsPredicate.test(task.getTags());
-                break;
-            }
-            default:
-                throw new ParseException(String.format(MESSAGE_INVALID_KEY_FORMAT, key));
-            }
+            return new ConditionQuery(field, operator, testPhrase);
         } catch (InvalidPredicateOperatorException e) {
             throw new ParseException(String.format(MESSAGE_INVALID_OPERATOR_FORMAT, operator), e);
         } catch (InvalidPredicateTestPhraseException e) {
             throw new ParseException(String.format(MESSAGE_INVALID_TESTPHRASE_FORMAT, testPhrase), e);
         } catch (InvalidPredicateException e) {
-            throw new ParseException(String.format(MESSAGE_INVALID_GENERAL_PREDICATE_FORMAT, trimmedArgs), e);
+            throw new ParseException(String.format(MESSAGE_INVALID_GENERAL_PREDICATE_FORMAT,
+                key + operatorString + testPhrase), e);
         }
-
-        return new FilterCommand(predicate);
     }
 
 }
@@ -0,0 +1,36 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.NextCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new NextCommand object
+ */
+public class NextCommandParser implements Parser<NextCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the NextCommand and returns a
+     * NextCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public NextCommand parse(String args) throws ParseException {
+        String[] splitArgs = args.trim().split("\\s+");
+        if (splitArgs.length > 2 || !StringUtil.isNonZeroUnsignedInteger(splitArgs[0])
+            || (splitArgs.length == 2 && !splitArgs[1].matches("[<>]"))) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, NextCommand.MESSAGE_USAGE));
+        }
+
+        int count = Integer.parseInt(splitArgs[0]);
+        if (count > NextCommand.MAX_COUNT) {
+            throw new ParseException(String.format(NextCommand.MESSAGE_COUNT_TOO_LARGE, NextCommand.MAX_COUNT));
+        }
+
+        boolean isEarliestFirst = splitArgs.length == 1 || splitArgs[1].equals("<");
+        return new NextCommand(count, isEarliestFirst);
+    }
+}
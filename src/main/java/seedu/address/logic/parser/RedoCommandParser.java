@@ -0,0 +1,31 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new RedoCommand object
+ */
+public class RedoCommandParser implements Parser<RedoCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the RedoCommand and returns
+     * an RedoCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public RedoCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            return new RedoCommand();
+        }
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedArgs)) {
+            throw new ParseException(
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RedoCommand.MESSAGE_USAGE));
+        }
+        return new RedoCommand(Integer.parseInt(trimmedArgs));
+    }
+}
@@ -2,11 +2,10 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
-import java.util.Comparator;
-
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.task.Task;
+import seedu.address.model.task.SortField;
+import seedu.address.model.task.TaskSortOrder;
 
 /**
  * Parses input arguments and creates a new SortCommand object
@@ -34,10 +33,9 @@ public class SortCommandParser implements Parser<SortCommand> {
         // pattern that matches things like:
         // due< name>
         // n<
+        // p< t>
 
-        Comparator<Task> comparator = Comparator.comparing(Task::getClass, (a, b) -> {
-            return 0; // a default comparator which compares every task equal
-        });
+        TaskSortOrder sortOrder = new TaskSortOrder();
 
         for (String element: splitedArgs) {
 
@@ -54,32 +52,12 @@ public class SortCommandParser implements Parser<SortCommand> {
                         String.format(MESSAGE_INVALID_KEY_FORMAT, element));
             }
 
-            switch (taskField) {
-            case "n": // fallthrough
-            case "name": {
-                if (comparisonCharacter == '<') {
-                    comparator = comparator.thenComparing(Task::getName);
-                } else {
-                    comparator = comparator.thenComparing(Task::getName, Comparator.reverseOrder());
-                }
-                break;
-            }
-            case "d": // fallthrough
-            case "due": {
-                if (comparisonCharacter == '<') {
-                    comparator = comparator.thenComparing(Task::getDeadline);
-                } else {
-                    comparator = comparator.thenComparing(Task::getDeadline, Comparator.reverseOrder());
-                }
-                break;
-            }
-            default: {
-                throw new ParseException(String.format(MESSAGE_INVALID_KEY_FORMAT, element));
-            }
-            }
+            SortField field = SortField.fromKey(taskField).orElseThrow(() ->
+                new ParseException(String.format(MESSAGE_INVALID_KEY_FORMAT, element)));
+            sortOrder = sortOrder.thenBy(field, comparisonCharacter == '<');
         }
 
-        return new SortCommand(comparator);
+        return new SortCommand(sortOrder);
     }
 
 }
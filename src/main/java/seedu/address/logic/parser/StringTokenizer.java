@@ -95,20 +95,28 @@ public class StringTokenizer {
     }
 
     /**
-     * Consume the next token specified with the regex.
+     * Returns true if the characters after the delimiters begin with a match of the regex.
+     */
+    public boolean hasNextPattern(Pattern pattern) {
+        return hasNextToken() && pattern.matcher(str).region(nextIndex, str.length()).lookingAt();
+    }
+
+    /**
+     * Consume the next token specified with the regex, which is the match of the regex at the start of
+     * the characters after the delimiters.
      */
     public String nextPattern(Pattern pattern) {
         if (!hasNextToken()) {
             throw new NoSuchElementException("Reached end of string while reading delimiter!");
         }
 
-        Matcher matcher = pattern.matcher(str.subSequence(nextIndex, str.length()));
+        Matcher matcher = pattern.matcher(str).region(nextIndex, str.length());
 
-        if (!matcher.matches() || matcher.start() != 0) {
+        if (!matcher.lookingAt()) {
             throw new InputMismatchException("The next token does not match the given pattern!");
         }
 
-        nextIndex += matcher.end();
+        nextIndex = matcher.end();
 
         return matcher.group();
     }
@@ -0,0 +1,261 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.model.task.Task;
+
+/**
+ * A view of the tasks in a source list that satisfy a predicate, in the order of the source list.
+ * <p>
+ * Like {@code FilteredList}, the view is kept in step with changes to the source list by testing
+ * only the tasks that changed. Unlike {@code FilteredList}, the predicate can be set together with
+ * the slots of the tasks that may satisfy it, for example as found through an index, so that only
+ * those tasks are tested instead of the whole source list.
+ * <p>
+ * When a new predicate is set and at least {@code parallelThreshold} tasks are to be tested, the
+ * tasks are copied into an array that is split across the common {@code ForkJoinPool}, and the tasks
+ * that pass are published as a single change once every part has been tested. Predicates must
+ * therefore be safe to test from several threads at once, as the stateless task predicates are.
+ */
+public class FilteredTaskList extends TransformationList<Task, Task> {
+
+    private Predicate<? super Task> predicate = task -> true;
+    private int parallelThreshold = Integer.MAX_VALUE;
+
+    /** Slots in the source list of the tasks in this view, in ascending order. */
+    private int[] slots = new int[0];
+    private int size = 0;
+
+    /**
+     * Creates a view of all the tasks in {@code source}.
+     */
+    public FilteredTaskList(ObservableList<Task> source) {
+        super(source);
+        refilter(allSlots());
+    }
+
+    /**
+     * Sets the predicate of this view, and tests every task in the source list against it.
+     */
+    public void setPredicate(Predicate<? super Task> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        refilter(allSlots());
+    }
+
+    /**
+     * Sets the predicate of this view, and tests only the tasks at {@code candidateSlots} against it.
+     * Every task in the source list that satisfies {@code predicate} must be at one of
+     * {@code candidateSlots}, which must be in ascending order.
+     */
+    public void setPredicate(Predicate<? super Task> predicate, int[] candidateSlots) {
+        requireNonNull(predicate);
+        requireNonNull(candidateSlots);
+        this.predicate = predicate;
+        refilter(candidateSlots);
+    }
+
+    /**
+     * Sets the number of tasks to test against a new predicate from which they are tested in
+     * parallel.
+     */
+    public void setParallelThreshold(int parallelThreshold) {
+        checkArgument(parallelThreshold > 0);
+        this.parallelThreshold = parallelThreshold;
+    }
+
+    public Predicate<? super Task> getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public Task get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return getSource().get(slots[index]);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return slots[index];
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        int viewIndex = Arrays.binarySearch(slots, 0, size, index);
+        return viewIndex < 0 ? -1 : viewIndex;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObservableList<Task> getTaskSource() {
+        return (ObservableList<Task>) getSource();
+    }
+
+    private int[] allSlots() {
+        int[] allSlots = new int[getSource().size()];
+        Arrays.setAll(allSlots, slot -> slot);
+        return allSlots;
+    }
+
+    /**
+     * Replaces the contents of this view with the tasks at {@code candidateSlots} that satisfy the
+     * predicate.
+     */
+    private void refilter(int[] candidateSlots) {
+        List<Task> removed = new ArrayList<>(this);
+        boolean[] passes = candidateSlots.length >= parallelThreshold
+            ? testInParallel(candidateSlots)
+            : null;
+        int[] newSlots = new int[candidateSlots.length];
+        int newSize = 0;
+        for (int i = 0; i < candidateSlots.length; i++) {
+            if (passes != null ? passes[i] : predicate.test(getTaskSource().get(candidateSlots[i]))) {
+                newSlots[newSize++] = candidateSlots[i];
+            }
+        }
+
+        beginChange();
+        slots = newSlots;
+        size = newSize;
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size > 0) {
+            nextAdd(0, size);
+        }
+        endChange();
+    }
+
+    /**
+     * Tests the tasks at {@code candidateSlots} against the predicate in parallel, on a copy of the
+     * source list. Returns whether each of them passes, in the order of {@code candidateSlots}.
+     */
+    private boolean[] testInParallel(int[] candidateSlots) {
+        Task[] tasks = getTaskSource().toArray(new Task[0]);
+        Predicate<? super Task> currentPredicate = predicate;
+        boolean[] passes = new boolean[candidateSlots.length];
+        IntStream.range(0, candidateSlots.length).parallel()
+            .forEach(i -> passes[i] = currentPredicate.test(tasks[candidateSlots[i]]));
+        return passes;
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Task> change) {
+        beginChange();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permutate(change);
+            } else if (change.wasUpdated()) {
+                replaceRange(change.getFrom(), change.getTo(), new ArrayList<>(change.getAddedSubList()),
+                    change.getTo() - change.getFrom());
+            } else {
+                replaceRange(change.getFrom(), change.getFrom() + change.getRemovedSize(), change.getRemoved(),
+                    change.getAddedSize());
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Updates this view for the tasks {@code removed} from slots {@code from} to {@code to} of the
+     * source list, which now hold {@code addedSize} new tasks. Only the new tasks are tested, and
+     * replacing a task that stays in view, as an edit does, takes O(log n) time.
+     */
+    private void replaceRange(int from, int to, List<? extends Task> removed, int addedSize) {
+        int removedFrom = lowerBound(from);
+        int removedTo = lowerBound(to);
+        List<Task> removedFromView = new ArrayList<>();
+        for (int i = removedFrom; i < removedTo; i++) {
+            removedFromView.add(removed.get(slots[i] - from));
+        }
+
+        int[] addedSlots = new int[addedSize];
+        int addedCount = 0;
+        for (int slot = from; slot < from + addedSize; slot++) {
+            if (predicate.test(getTaskSource().get(slot))) {
+                addedSlots[addedCount++] = slot;
+            }
+        }
+
+        int shift = addedSize - (to - from);
+        if (shift == 0 && addedCount == removedTo - removedFrom) {
+            // the same number of tasks stay in view, so the other slots are left as they are
+            System.arraycopy(addedSlots, 0, slots, removedFrom, addedCount);
+            if (addedCount > 0) {
+                nextReplace(removedFrom, removedFrom + addedCount, removedFromView);
+            }
+            return;
+        }
+
+        int tailLength = size - removedTo;
+        int newSize = removedFrom + addedCount + tailLength;
+        int[] newSlots = newSize > slots.length ? Arrays.copyOf(slots, Math.max(newSize, slots.length * 2)) : slots;
+        System.arraycopy(slots, removedTo, newSlots, removedFrom + addedCount, tailLength);
+        System.arraycopy(addedSlots, 0, newSlots, removedFrom, addedCount);
+        for (int i = removedFrom + addedCount; i < newSize; i++) {
+            newSlots[i] += shift;
+        }
+        slots = newSlots;
+        size = newSize;
+
+        if (!removedFromView.isEmpty()) {
+            nextRemove(removedFrom, removedFromView);
+        }
+        if (addedCount > 0) {
+            nextAdd(removedFrom, removedFrom + addedCount);
+        }
+    }
+
+    /**
+     * Updates this view for the tasks in the source list that were reordered by {@code change}.
+     */
+    private void permutate(ListChangeListener.Change<? extends Task> change) {
+        int viewFrom = lowerBound(change.getFrom());
+        int viewTo = lowerBound(change.getTo());
+        if (viewTo - viewFrom == 0) {
+            return;
+        }
+
+        // pairs of (new slot, old view index), sorted by new slot
+        long[] moves = new long[viewTo - viewFrom];
+        for (int i = viewFrom; i < viewTo; i++) {
+            moves[i - viewFrom] = ((long) change.getPermutation(slots[i]) << 32) | i;
+        }
+        Arrays.sort(moves);
+
+        int[] permutation = new int[viewTo - viewFrom];
+        for (int i = 0; i < moves.length; i++) {
+            int oldViewIndex = (int) moves[i];
+            permutation[oldViewIndex - viewFrom] = viewFrom + i;
+            slots[viewFrom + i] = (int) (moves[i] >>> 32);
+        }
+        nextPermutation(viewFrom, viewTo, permutation);
+    }
+
+    /**
+     * Returns the index in this view of the first task at or after {@code slot} in the source list.
+     */
+    private int lowerBound(int slot) {
+        int index = Arrays.binarySearch(slots, 0, size, slot);
+        return index < 0 ? -index - 1 : index;
+    }
+}
@@ -1,9 +1,14 @@
 package seedu.address.model;
 
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 import seedu.address.model.task.Task;
 
 /**
@@ -48,6 +53,23 @@ public interface Model {
      */
     void updatePerson(Task target, Task editedTask);
 
+    /**
+     * Adds the given tasks as a single change, which raises one change event.
+     */
+    void addPersons(List<Task> tasks);
+
+    /**
+     * Deletes the given tasks as a single change, which raises one change event. Tasks that are not
+     * in the deadline manager are ignored.
+     */
+    void deletePersons(Collection<Task> targets);
+
+    /**
+     * Replaces each task that is a key of {@code editedTasks} with the task it maps to, as a single
+     * change, which raises one change event. Every key must exist in the deadline manager.
+     */
+    void updatePersons(Map<Task, Task> editedTasks);
+
     /**
      * Returns an unmodifiable view of the filtered task list
      */
@@ -61,7 +83,31 @@ public interface Model {
     void updateFilteredPersonList(Predicate<Task> predicate);
 
     /**
-     * Updates the sorted order of the tasks according by the given {@code comparator}.
+     * Returns the plan by which {@code query} is resolved against the current tasks. The plan's
+     * predicate can be given to {@link #updateFilteredPersonList(Predicate)}.
+     *
+     * @throws NullPointerException if {@code query} is null.
+     */
+    QueryPlan planQuery(Query query);
+
+    /**
+     * Returns up to {@code count} tasks of the filtered task list with the earliest deadlines, or the
+     * latest if {@code isEarliestFirst} is false, in order of deadline. Tasks due at the same time
+     * are in order of id. Neither the filtered task list nor the deadline manager is changed.
+     *
+     * @throws IllegalArgumentException if {@code count} is not positive.
+     */
+    List<Task> getNextDueTasks(int count, boolean isEarliestFirst);
+
+    /**
+     * Returns the number of tasks in the deadline manager by priority, by tag and by how soon they
+     * are due as of today.
+     */
+    TaskStatistics getStatistics();
+
+    /**
+     * Sorts the filtered task list by the given {@code comparator}, which keeps its order as tasks
+     * are added, edited and removed. The order of the tasks in the deadline manager is unchanged.
      *
      * @throws NullPointerException if {@code comparator} is null.
      */
@@ -82,11 +128,23 @@ public interface Model {
      */
     void undoAddressBook();
 
+    /**
+     * Restores the model's deadline manager to its state {@code steps} undoable commands ago, or to
+     * its earliest state if there are fewer.
+     */
+    void undoAddressBook(int steps);
+
     /**
      * Restores the model's deadline manager to its previously undone state.
      */
     void redoAddressBook();
 
+    /**
+     * Restores the model's deadline manager to its state {@code steps} undone commands later, or to
+     * its last undone state if there are fewer.
+     */
+    void redoAddressBook(int steps);
+
     /**
      * Saves the current deadline manager state for undo/redo.
      */
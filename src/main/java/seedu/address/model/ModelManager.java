@@ -1,20 +1,31 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.TaskCollectionChangedEvent;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
+import seedu.address.model.query.QueryPlanner;
+import seedu.address.model.task.IndexedTaskPredicate;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdSet;
 
 
 
@@ -26,20 +37,44 @@ public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final VersionedTaskCollection versionedAddressBook;
-    private final FilteredList<Task> filteredTasks;
+    private final FilteredTaskList filteredTasks;
+    private final SortedTaskList sortedTasks;
+    /** Changes to the deadline manager since the last {@code TaskCollectionChangedEvent}. */
+    private final List<TaskDelta> unreportedDeltas = new ArrayList<>();
+    /** The version of the deadline manager in the last {@code TaskCollectionChangedEvent}. */
+    private long reportedVersion = TaskCollectionSnapshot.INITIAL_VERSION;
 
     /**
-     * Initializes a ModelManager with the given addressBook and userPrefs.
+     * Initializes a ModelManager with the given addressBook and userPrefs, which keeps its whole
+     * undo history in memory.
      */
     public ModelManager(ReadOnlyTaskCollection addressBook, UserPrefs userPrefs) {
+        this(new VersionedTaskCollection(addressBook), userPrefs);
+    }
+
+    /**
+     * Initializes a ModelManager with the given addressBook and userPrefs, which keeps as many
+     * undoable states in memory as set in {@code userPrefs} and archives older ones in
+     * {@code revisionArchive}.
+     */
+    public ModelManager(ReadOnlyTaskCollection addressBook, UserPrefs userPrefs,
+                        RevisionArchive revisionArchive) {
+        this(new VersionedTaskCollection(addressBook, userPrefs.getUndoHistoryLimit(), revisionArchive),
+            userPrefs);
+    }
+
+    private ModelManager(VersionedTaskCollection versionedAddressBook, UserPrefs userPrefs) {
         super();
-        requireAllNonNull(addressBook, userPrefs);
+        requireAllNonNull(versionedAddressBook, userPrefs);
 
-        logger.fine(
-            "Initializing with deadline manager: " + addressBook + " and user prefs " + userPrefs);
+        logger.fine("Initializing with deadline manager: " + versionedAddressBook + " and user prefs "
+            + userPrefs);
 
-        versionedAddressBook = new VersionedTaskCollection(addressBook);
-        filteredTasks = new FilteredList<>(versionedAddressBook.getTaskList());
+        this.versionedAddressBook = versionedAddressBook;
+        filteredTasks = new FilteredTaskList(versionedAddressBook.getTaskList());
+        filteredTasks.setParallelThreshold(userPrefs.getParallelFilterThreshold());
+        sortedTasks = new SortedTaskList(filteredTasks);
+        versionedAddressBook.addTaskListListener(change -> unreportedDeltas.addAll(TaskDelta.fromChange(change)));
     }
 
     public ModelManager() {
@@ -58,10 +93,15 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     /**
-     * Raises an event to indicate the model has changed
+     * Raises an event to indicate the model has changed, with a snapshot of the deadline manager that
+     * later changes do not affect. The snapshot carries the changes since the last such event.
      */
     private void indicateAddressBookChanged() {
-        raise(new TaskCollectionChangedEvent(versionedAddressBook));
+        TaskCollectionSnapshot snapshot = new TaskCollectionSnapshot(versionedAddressBook, reportedVersion,
+            reportedVersion + 1, unreportedDeltas);
+        reportedVersion++;
+        unreportedDeltas.clear();
+        raise(new TaskCollectionChangedEvent(snapshot));
     }
 
     @Override
@@ -79,7 +119,6 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void addPerson(Task task) {
         versionedAddressBook.addPerson(task);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         indicateAddressBookChanged();
     }
 
@@ -91,27 +130,99 @@ public class ModelManager extends ComponentManager implements Model {
         indicateAddressBookChanged();
     }
 
+    @Override
+    public void addPersons(List<Task> tasks) {
+        requireNonNull(tasks);
+        versionedAddressBook.addTasks(tasks);
+        indicateAddressBookChanged();
+    }
+
+    @Override
+    public void deletePersons(Collection<Task> targets) {
+        requireNonNull(targets);
+        versionedAddressBook.removeTasks(targets);
+        indicateAddressBookChanged();
+    }
+
+    @Override
+    public void updatePersons(Map<Task, Task> editedTasks) {
+        requireNonNull(editedTasks);
+        versionedAddressBook.updateTasks(editedTasks);
+        indicateAddressBookChanged();
+    }
+
+    /**
+     * {@inheritDoc}
+     * The tasks are either visited in order of deadline through the deadline index until enough of
+     * them pass the filter, which tests about {@code count * n / f} of the n tasks if f of them are in
+     * the filtered list, or picked from the f tasks in the filtered list with a heap of at most
+     * {@code count} tasks, which takes O(f log count) time. The cheaper of the two is used.
+     */
+    @Override
+    public List<Task> getNextDueTasks(int count, boolean isEarliestFirst) {
+        checkArgument(count > 0, "Count must be positive.");
+        long filteredCount = filteredTasks.size();
+        if ((long) count * versionedAddressBook.size() <= filteredCount * filteredCount) {
+            return versionedAddressBook.getTasksInDeadlineOrder(count, isEarliestFirst, filteredTasks.getPredicate());
+        }
+
+        Comparator<Task> byDeadline = isEarliestFirst
+            ? Comparator.comparing(Task::getDeadline)
+            : Comparator.comparing(Task::getDeadline, Comparator.reverseOrder());
+        Comparator<Task> order = byDeadline.thenComparingInt(Task::getId);
+        // the head of the heap is the task that is due last among those found so far
+        int capacity = (int) Math.max(1, Math.min(count, filteredCount));
+        PriorityQueue<Task> nextDue = new PriorityQueue<>(capacity, order.reversed());
+        for (Task task : filteredTasks) {
+            if (nextDue.size() < count) {
+                nextDue.add(task);
+            } else if (order.compare(task, nextDue.peek()) < 0) {
+                nextDue.poll();
+                nextDue.add(task);
+            }
+        }
+        List<Task> found = new ArrayList<>(nextDue);
+        found.sort(order);
+        return found;
+    }
+
+    @Override
+    public TaskStatistics getStatistics() {
+        return versionedAddressBook.getStatistics(LocalDate.now());
+    }
+
     @Override
     public void updateSortedPersonList(Comparator<Task> comparator) {
         requireNonNull(comparator);
-        versionedAddressBook.sort(comparator);
+        sortedTasks.setComparator(comparator);
     }
 
     //=========== Filtered Task List Accessors =============================================================
 
     /**
      * Returns an unmodifiable view of the list of {@code Task} backed by the internal list of
-     * {@code versionedAddressBook}
+     * {@code versionedAddressBook}, in the order set by the last sort
      */
     @Override
     public ObservableList<Task> getFilteredPersonList() {
-        return FXCollections.unmodifiableObservableList(filteredTasks);
+        return FXCollections.unmodifiableObservableList(sortedTasks);
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Task> predicate) {
         requireNonNull(predicate);
-        filteredTasks.setPredicate(predicate);
+        if (predicate instanceof IndexedTaskPredicate) {
+            TaskIdSet candidateIds = ((IndexedTaskPredicate) predicate).getCandidateIds(versionedAddressBook);
+            filteredTasks.setPredicate(predicate, versionedAddressBook.slotsOf(candidateIds));
+        } else {
+            filteredTasks.setPredicate(predicate);
+        }
+    }
+
+    @Override
+    public QueryPlan planQuery(Query query) {
+        requireNonNull(query);
+        return QueryPlanner.plan(query, versionedAddressBook);
     }
 
     //=========== Undo/Redo =================================================================================
@@ -128,13 +239,23 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void undoAddressBook() {
-        versionedAddressBook.undo();
+        undoAddressBook(1);
+    }
+
+    @Override
+    public void undoAddressBook(int steps) {
+        versionedAddressBook.undo(steps);
         indicateAddressBookChanged();
     }
 
     @Override
     public void redoAddressBook() {
-        versionedAddressBook.redo();
+        redoAddressBook(1);
+    }
+
+    @Override
+    public void redoAddressBook(int steps) {
+        versionedAddressBook.redo(steps);
         indicateAddressBookChanged();
     }
 
@@ -158,7 +279,7 @@ public class ModelManager extends ComponentManager implements Model {
         // state check
         ModelManager other = (ModelManager) obj;
         return versionedAddressBook.equals(other.versionedAddressBook)
-            && filteredTasks.equals(other.filteredTasks);
+            && sortedTasks.equals(other.sortedTasks);
     }
 
 }
@@ -0,0 +1,38 @@
+package seedu.address.model;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Keeps the oldest revisions of a {@code VersionedTaskCollection} history out of memory. Revisions
+ * are pushed oldest-last and popped back in the reverse order, when the history is undone that far.
+ */
+public interface RevisionArchive {
+
+    /**
+     * Pushes {@code revision}, the deltas that take one state of the history to the next, onto the
+     * archive.
+     *
+     * @throws IOException if the revision could not be archived.
+     */
+    void push(List<TaskDelta> revision) throws IOException;
+
+    /**
+     * Removes and returns the revision that was pushed last.
+     *
+     * @throws IOException if the revision could not be read back.
+     */
+    List<TaskDelta> pop() throws IOException;
+
+    /**
+     * Returns the number of revisions in the archive.
+     */
+    int size();
+
+    /**
+     * Removes all revisions from the archive.
+     *
+     * @throws IOException if the archive could not be cleared.
+     */
+    void clear() throws IOException;
+}
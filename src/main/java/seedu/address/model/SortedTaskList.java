@@ -0,0 +1,228 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskSortOrder;
+import seedu.address.model.util.PersistentList;
+
+/**
+ * A view of the tasks in a source list, sorted by a comparator, or in the order of the source list
+ * if there is none.
+ * <p>
+ * The source list itself is never reordered. The sorted tasks are kept in a {@code PersistentList},
+ * and every task that is added to, removed from or replaced in the source list is located in it by
+ * binary search, so that each change costs O(log n) time instead of a full sort. Tasks that compare
+ * equal are ordered by their ids, which are unique within the source list.
+ * <p>
+ * If the comparator is a {@code TaskSortOrder}, the sort key of every task is computed once, as it
+ * enters the view, and stored with the task, so that the comparisons only compare the keys.
+ * <p>
+ * The source index of every task in the sorted view is kept in an array, which is rebuilt in O(n)
+ * time on the first lookup after the view or the source list changes.
+ */
+public class SortedTaskList extends TransformationList<Task, Task> {
+
+    /** The order of the view, or null if the view is in the order of the source list. */
+    private Comparator<Entry> order;
+    /** The order whose keys are stored with the tasks, or null if the comparator is not one. */
+    private TaskSortOrder sortOrder;
+    private PersistentList<Entry> sortedEntries = PersistentList.empty();
+    /** The source index of each task in this view, or null if it has to be rebuilt. */
+    private int[] sourceIndexes;
+
+    /**
+     * Creates a view of all the tasks in {@code source}, in the order of {@code source}.
+     */
+    public SortedTaskList(ObservableList<Task> source) {
+        super(source);
+    }
+
+    /**
+     * Sorts this view by {@code comparator}, or puts it back in the order of the source list if
+     * {@code comparator} is null. The reordering is reported as a single permutation.
+     */
+    public void setComparator(Comparator<? super Task> comparator) {
+        List<Task> oldTasks = new ArrayList<>(this);
+        sourceIndexes = null;
+        sortOrder = comparator instanceof TaskSortOrder ? (TaskSortOrder) comparator : null;
+        if (comparator == null) {
+            order = null;
+            sortedEntries = PersistentList.empty();
+        } else {
+            Comparator<Entry> newOrder = sortOrder != null
+                ? (first, second) -> sortOrder.compareKeys(first.key, second.key)
+                : (first, second) -> comparator.compare(first.task, second.task);
+            order = newOrder.thenComparingInt(entry -> entry.task.getId());
+            List<Entry> entries = new ArrayList<>(getSource().size());
+            for (Task task : getTaskSource()) {
+                entries.add(entryOf(task));
+            }
+            entries.sort(order);
+            sortedEntries = PersistentList.of(entries);
+        }
+
+        Map<Integer, Integer> newIndexes = new HashMap<>();
+        for (int i = 0; i < size(); i++) {
+            newIndexes.put(get(i).getId(), i);
+        }
+        int[] permutation = new int[oldTasks.size()];
+        for (int i = 0; i < permutation.length; i++) {
+            permutation[i] = newIndexes.get(oldTasks.get(i).getId());
+        }
+
+        beginChange();
+        if (permutation.length > 0) {
+            nextPermutation(0, permutation.length, permutation);
+        }
+        endChange();
+    }
+
+    private boolean isSorted() {
+        return order != null;
+    }
+
+    private Entry entryOf(Task task) {
+        return new Entry(task, sortOrder == null ? null : sortOrder.keyOf(task));
+    }
+
+    /**
+     * Returns the index of {@code task} in this view, which is sorted.
+     */
+    private int sortedIndexOf(Task task) {
+        return sortedEntries.lowerBound(entryOf(task), order);
+    }
+
+    @Override
+    public Task get(int index) {
+        return isSorted() ? sortedEntries.get(index).task : getTaskSource().get(index);
+    }
+
+    @Override
+    public int size() {
+        return isSorted() ? sortedEntries.size() : getSource().size();
+    }
+
+    @Override
+    public int getSourceIndex(int index) {
+        if (!isSorted()) {
+            return index;
+        }
+        if (sourceIndexes == null) {
+            sourceIndexes = buildSourceIndexes();
+        }
+        return sourceIndexes[index];
+    }
+
+    /**
+     * Returns the source index of each task in this view, which is sorted. Tasks are matched by their
+     * ids, which are unique within the source list.
+     */
+    private int[] buildSourceIndexes() {
+        Map<Integer, Integer> indexesById = new HashMap<>();
+        for (int i = 0; i < getSource().size(); i++) {
+            indexesById.put(getTaskSource().get(i).getId(), i);
+        }
+        int[] indexes = new int[sortedEntries.size()];
+        int i = 0;
+        for (Entry entry : sortedEntries) {
+            indexes[i++] = indexesById.get(entry.task.getId());
+        }
+        return indexes;
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        return isSorted() ? sortedIndexOf(getTaskSource().get(index)) : index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private ObservableList<Task> getTaskSource() {
+        return (ObservableList<Task>) getSource();
+    }
+
+    @Override
+    protected void sourceChanged(ListChangeListener.Change<? extends Task> change) {
+        sourceIndexes = null;
+        beginChange();
+        while (change.next()) {
+            if (isSorted()) {
+                applySorted(change);
+            } else {
+                applyInSourceOrder(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Passes {@code change} through to this view, which is in the order of the source list.
+     */
+    private void applyInSourceOrder(ListChangeListener.Change<? extends Task> change) {
+        if (change.wasPermutated()) {
+            int[] permutation = new int[change.getTo() - change.getFrom()];
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                permutation[i - change.getFrom()] = change.getPermutation(i);
+            }
+            nextPermutation(change.getFrom(), change.getTo(), permutation);
+        } else if (change.wasUpdated()) {
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                nextUpdate(i);
+            }
+        } else {
+            if (change.wasRemoved()) {
+                nextRemove(change.getFrom(), change.getRemoved());
+            }
+            if (change.wasAdded()) {
+                nextAdd(change.getFrom(), change.getTo());
+            }
+        }
+    }
+
+    /**
+     * Applies {@code change} to this view, which is sorted. Reordering the source list leaves this
+     * view unchanged, and every task removed or added is located by binary search.
+     */
+    private void applySorted(ListChangeListener.Change<? extends Task> change) {
+        if (change.wasPermutated()) {
+            return;
+        }
+        if (change.wasUpdated()) {
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                nextUpdate(sortedIndexOf(getTaskSource().get(i)));
+            }
+            return;
+        }
+        for (Task removedTask : change.getRemoved()) {
+            int index = sortedIndexOf(removedTask);
+            sortedEntries = sortedEntries.remove(index);
+            nextRemove(index, removedTask);
+        }
+        for (Task addedTask : change.getAddedSubList()) {
+            Entry entry = entryOf(addedTask);
+            int index = sortedEntries.lowerBound(entry, order);
+            sortedEntries = sortedEntries.add(index, entry);
+            nextAdd(index, index + 1);
+        }
+    }
+
+    /**
+     * A task in this view, with its sort key if the view is sorted by a {@code TaskSortOrder}.
+     */
+    private static class Entry {
+        private final Task task;
+        private final TaskSortOrder.SortKey key;
+
+        private Entry(Task task, TaskSortOrder.SortKey key) {
+            this.task = task;
+            this.key = key;
+        }
+    }
+}
@@ -2,23 +2,76 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Deadline;
+import seedu.address.model.task.DeadlineIndex;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Priority;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdSet;
+import seedu.address.model.task.TaskInvertedIndex;
+import seedu.address.model.task.TaskPositionIndex;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
+import seedu.address.model.util.BatchObservableList;
+import seedu.address.model.util.PersistentList;
 
 /**
  * Wraps all data at the address-book level Duplicates are not allowed (by .isSameTask comparison)
+ * <p>
+ * Tasks are located by their id through an id-to-slot map, where a slot is the position of the task
+ * in the task list, so that two tasks with the same details are still treated as different tasks.
+ * Ids are kept unique within a collection: a task whose id is already taken is given a new id.
+ * <p>
+ * Secondary indexes from task attributes to task ids are kept in step with the task list, so that
+ * filters can look up the tasks they may match instead of testing every task.
+ * <p>
+ * A {@code PersistentList} snapshot of the task list is kept in step with every change, so that a
+ * copy of the current state can be taken in O(1) and shares its structure with earlier copies.
  */
 public class TaskCollection implements ReadOnlyTaskCollection {
 
-    private final ObservableList<Task> tasks;
+    private final BatchObservableList<Task> tasks;
+    private final TaskPositionIndex<Task> taskIndex;
+    private final TaskPositionIndex<Integer> taskSlots;
+    private final DeadlineIndex deadlineIndex;
+    private final TaskInvertedIndex<Tag> tagIndex;
+    private final TaskInvertedIndex<String> nameTrigramIndex;
+    private final TaskInvertedIndex<String> nameWordIndex;
+    private final TaskInvertedIndex<Priority> priorityIndex;
+
+    private PersistentList<Task> snapshot = PersistentList.empty();
 
     public TaskCollection() {
-        tasks = FXCollections.observableArrayList();
+        tasks = new BatchObservableList<>();
+        taskIndex = new TaskPositionIndex<>(tasks, Function.identity());
+        taskSlots = new TaskPositionIndex<>(tasks, Task::getId);
+        deadlineIndex = new DeadlineIndex(tasks);
+        tagIndex = new TaskInvertedIndex<>(tasks, Task::getTags);
+        nameTrigramIndex = new TaskInvertedIndex<>(tasks, task -> Name.trigramsOf(task.getName().value));
+        nameWordIndex = new TaskInvertedIndex<>(tasks, task -> Name.wordsOf(task.getName().value));
+        priorityIndex = new TaskInvertedIndex<>(tasks, task -> Collections.singleton(task.getPriority()));
+        tasks.addListener(this::updateSnapshot);
+        tasks.addListener(this::reserveAddedIds);
     }
 
     /**
@@ -36,7 +89,14 @@ public class TaskCollection implements ReadOnlyTaskCollection {
      * duplicate tasks.
      */
     public void setTasks(List<Task> tasks) {
-        this.tasks.setAll(tasks);
+        Set<Integer> taskIds = new HashSet<>();
+        List<Task> tasksWithUniqueIds = new ArrayList<>(tasks.size());
+        for (Task task : tasks) {
+            Task taskWithUniqueId = taskIds.contains(task.getId()) ? task.withNewId() : task;
+            taskIds.add(taskWithUniqueId.getId());
+            tasksWithUniqueIds.add(taskWithUniqueId);
+        }
+        this.tasks.setAll(tasksWithUniqueIds);
     }
 
     /**
@@ -55,14 +115,14 @@ public class TaskCollection implements ReadOnlyTaskCollection {
      */
     public boolean hasTask(Task task) {
         requireNonNull(task);
-        return tasks.contains(task);
+        return taskIndex.contains(task);
     }
 
     /**
      * Adds a task to the deadline manager. The task must not already exist in the deadline manager.
      */
     public void addPerson(Task task) {
-        tasks.add(task);
+        tasks.add(taskSlots.contains(task.getId()) ? task.withNewId() : task);
     }
 
     /**
@@ -73,12 +133,13 @@ public class TaskCollection implements ReadOnlyTaskCollection {
     public void updateTask(Task target, Task editedTask) {
         requireNonNull(editedTask);
 
-        int index = tasks.indexOf(target);
-        if (index == -1) {
+        int slot = slotOf(target);
+        if (slot == -1) {
             throw new TaskNotFoundException();
         }
 
-        tasks.set(index, editedTask);
+        int editedTaskSlot = taskSlots.indexOf(editedTask.getId());
+        tasks.set(slot, editedTaskSlot == -1 || editedTaskSlot == slot ? editedTask : editedTask.withNewId());
     }
 
     /**
@@ -86,14 +147,248 @@ public class TaskCollection implements ReadOnlyTaskCollection {
      * book.
      */
     public void removeTask(Task key) {
-        tasks.remove(key);
+        int slot = slotOf(key);
+        if (slot != -1) {
+            tasks.remove(slot);
+        }
+    }
+
+    /**
+     * Adds {@code newTasks} to the deadline manager as a single change of the task list. A task whose
+     * id is already taken, by an existing task or an earlier task in {@code newTasks}, is given a new
+     * id.
+     */
+    public void addTasks(List<Task> newTasks) {
+        requireNonNull(newTasks);
+        Set<Integer> addedIds = new HashSet<>();
+        List<Task> tasksWithUniqueIds = new ArrayList<>(newTasks.size());
+        for (Task task : newTasks) {
+            boolean isIdTaken = taskSlots.contains(task.getId()) || addedIds.contains(task.getId());
+            Task taskWithUniqueId = isIdTaken ? task.withNewId() : task;
+            addedIds.add(taskWithUniqueId.getId());
+            tasksWithUniqueIds.add(taskWithUniqueId);
+        }
+        tasks.addAll(tasksWithUniqueIds);
+    }
+
+    /**
+     * Replaces each task that is a key of {@code editedTasks} with the task it maps to, as a single
+     * change of the task list. Every key must exist in the deadline manager; if one does not, no task
+     * is replaced. An edited task whose id is taken by another task is given a new id.
+     */
+    public void updateTasks(Map<Task, Task> editedTasks) {
+        requireNonNull(editedTasks);
+        int[] slots = new int[editedTasks.size()];
+        List<Task> replacements = new ArrayList<>(editedTasks.size());
+        Set<Integer> editedIds = new HashSet<>();
+        for (Map.Entry<Task, Task> entry : editedTasks.entrySet()) {
+            int slot = slotOf(entry.getKey());
+            if (slot == -1) {
+                throw new TaskNotFoundException();
+            }
+            Task editedTask = requireNonNull(entry.getValue());
+            int editedTaskSlot = taskSlots.indexOf(editedTask.getId());
+            boolean isIdTaken = (editedTaskSlot != -1 && editedTaskSlot != slot)
+                || editedIds.contains(editedTask.getId());
+            Task replacement = isIdTaken ? editedTask.withNewId() : editedTask;
+            editedIds.add(replacement.getId());
+            slots[replacements.size()] = slot;
+            replacements.add(replacement);
+        }
+
+        tasks.applyAsOneChange(() -> {
+            for (int i = 0; i < slots.length; i++) {
+                tasks.set(slots[i], replacements.get(i));
+            }
+        });
+    }
+
+    /**
+     * Removes {@code keys} from this {@code TaskCollection} as a single change of the task list, in
+     * O(n) time. Keys that are not in this collection are ignored.
+     */
+    public void removeTasks(Collection<Task> keys) {
+        requireNonNull(keys);
+        BitSet slots = new BitSet();
+        for (Task key : keys) {
+            int slot = slotOf(key);
+            if (slot != -1) {
+                slots.set(slot);
+            }
+        }
+        tasks.removeAt(slots);
+    }
+
+    /**
+     * Returns the slot of {@code task} in the task list, or -1 if it is not in this collection.
+     * The task is located by its id, falling back to the first equal task for a task whose id is
+     * unknown to this collection.
+     */
+    private int slotOf(Task task) {
+        requireNonNull(task);
+        int slot = taskSlots.indexOf(task.getId());
+        return slot != -1 ? slot : taskIndex.indexOf(task);
+    }
+
+    /**
+     * Returns the slots of the tasks with the given {@code taskIds}, in ascending order. Ids of tasks
+     * that are not in this collection are ignored.
+     */
+    public int[] slotsOf(TaskIdSet taskIds) {
+        requireNonNull(taskIds);
+        int[] slots = new int[taskIds.size()];
+        int slotCount = 0;
+        for (int id : taskIds.toArray()) {
+            int slot = taskSlots.indexOf(id);
+            if (slot != -1) {
+                slots[slotCount++] = slot;
+            }
+        }
+        slots = Arrays.copyOf(slots, slotCount);
+        Arrays.sort(slots);
+        return slots;
     }
 
     /**
-     * Sorts the ObservableList by custom comparator
+     * Returns up to {@code count} tasks that satisfy {@code predicate}, in order of deadline from the
+     * earliest, or from the latest if {@code isEarliestFirst} is false. Tasks due at the same time
+     * are in order of id. The tasks are visited in order through the deadline index, so only the
+     * tasks due no later than the last task returned are tested.
      */
-    public void sort(Comparator<Task> comparator) {
-        FXCollections.sort(tasks, comparator);
+    public List<Task> getTasksInDeadlineOrder(int count, boolean isEarliestFirst, Predicate<? super Task> predicate) {
+        requireNonNull(predicate);
+        List<Task> found = new ArrayList<>(Math.min(count, tasks.size()));
+        for (Set<Integer> taskIds : deadlineIndex.getTaskIdsByDeadline(isEarliestFirst)) {
+            if (found.size() >= count) {
+                break;
+            }
+            List<Task> dueTogether = new ArrayList<>();
+            for (int taskId : taskIds) {
+                Task task = tasks.get(taskSlots.indexOf(taskId));
+                if (predicate.test(task)) {
+                    dueTogether.add(task);
+                }
+            }
+            dueTogether.sort(Comparator.comparingInt(Task::getId));
+            found.addAll(dueTogether.subList(0, Math.min(dueTogether.size(), count - found.size())));
+        }
+        return found;
+    }
+
+    public DeadlineIndex getDeadlineIndex() {
+        return deadlineIndex;
+    }
+
+    public TaskInvertedIndex<Tag> getTagIndex() {
+        return tagIndex;
+    }
+
+    public TaskInvertedIndex<String> getNameTrigramIndex() {
+        return nameTrigramIndex;
+    }
+
+    public TaskInvertedIndex<String> getNameWordIndex() {
+        return nameWordIndex;
+    }
+
+    public TaskInvertedIndex<Priority> getPriorityIndex() {
+        return priorityIndex;
+    }
+
+    /**
+     * Returns the number of tasks by priority, by tag and by how soon they are due as of
+     * {@code today}. The counts by priority and tag are kept by the indexes as tasks are added and
+     * removed, and the tasks due in each period are counted per deadline, so that this takes time in
+     * proportion to the number of distinct priorities, tags and deadlines rather than of tasks.
+     */
+    public TaskStatistics getStatistics(LocalDate today) {
+        requireNonNull(today);
+        Map<String, Integer> priorityCounts = new HashMap<>();
+        for (Priority priority : priorityIndex.getKeys()) {
+            priorityCounts.put(priority.value, priorityIndex.getTaskCount(priority));
+        }
+        Map<String, Integer> tagCounts = new HashMap<>();
+        for (Tag tag : tagIndex.getKeys()) {
+            tagCounts.put(tag.tagName, tagIndex.getTaskCount(tag));
+        }
+
+        Deadline startOfToday = startOfDay(today);
+        Deadline startOfTomorrow = startOfDay(today.plusDays(1));
+        Deadline endOfWeek = startOfDay(today.plusDays(8));
+        return new TaskStatistics(size(), priorityCounts, tagCounts,
+            deadlineIndex.getTaskCountInRange(null, startOfToday),
+            deadlineIndex.getTaskCountInRange(startOfToday, startOfTomorrow),
+            deadlineIndex.getTaskCountInRange(startOfTomorrow, endOfWeek),
+            deadlineIndex.getTaskCountInRange(endOfWeek, null));
+    }
+
+    private static Deadline startOfDay(LocalDate date) {
+        return new Deadline(Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+    }
+
+    /**
+     * Returns the number of tasks in this collection.
+     */
+    public int size() {
+        return tasks.size();
+    }
+
+    //// snapshot and change tracking
+
+    /**
+     * Returns an immutable snapshot of the task list. Takes O(1) time.
+     */
+    public PersistentList<Task> getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * Replaces the tasks from {@code fromIndex} (inclusive) to {@code toIndex} (exclusive) with
+     * {@code replacement}. Replacing one task with another is a single set, so that listeners of the
+     * task list see that slot change only.
+     */
+    void replaceTasks(int fromIndex, int toIndex, List<Task> replacement) {
+        if (toIndex - fromIndex == 1 && replacement.size() == 1) {
+            tasks.set(fromIndex, replacement.get(0));
+            return;
+        }
+        if (toIndex > fromIndex) {
+            tasks.remove(fromIndex, toIndex);
+        }
+        if (!replacement.isEmpty()) {
+            tasks.addAll(fromIndex, replacement);
+        }
+    }
+
+    /**
+     * Adds a listener that is notified of every change to the task list.
+     */
+    void addTaskListListener(ListChangeListener<Task> listener) {
+        tasks.addListener(listener);
+    }
+
+    /**
+     * Applies {@code change} of the task list to the snapshot. Each sub-change costs O(log n + k)
+     * time, where k is the number of tasks it adds.
+     */
+    private void updateSnapshot(ListChangeListener.Change<? extends Task> change) {
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            int replacedTo = change.wasPermutated() || change.wasUpdated() ? to : from + change.getRemovedSize();
+            snapshot = snapshot.replace(from, replacedTo, tasks.subList(from, to));
+        }
+    }
+
+    /**
+     * Moves the counter of new task ids past the ids of the tasks added by {@code change}.
+     */
+    private void reserveAddedIds(ListChangeListener.Change<? extends Task> change) {
+        while (change.next()) {
+            if (change.wasAdded()) {
+                change.getAddedSubList().forEach(task -> Task.reserveId(task.getId()));
+            }
+        }
     }
 
     //// util methods
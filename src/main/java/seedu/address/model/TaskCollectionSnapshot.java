@@ -0,0 +1,104 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.task.Task;
+import seedu.address.model.util.PersistentList;
+
+/**
+ * The tasks of a deadline manager at one point in time, which can be read from any thread while the
+ * deadline manager keeps changing.
+ * <p>
+ * Each snapshot is numbered with the version of the deadline manager it holds, and carries the deltas
+ * that take the tasks of an earlier version, its base version, to its own tasks. Storage that already
+ * holds the base version can then save the snapshot by saving only its deltas.
+ * Guarantees: immutable.
+ */
+public class TaskCollectionSnapshot implements ReadOnlyTaskCollection {
+
+    /** The version of a deadline manager as it was loaded, before any change. */
+    public static final long INITIAL_VERSION = 0;
+
+    private final PersistentList<Task> tasks;
+    private final long baseVersion;
+    private final long version;
+    private final List<TaskDelta> deltas;
+
+    /**
+     * Takes a snapshot of {@code taskCollection}, which {@code deltas} take from {@code baseVersion} to
+     * {@code version}, in time proportional to the number of deltas.
+     */
+    public TaskCollectionSnapshot(TaskCollection taskCollection, long baseVersion, long version,
+                                  List<TaskDelta> deltas) {
+        this(requireNonNull(taskCollection).getSnapshot(), baseVersion, version, new ArrayList<>(deltas));
+    }
+
+    private TaskCollectionSnapshot(PersistentList<Task> tasks, long baseVersion, long version,
+                                   List<TaskDelta> deltas) {
+        checkArgument(baseVersion <= version);
+        this.tasks = tasks;
+        this.baseVersion = baseVersion;
+        this.version = version;
+        this.deltas = Collections.unmodifiableList(deltas);
+    }
+
+    /**
+     * Returns this snapshot with the deltas of {@code earlier} in front of its own, so that it is based
+     * on the base version of {@code earlier}. {@code earlier} must be a snapshot of this snapshot's base
+     * version.
+     */
+    public TaskCollectionSnapshot basedOn(TaskCollectionSnapshot earlier) {
+        checkArgument(earlier.version == baseVersion);
+        List<TaskDelta> combinedDeltas = new ArrayList<>(earlier.deltas);
+        combinedDeltas.addAll(deltas);
+        return new TaskCollectionSnapshot(tasks, earlier.baseVersion, version, combinedDeltas);
+    }
+
+    public long getBaseVersion() {
+        return baseVersion;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Returns the deltas that take the tasks of the base version to the tasks of this snapshot, in the
+     * order they must be applied.
+     */
+    public List<TaskDelta> getDeltas() {
+        return deltas;
+    }
+
+    @Override
+    public ObservableList<Task> getTaskList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(tasks.toList()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof TaskCollectionSnapshot // instanceof handles nulls
+            && tasks.equals(((TaskCollectionSnapshot) other).tasks)
+            && baseVersion == ((TaskCollectionSnapshot) other).baseVersion
+            && version == ((TaskCollectionSnapshot) other).version
+            && deltas.equals(((TaskCollectionSnapshot) other).deltas));
+    }
+
+    @Override
+    public int hashCode() {
+        return tasks.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "version " + version + " with " + tasks.size() + " tasks";
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ListChangeListener;
+import seedu.address.model.task.Task;
+
+/**
+ * A change to a task list that replaces the tasks starting at a slot with other tasks. Adding,
+ * removing and setting the task at a slot are all such replacements.
+ * <p>
+ * A delta records the tasks it removes as well as those it adds, so that it can be reverted by
+ * applying its {@link #inverse()}.
+ */
+public final class TaskDelta {
+
+    private final int slot;
+    private final List<Task> removed;
+    private final List<Task> added;
+
+    /**
+     * Creates a delta that replaces {@code removed}, found at {@code slot}, with {@code added}.
+     */
+    public TaskDelta(int slot, List<Task> removed, List<Task> added) {
+        requireNonNull(removed);
+        requireNonNull(added);
+        this.slot = slot;
+        this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+    }
+
+    /**
+     * Returns the deltas that make up {@code change}, in the order they must be applied.
+     */
+    public static List<TaskDelta> fromChange(ListChangeListener.Change<? extends Task> change) {
+        List<TaskDelta> deltas = new ArrayList<>();
+        while (change.next()) {
+            int from = change.getFrom();
+            int to = change.getTo();
+            List<Task> added = new ArrayList<>(change.getList().subList(from, to));
+            if (change.wasPermutated()) {
+                List<Task> removed = new ArrayList<>();
+                for (int i = from; i < to; i++) {
+                    removed.add(change.getList().get(change.getPermutation(i)));
+                }
+                deltas.add(new TaskDelta(from, removed, added));
+            } else if (!change.wasUpdated()) {
+                deltas.add(new TaskDelta(from, new ArrayList<>(change.getRemoved()), added));
+            }
+        }
+        change.reset();
+        return deltas;
+    }
+
+    public int getSlot() {
+        return slot;
+    }
+
+    public List<Task> getRemoved() {
+        return removed;
+    }
+
+    public List<Task> getAdded() {
+        return added;
+    }
+
+    /**
+     * Returns the delta that reverts this delta.
+     */
+    public TaskDelta inverse() {
+        return new TaskDelta(slot, added, removed);
+    }
+
+    /**
+     * Applies this delta to {@code taskCollection}, which must hold the removed tasks at the slot.
+     */
+    public void applyTo(TaskCollection taskCollection) {
+        taskCollection.replaceTasks(slot, slot + removed.size(), added);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TaskDelta)) {
+            return false;
+        }
+
+        TaskDelta otherDelta = (TaskDelta) other;
+        return slot == otherDelta.slot
+            && removed.equals(otherDelta.removed)
+            && added.equals(otherDelta.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(slot, removed, added);
+    }
+
+    @Override
+    public String toString() {
+        return "at " + slot + ": " + removed + " -> " + added;
+    }
+}
@@ -0,0 +1,115 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * The number of tasks in a {@code TaskCollection} by priority, by tag and by how soon they are due.
+ * Guarantees: immutable.
+ */
+public class TaskStatistics {
+
+    private final int taskCount;
+    private final SortedMap<String, Integer> priorityCounts;
+    private final SortedMap<String, Integer> tagCounts;
+    private final int overdueCount;
+    private final int dueTodayCount;
+    private final int dueThisWeekCount;
+    private final int dueLaterCount;
+
+    /**
+     * Every field must be present and not null. {@code priorityCounts} and {@code tagCounts} are keyed
+     * by priority value and tag name; tasks due this week are those due in the 7 days after today.
+     */
+    public TaskStatistics(int taskCount, Map<String, Integer> priorityCounts, Map<String, Integer> tagCounts,
+                          int overdueCount, int dueTodayCount, int dueThisWeekCount, int dueLaterCount) {
+        requireAllNonNull(priorityCounts, tagCounts);
+        this.taskCount = taskCount;
+        this.priorityCounts = Collections.unmodifiableSortedMap(new TreeMap<>(priorityCounts));
+        this.tagCounts = Collections.unmodifiableSortedMap(new TreeMap<>(tagCounts));
+        this.overdueCount = overdueCount;
+        this.dueTodayCount = dueTodayCount;
+        this.dueThisWeekCount = dueThisWeekCount;
+        this.dueLaterCount = dueLaterCount;
+    }
+
+    public int getTaskCount() {
+        return taskCount;
+    }
+
+    public SortedMap<String, Integer> getPriorityCounts() {
+        return priorityCounts;
+    }
+
+    public SortedMap<String, Integer> getTagCounts() {
+        return tagCounts;
+    }
+
+    public int getOverdueCount() {
+        return overdueCount;
+    }
+
+    public int getDueTodayCount() {
+        return dueTodayCount;
+    }
+
+    public int getDueThisWeekCount() {
+        return dueThisWeekCount;
+    }
+
+    public int getDueLaterCount() {
+        return dueLaterCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TaskStatistics)) {
+            return false;
+        }
+
+        TaskStatistics otherStatistics = (TaskStatistics) other;
+        return taskCount == otherStatistics.taskCount
+            && priorityCounts.equals(otherStatistics.priorityCounts)
+            && tagCounts.equals(otherStatistics.tagCounts)
+            && overdueCount == otherStatistics.overdueCount
+            && dueTodayCount == otherStatistics.dueTodayCount
+            && dueThisWeekCount == otherStatistics.dueThisWeekCount
+            && dueLaterCount == otherStatistics.dueLaterCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(taskCount, priorityCounts, tagCounts, overdueCount, dueTodayCount, dueThisWeekCount,
+            dueLaterCount);
+    }
+
+    @Override
+    public String toString() {
+        return "By priority: " + format(priorityCounts)
+            + "\nBy tag: " + format(tagCounts)
+            + "\nBy deadline: overdue " + overdueCount + ", today " + dueTodayCount + ", this week "
+            + dueThisWeekCount + ", later " + dueLaterCount;
+    }
+
+    /**
+     * Returns {@code counts} as a comma-separated list of keys, each followed by its count.
+     */
+    private static String format(SortedMap<String, Integer> counts) {
+        if (counts.isEmpty()) {
+            return "none";
+        }
+        return counts.entrySet().stream()
+            .map(entry -> entry.getKey() + " (" + entry.getValue() + ")")
+            .collect(Collectors.joining(", "));
+    }
+}
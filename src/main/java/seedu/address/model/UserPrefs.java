@@ -5,14 +5,22 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.StorageFormat;
 
 /**
  * Represents User's preferences.
  */
 public class UserPrefs {
 
+    public static final int DEFAULT_UNDO_HISTORY_LIMIT = 50;
+    public static final int DEFAULT_PARALLEL_FILTER_THRESHOLD = 20000;
+
     private GuiSettings guiSettings;
     private Path addressBookFilePath = Paths.get("data", "addressbook.xml");
+    private StorageFormat storageFormat = StorageFormat.XML;
+    private int undoHistoryLimit = DEFAULT_UNDO_HISTORY_LIMIT;
+    private Path undoHistoryFilePath = Paths.get("data", "undohistory.dat");
+    private int parallelFilterThreshold = DEFAULT_PARALLEL_FILTER_THRESHOLD;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -38,6 +46,46 @@ public class UserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public StorageFormat getStorageFormat() {
+        return storageFormat;
+    }
+
+    public void setStorageFormat(StorageFormat storageFormat) {
+        this.storageFormat = storageFormat;
+    }
+
+    /**
+     * Returns the number of undoable states kept in memory, which must be positive. Older states are kept
+     * in the file at {@link #getUndoHistoryFilePath()}.
+     */
+    public int getUndoHistoryLimit() {
+        return undoHistoryLimit;
+    }
+
+    public void setUndoHistoryLimit(int undoHistoryLimit) {
+        this.undoHistoryLimit = undoHistoryLimit;
+    }
+
+    public Path getUndoHistoryFilePath() {
+        return undoHistoryFilePath;
+    }
+
+    public void setUndoHistoryFilePath(Path undoHistoryFilePath) {
+        this.undoHistoryFilePath = undoHistoryFilePath;
+    }
+
+    /**
+     * Returns the number of tasks to test against a filter from which they are tested in parallel,
+     * which must be positive.
+     */
+    public int getParallelFilterThreshold() {
+        return parallelFilterThreshold;
+    }
+
+    public void setParallelFilterThreshold(int parallelFilterThreshold) {
+        this.parallelFilterThreshold = parallelFilterThreshold;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +98,17 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-            && Objects.equals(addressBookFilePath, o.addressBookFilePath);
+            && Objects.equals(addressBookFilePath, o.addressBookFilePath)
+            && storageFormat == o.storageFormat
+            && undoHistoryLimit == o.undoHistoryLimit
+            && Objects.equals(undoHistoryFilePath, o.undoHistoryFilePath)
+            && parallelFilterThreshold == o.parallelFilterThreshold;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, storageFormat, undoHistoryLimit, undoHistoryFilePath,
+            parallelFilterThreshold);
     }
 
     @Override
@@ -63,6 +116,10 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + storageFormat);
+        sb.append("\nUndo history limit : " + undoHistoryLimit);
+        sb.append("\nUndo history file location : " + undoHistoryFilePath);
+        sb.append("\nParallel filter threshold : " + parallelFilterThreshold);
         return sb.toString();
     }
 
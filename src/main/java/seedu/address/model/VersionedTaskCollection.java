@@ -1,72 +1,229 @@
 package seedu.address.model;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
 
 /**
  * {@code TaskCollection} that keeps track of its own history.
+ * <p>
+ * The history is kept as the {@code TaskDelta}s between consecutive states rather than as copies of
+ * the states, so that a commit keeps only what changed since the last state. Undo and redo replay
+ * these deltas, so that they only touch the tasks that changed, and their cost is in proportion to
+ * the changes rather than to the number of tasks.
+ * <p>
+ * At most {@code historyLimit} undoable revisions are kept in memory. Older revisions are pushed to a
+ * {@code RevisionArchive}, from which they are popped back only when the history is undone that far.
  */
 public class VersionedTaskCollection extends TaskCollection {
 
-    private final List<ReadOnlyTaskCollection> addressBookStateList;
+    private static final Logger logger = LogsCenter.getLogger(VersionedTaskCollection.class);
+
+    /** Deltas that take each state from state number {@code firstStatePointer} on to the next. */
+    private final List<List<TaskDelta>> revisionList;
+    /** Deltas made since the current state. */
+    private final List<TaskDelta> pendingDeltas;
+    private final int historyLimit;
+    private final RevisionArchive revisionArchive;
+    /** The first state whose revision is in memory rather than in the archive. */
+    private int firstStatePointer;
+    /** The earliest state that can still be restored. */
+    private int oldestStatePointer;
     private int currentStatePointer;
+    private boolean isReplaying;
 
+    /**
+     * Creates a {@code VersionedTaskCollection} that keeps its whole history in memory.
+     */
     public VersionedTaskCollection(ReadOnlyTaskCollection initialState) {
+        this(initialState, Integer.MAX_VALUE, null);
+    }
+
+    /**
+     * Creates a {@code VersionedTaskCollection} that keeps at most {@code historyLimit} undoable
+     * states in memory and archives the older ones in {@code revisionArchive}.
+     */
+    public VersionedTaskCollection(ReadOnlyTaskCollection initialState, int historyLimit,
+                                   RevisionArchive revisionArchive) {
         super(initialState);
+        checkArgument(historyLimit > 0);
+        checkArgument(historyLimit == Integer.MAX_VALUE || revisionArchive != null);
 
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new TaskCollection(initialState));
+        revisionList = new ArrayList<>();
+        pendingDeltas = new ArrayList<>();
+        this.historyLimit = historyLimit;
+        this.revisionArchive = revisionArchive;
+        firstStatePointer = 0;
+        oldestStatePointer = 0;
         currentStatePointer = 0;
+        addTaskListListener(change -> {
+            if (!isReplaying) {
+                pendingDeltas.addAll(TaskDelta.fromChange(change));
+            }
+        });
     }
 
     /**
-     * Saves a copy of the current {@code TaskCollection} state at the end of the state list. Undone
-     * states are removed from the state list.
+     * Records the changes made since the last commit as a new state at the end of the history.
+     * Undone states are removed from the history.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new TaskCollection(this));
+        revisionList.add(new ArrayList<>(pendingDeltas));
+        pendingDeltas.clear();
         currentStatePointer++;
+        while (revisionList.size() > historyLimit) {
+            archiveFirstRevision();
+        }
     }
 
     private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+        revisionList.subList(currentStatePointer - firstStatePointer, revisionList.size()).clear();
+    }
+
+    /**
+     * Moves the first revision in memory to the archive. If the revision cannot be archived, the
+     * archive is cleared and the states before the new first state can no longer be restored.
+     */
+    private void archiveFirstRevision() {
+        List<TaskDelta> revision = revisionList.remove(0);
+        firstStatePointer++;
+        try {
+            revisionArchive.push(revision);
+        } catch (IOException ioe) {
+            logger.warning("Could not archive undo history, older states are discarded: " + ioe);
+            discardArchive();
+        }
+    }
+
+    /**
+     * Pops the last archived revision back into memory.
+     *
+     * @return false if the revision could not be read back.
+     */
+    private boolean restoreArchivedRevision() {
+        try {
+            revisionList.add(0, revisionArchive.pop());
+            return true;
+        } catch (IOException ioe) {
+            logger.warning("Could not read archived undo history, older states are discarded: " + ioe);
+            discardArchive();
+            return false;
+        }
+    }
+
+    /**
+     * Clears the archive, so that the states before the first state in memory can no longer be
+     * restored.
+     */
+    private void discardArchive() {
+        oldestStatePointer = firstStatePointer;
+        try {
+            revisionArchive.clear();
+        } catch (IOException ioe) {
+            logger.warning("Could not clear archived undo history: " + ioe);
+        }
     }
 
     /**
      * Restores the deadline manager to its previous state.
      */
     public void undo() {
+        undo(1);
+    }
+
+    /**
+     * Restores the deadline manager to its state {@code steps} states before the current one, or to
+     * its first state if there are fewer.
+     */
+    public void undo(int steps) {
+        checkArgument(steps > 0);
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        int targetStatePointer = Math.max(oldestStatePointer, currentStatePointer - steps);
+        replay(() -> {
+            while (currentStatePointer > targetStatePointer) {
+                boolean isArchived = currentStatePointer == firstStatePointer;
+                if (isArchived && !restoreArchivedRevision()) {
+                    return;
+                }
+                if (isArchived) {
+                    firstStatePointer--;
+                }
+                currentStatePointer--;
+                revert(revisionList.get(currentStatePointer - firstStatePointer));
+            }
+        });
     }
 
     /**
      * Restores the deadline manager to its previously undone state.
      */
     public void redo() {
+        redo(1);
+    }
+
+    /**
+     * Restores the deadline manager to its state {@code steps} states after the current one, or to
+     * its last undone state if there are fewer.
+     */
+    public void redo(int steps) {
+        checkArgument(steps > 0);
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+        int lastStatePointer = firstStatePointer + revisionList.size();
+        int targetStatePointer = Math.min(lastStatePointer, currentStatePointer + steps);
+        replay(() -> {
+            while (currentStatePointer < targetStatePointer) {
+                revisionList.get(currentStatePointer - firstStatePointer).forEach(delta -> delta.applyTo(this));
+                currentStatePointer++;
+            }
+        });
+    }
+
+    /**
+     * Discards the changes made since the current state, then runs {@code moveToState} without
+     * recording the changes it makes.
+     */
+    private void replay(Runnable moveToState) {
+        isReplaying = true;
+        try {
+            revert(pendingDeltas);
+            pendingDeltas.clear();
+            moveToState.run();
+        } finally {
+            isReplaying = false;
+        }
+    }
+
+    /**
+     * Reverts {@code deltas} by applying their inverses in reverse order.
+     */
+    private void revert(List<TaskDelta> deltas) {
+        for (int i = deltas.size() - 1; i >= 0; i--) {
+            deltas.get(i).inverse().applyTo(this);
+        }
     }
 
     /**
      * Returns true if {@code undo()} has deadline manager states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return currentStatePointer > oldestStatePointer;
     }
 
     /**
      * Returns true if {@code redo()} has deadline manager states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        return currentStatePointer < firstStatePointer + revisionList.size();
     }
 
     @Override
@@ -85,10 +242,25 @@ public class VersionedTaskCollection extends TaskCollection {
 
         // state check
         return super.equals(otherVersionedAddressBook)
-            && addressBookStateList.equals(otherVersionedAddressBook.addressBookStateList)
+            && effectiveRevisions().equals(otherVersionedAddressBook.effectiveRevisions())
+            && firstStatePointer == otherVersionedAddressBook.firstStatePointer
             && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
     }
 
+    /**
+     * Returns the revisions in memory without the deltas that put back tasks equal to those they
+     * remove, so that two histories that pass through equal states are equal.
+     */
+    private List<List<TaskDelta>> effectiveRevisions() {
+        List<List<TaskDelta>> effectiveRevisions = new ArrayList<>();
+        for (List<TaskDelta> revision : revisionList) {
+            List<TaskDelta> effectiveRevision = new ArrayList<>(revision);
+            effectiveRevision.removeIf(delta -> delta.getRemoved().equals(delta.getAdded()));
+            effectiveRevisions.add(effectiveRevision);
+        }
+        return effectiveRevisions;
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
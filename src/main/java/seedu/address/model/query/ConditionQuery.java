@@ -0,0 +1,78 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.task.FilterOperator;
+import seedu.address.model.task.IndexedTaskPredicate;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.exceptions.InvalidPredicateException;
+
+/**
+ * A leaf of a filter query, which compares a field of a task with a literal by an operator, such as
+ * {@code due<1/10/2018}.
+ */
+public class ConditionQuery implements Query {
+
+    private final QueryField field;
+    private final FilterOperator operator;
+    private final String literal;
+    private final IndexedTaskPredicate predicate;
+
+    /**
+     * Constructs a condition from the given field, operator and literal.
+     *
+     * @throws InvalidPredicateException if the operator or the literal is not valid for the field.
+     */
+    public ConditionQuery(QueryField field, FilterOperator operator, String literal)
+            throws InvalidPredicateException {
+        requireNonNull(field);
+        requireNonNull(operator);
+        requireNonNull(literal);
+        this.field = field;
+        this.operator = operator;
+        this.literal = literal;
+        this.predicate = field.makeFilter(operator, literal);
+    }
+
+    public QueryField getField() {
+        return field;
+    }
+
+    public FilterOperator getOperator() {
+        return operator;
+    }
+
+    public String getLiteral() {
+        return literal;
+    }
+
+    public IndexedTaskPredicate getPredicate() {
+        return predicate;
+    }
+
+    @Override
+    public boolean test(Task task) {
+        return predicate.test(task);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof ConditionQuery // instanceof handles nulls
+            && field == ((ConditionQuery) other).field
+            && operator == ((ConditionQuery) other).operator
+            && literal.equals(((ConditionQuery) other).literal)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, operator, literal);
+    }
+
+    @Override
+    public String toString() {
+        return field + String.valueOf(operator) + '"' + literal + '"';
+    }
+}
@@ -0,0 +1,44 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.model.task.Task;
+
+/**
+ * A filter query that is satisfied by the tasks that do not satisfy its operand.
+ */
+public class NotQuery implements Query {
+
+    private final Query operand;
+
+    public NotQuery(Query operand) {
+        requireNonNull(operand);
+        this.operand = operand;
+    }
+
+    public Query getOperand() {
+        return operand;
+    }
+
+    @Override
+    public boolean test(Task task) {
+        return !operand.test(task);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof NotQuery // instanceof handles nulls
+            && operand.equals(((NotQuery) other).operand)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return ~operand.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "not " + operand;
+    }
+}
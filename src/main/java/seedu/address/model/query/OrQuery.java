@@ -0,0 +1,54 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import seedu.address.model.task.Task;
+
+/**
+ * A filter query that is satisfied by the tasks that satisfy any of its operands.
+ */
+public class OrQuery implements Query {
+
+    private final List<Query> operands;
+
+    public OrQuery(List<Query> operands) {
+        requireNonNull(operands);
+        this.operands = Collections.unmodifiableList(new ArrayList<>(operands));
+    }
+
+    public List<Query> getOperands() {
+        return operands;
+    }
+
+    @Override
+    public boolean test(Task task) {
+        for (Query operand : operands) {
+            if (operand.test(task)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof OrQuery // instanceof handles nulls
+            && operands.equals(((OrQuery) other).operands)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return operands.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return operands.stream().map(Query::toString).collect(Collectors.joining(" or ", "(", ")"));
+    }
+}
@@ -0,0 +1,13 @@
+package seedu.address.model.query;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.task.Task;
+
+/**
+ * A node of the syntax tree of a filter query. A query can be tested against a task by itself, or
+ * be planned by a {@code QueryPlanner} so that it is resolved through the indexes of a
+ * {@code TaskCollection}.
+ */
+public interface Query extends Predicate<Task> {
+}
@@ -0,0 +1,82 @@
+package seedu.address.model.query;
+
+import java.util.Optional;
+
+import seedu.address.model.task.Deadline;
+import seedu.address.model.task.FilterOperator;
+import seedu.address.model.task.IndexedTaskPredicate;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.TagsFilterPredicate;
+import seedu.address.model.task.exceptions.InvalidPredicateException;
+
+/**
+ * Represents a task field that can be compared in a filter query, together with the index through
+ * which the comparison is resolved.
+ */
+public enum QueryField {
+    NAME("n", "name", "name index", 4),
+    DUE("d", "due", "deadline index", 1),
+    TAG("t", "tag", "tag index", 2),
+    PRIORITY("p", "priority", "priority index", 1);
+
+    private final String shortKey;
+    private final String key;
+    private final String indexName;
+    /** Relative cost of testing one task against a condition on this field. */
+    private final int testCost;
+
+    QueryField(String shortKey, String key, String indexName, int testCost) {
+        this.shortKey = shortKey;
+        this.key = key;
+        this.indexName = indexName;
+        this.testCost = testCost;
+    }
+
+    /**
+     * Returns the field with the given key or short key, if there is one.
+     */
+    public static Optional<QueryField> fromKey(String key) {
+        for (QueryField field : values()) {
+            if (field.shortKey.equals(key) || field.key.equals(key)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+
+    public String getIndexName() {
+        return indexName;
+    }
+
+    public int getTestCost() {
+        return testCost;
+    }
+
+    /**
+     * Constructs a predicate on this field of tasks from the given operator and test phrase.
+     *
+     * @param operator   The operator for this predicate.
+     * @param testPhrase The test phrase for this predicate.
+     */
+    public IndexedTaskPredicate makeFilter(FilterOperator operator, String testPhrase)
+            throws InvalidPredicateException {
+        switch (this) {
+        case NAME:
+            return Name.makeFilter(operator, testPhrase);
+        case DUE:
+            return Deadline.makeFilter(operator, testPhrase);
+        case TAG:
+            return TagsFilterPredicate.makeFilter(operator, testPhrase);
+        case PRIORITY:
+            return Priority.makeFilter(operator, testPhrase);
+        default:
+            throw new AssertionError("Unknown query field: " + this);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.model.query;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import seedu.address.model.TaskCollection;
+import seedu.address.model.task.IndexedTaskPredicate;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskIdSet;
+
+/**
+ * A plan made by a {@code QueryPlanner}: an optional condition whose index gives the candidate
+ * tasks, and the residual conditions that the candidates are tested against.
+ */
+public class QueryPlan {
+
+    private final ConditionQuery indexedCondition;
+    private final int estimatedCandidateCount;
+    private final List<Query> residualConditions;
+
+    /**
+     * Creates a plan that looks up the candidates of {@code indexedCondition} in its index, or that
+     * tests every task if {@code indexedCondition} is null, against {@code residualConditions}.
+     */
+    public QueryPlan(ConditionQuery indexedCondition, int estimatedCandidateCount, List<Query> residualConditions) {
+        this.indexedCondition = indexedCondition;
+        this.estimatedCandidateCount = estimatedCandidateCount;
+        this.residualConditions = Collections.unmodifiableList(new ArrayList<>(residualConditions));
+    }
+
+    /**
+     * Returns the condition whose index gives the candidate tasks, or null if every task is tested.
+     */
+    public ConditionQuery getIndexedCondition() {
+        return indexedCondition;
+    }
+
+    public List<Query> getResidualConditions() {
+        return residualConditions;
+    }
+
+    /**
+     * Returns the predicate that carries out this plan. It is an {@code IndexedTaskPredicate} if the
+     * plan uses an index.
+     */
+    public Predicate<Task> getPredicate() {
+        Predicate<Task> residualPredicate = new AndQuery(residualConditions);
+        if (indexedCondition == null) {
+            return residualPredicate;
+        }
+        return new IndexScan(indexedCondition.getPredicate(), residualPredicate);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof QueryPlan // instanceof handles nulls
+            && Objects.equals(indexedCondition, ((QueryPlan) other).indexedCondition)
+            && residualConditions.equals(((QueryPlan) other).residualConditions)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(indexedCondition, residualConditions);
+    }
+
+    @Override
+    public String toString() {
+        String residual = residualConditions.stream().map(Query::toString).collect(Collectors.joining(" and "));
+        if (indexedCondition == null) {
+            return residualConditions.isEmpty() ? "list every task" : "test every task against " + residual;
+        }
+        String lookup = String.format("look up %1$s in the %2$s (at most %3$d candidates)", indexedCondition,
+            indexedCondition.getField().getIndexName(), estimatedCandidateCount);
+        return residualConditions.isEmpty() ? lookup : lookup + ", then test them against " + residual;
+    }
+
+    /**
+     * Tests the candidates of an indexed predicate against it and against the residual predicate.
+     */
+    private static class IndexScan implements IndexedTaskPredicate {
+        private final IndexedTaskPredicate indexedPredicate;
+        private final Predicate<Task> residualPredicate;
+
+        private IndexScan(IndexedTaskPredicate indexedPredicate, Predicate<Task> residualPredicate) {
+            this.indexedPredicate = indexedPredicate;
+            this.residualPredicate = residualPredicate;
+        }
+
+        @Override
+        public boolean test(Task task) {
+            return indexedPredicate.test(task) && residualPredicate.test(task);
+        }
+
+        @Override
+        public TaskIdSet getCandidateIds(TaskCollection taskCollection) {
+            return indexedPredicate.getCandidateIds(taskCollection);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package seedu.address.model.query;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.ToDoubleFunction;
+
+import seedu.address.model.TaskCollection;
+
+/**
+ * Plans how a filter query is resolved against a {@code TaskCollection}.
+ * <p>
+ * The query is taken as a conjunction of operands. Of the conditions among them that can be
+ * resolved through an index, the one with the fewest estimated candidates drives the plan: its
+ * candidates are looked up in its index, and only those tasks are tested against the remaining,
+ * residual operands. If no index narrows down the tasks, every task is tested.
+ * <p>
+ * Conjunctions and disjunctions stop at the first operand that decides them, so their operands are
+ * reordered by how cheaply they are expected to do so. The pass rate of a condition is estimated
+ * from the candidate count of its index, and its cost from the field it tests; operands are taken
+ * to be independent.
+ */
+public class QueryPlanner {
+
+    private QueryPlanner() {}
+
+    /**
+     * Returns the cheapest plan for {@code query} against the current contents of
+     * {@code taskCollection}.
+     */
+    public static QueryPlan plan(Query query, TaskCollection taskCollection) {
+        requireNonNull(query);
+        requireNonNull(taskCollection);
+
+        List<Query> conjuncts = new ArrayList<>();
+        flattenConjunction(query, conjuncts);
+
+        ConditionQuery indexedCondition = null;
+        int leastCandidateCount = taskCollection.size();
+        for (Query conjunct : conjuncts) {
+            if (!(conjunct instanceof ConditionQuery)) {
+                continue;
+            }
+            ConditionQuery condition = (ConditionQuery) conjunct;
+            int candidateCount = condition.getPredicate().estimateCandidateCount(taskCollection);
+            if (candidateCount < leastCandidateCount) {
+                indexedCondition = condition;
+                leastCandidateCount = candidateCount;
+            }
+        }
+
+        if (indexedCondition != null) {
+            conjuncts.remove(indexedCondition);
+        }
+        List<Query> residualConditions = new ArrayList<>();
+        for (Estimate estimate : orderOperands(conjuncts, taskCollection, true)) {
+            residualConditions.add(estimate.query);
+        }
+        return new QueryPlan(indexedCondition, leastCandidateCount, residualConditions);
+    }
+
+    /**
+     * Adds the operands of {@code query} to {@code conjuncts}, looking through nested conjunctions.
+     */
+    private static void flattenConjunction(Query query, List<Query> conjuncts) {
+        if (query instanceof AndQuery) {
+            for (Query operand : ((AndQuery) query).getOperands()) {
+                flattenConjunction(operand, conjuncts);
+            }
+        } else {
+            conjuncts.add(query);
+        }
+    }
+
+    /**
+     * Returns {@code query} with the operands of its conjunctions and disjunctions reordered, and
+     * estimates of its cost and pass rate.
+     */
+    private static Estimate estimate(Query query, TaskCollection taskCollection) {
+        if (query instanceof ConditionQuery) {
+            ConditionQuery condition = (ConditionQuery) query;
+            double candidateCount = condition.getPredicate().estimateCandidateCount(taskCollection);
+            double passRate = taskCollection.size() == 0 ? 0 : candidateCount / taskCollection.size();
+            return new Estimate(query, condition.getField().getTestCost(), Math.min(1, passRate));
+        } else if (query instanceof NotQuery) {
+            Estimate operand = estimate(((NotQuery) query).getOperand(), taskCollection);
+            return new Estimate(new NotQuery(operand.query), operand.cost, 1 - operand.passRate);
+        } else if (query instanceof AndQuery || query instanceof OrQuery) {
+            boolean isConjunction = query instanceof AndQuery;
+            List<Query> operands = isConjunction ? ((AndQuery) query).getOperands() : ((OrQuery) query).getOperands();
+            List<Estimate> orderedOperands = orderOperands(operands, taskCollection, isConjunction);
+
+            // each operand is only tested on the tasks that the operands before it did not decide
+            List<Query> orderedQueries = new ArrayList<>();
+            double cost = 0;
+            double undecidedRate = 1;
+            for (Estimate operand : orderedOperands) {
+                orderedQueries.add(operand.query);
+                cost += undecidedRate * operand.cost;
+                undecidedRate *= isConjunction ? operand.passRate : 1 - operand.passRate;
+            }
+            return isConjunction
+                ? new Estimate(new AndQuery(orderedQueries), cost, undecidedRate)
+                : new Estimate(new OrQuery(orderedQueries), cost, 1 - undecidedRate);
+        } else {
+            return new Estimate(query, Double.MAX_VALUE, 1);
+        }
+    }
+
+    /**
+     * Returns the estimates of {@code operands} in the order in which they decide a conjunction, or
+     * a disjunction if {@code isConjunction} is false, at the least expected cost. That is in
+     * ascending order of cost per task decided, where a conjunction is decided by an operand that
+     * fails and a disjunction by one that passes.
+     */
+    private static List<Estimate> orderOperands(List<Query> operands, TaskCollection taskCollection,
+                                                boolean isConjunction) {
+        List<Estimate> estimates = new ArrayList<>();
+        for (Query operand : operands) {
+            estimates.add(estimate(operand, taskCollection));
+        }
+        ToDoubleFunction<Estimate> decideRate = estimate -> isConjunction ? 1 - estimate.passRate : estimate.passRate;
+        estimates.sort(Comparator.comparingDouble(estimate -> decideRate.applyAsDouble(estimate) == 0
+            ? Double.POSITIVE_INFINITY
+            : estimate.cost / decideRate.applyAsDouble(estimate)));
+        return estimates;
+    }
+
+    /**
+     * A query with the expected cost of testing a task against it, and the expected fraction of
+     * tasks that satisfy it.
+     */
+    private static class Estimate {
+        private final Query query;
+        private final double cost;
+        private final double passRate;
+
+        private Estimate(Query query, double cost, double passRate) {
+            this.query = query;
+            this.cost = cost;
+            this.passRate = passRate;
+        }
+    }
+}
@@ -5,9 +5,10 @@ import static java.util.Objects.requireNonNull;
 import java.text.DateFormat;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.Date;
 import java.util.Locale;
-import java.util.function.Predicate;
 
 import seedu.address.model.task.exceptions.InvalidPredicateException;
 import seedu.address.model.task.exceptions.InvalidPredicateOperatorException;
@@ -21,7 +22,9 @@ public class Deadline implements Comparable<Deadline> {
     public static final String MESSAGE_DEADLINE_CONSTRAINTS =
         "Deadline has to be a valid date";
 
-    private static DateFormat dateFormatter = new SimpleDateFormat("d/M/y", new Locale("en", "SG"));
+    /** A {@code SimpleDateFormat} is not thread-safe, and deadlines are formatted by the saving thread too. */
+    private static final ThreadLocal<DateFormat> dateFormatter = ThreadLocal.withInitial(() ->
+        new SimpleDateFormat("d/M/y", new Locale("en", "SG")));
 
     public final Date value;
 
@@ -44,19 +47,37 @@ public class Deadline implements Comparable<Deadline> {
         requireNonNull(deadline);
 
         try {
-            this.value = dateFormatter.parse(deadline);
+            this.value = dateFormatter.get().parse(deadline);
         } catch (ParseException e) {
             throw new IllegalArgumentException(MESSAGE_DEADLINE_CONSTRAINTS, e);
         }
     }
 
     /**
-     * Constructs a predicate from the given operator and test phrase.
+     * Returns the deadline at the start of the day that is {@code epochDay} days after 1 January 1970, in
+     * the default time zone.
+     */
+    public static Deadline ofEpochDay(long epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        return new Deadline(Date.from(date.atStartOfDay(ZoneId.systemDefault()).toInstant()));
+    }
+
+    /**
+     * Returns the number of days from 1 January 1970 to the day of this deadline in the default time zone.
+     * Deadlines are dates, so {@link #ofEpochDay(long)} gives back an equal deadline.
+     */
+    public long toEpochDay() {
+        return value.toInstant().atZone(ZoneId.systemDefault()).toLocalDate().toEpochDay();
+    }
+
+    /**
+     * Constructs a predicate on tasks' deadlines from the given operator and test phrase. The
+     * predicate is a range of deadlines, so that it can be resolved through a {@code DeadlineIndex}.
      *
      * @param operator   The operator for this predicate.
      * @param testPhrase The test phrase for this predicate.
      */
-    public static Predicate<Deadline> makeFilter(FilterOperator operator, String testPhrase)
+    public static DeadlineInRangePredicate makeFilter(FilterOperator operator, String testPhrase)
             throws InvalidPredicateException {
         Deadline testDeadline;
         try {
@@ -66,12 +87,12 @@ public class Deadline implements Comparable<Deadline> {
         }
         switch (operator) {
         case EQUAL:
-            return deadline -> deadline.equals(testDeadline);
+            return new DeadlineInRangePredicate(testDeadline, testDeadline);
         case CONVENIENCE: // convenience operator, works the same as "<"
         case LESS:
-            return deadline -> deadline.compareTo(testDeadline) <= 0;
+            return new DeadlineInRangePredicate(null, testDeadline);
         case GREATER:
-            return deadline -> deadline.compareTo(testDeadline) >= 0;
+            return new DeadlineInRangePredicate(testDeadline, null);
         default:
             throw new InvalidPredicateOperatorException();
         }
@@ -79,7 +100,7 @@ public class Deadline implements Comparable<Deadline> {
 
     @Override
     public String toString() {
-        return dateFormatter.format(value);
+        return dateFormatter.get().format(value);
     }
 
     @Override
@@ -0,0 +1,45 @@
+package seedu.address.model.task;
+
+import java.util.Objects;
+
+import seedu.address.model.TaskCollection;
+
+/**
+ * Tests that a {@code Task}'s {@code Deadline} is from {@code earliest} to {@code latest}, both
+ * inclusive. A null bound leaves that end of the range open.
+ */
+public class DeadlineInRangePredicate implements IndexedTaskPredicate {
+
+    private final Deadline earliest;
+    private final Deadline latest;
+
+    public DeadlineInRangePredicate(Deadline earliest, Deadline latest) {
+        this.earliest = earliest;
+        this.latest = latest;
+    }
+
+    @Override
+    public boolean test(Task task) {
+        Deadline deadline = task.getDeadline();
+        return (earliest == null || deadline.compareTo(earliest) >= 0)
+            && (latest == null || deadline.compareTo(latest) <= 0);
+    }
+
+    @Override
+    public TaskIdSet getCandidateIds(TaskCollection taskCollection) {
+        return taskCollection.getDeadlineIndex().getTaskIdsBetween(earliest, latest);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof DeadlineInRangePredicate // instanceof handles nulls
+            && Objects.equals(earliest, ((DeadlineInRangePredicate) other).earliest)
+            && Objects.equals(latest, ((DeadlineInRangePredicate) other).latest)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(earliest, latest);
+    }
+}
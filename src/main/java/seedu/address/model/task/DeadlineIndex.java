@@ -0,0 +1,109 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A sorted index from deadlines to the ids of the tasks due then, over an
+ * {@code ObservableList<Task>} that it is kept in step with by listening to its changes. Tasks due
+ * in a range of deadlines are found with a range scan, whose cost depends on the number of tasks
+ * found rather than on the size of the list.
+ */
+public class DeadlineIndex implements ListChangeListener<Task> {
+
+    private final NavigableMap<Deadline, Set<Integer>> taskIdsByDeadline = new TreeMap<>();
+
+    /**
+     * Creates an index over {@code source}, and registers it as a listener of {@code source}.
+     */
+    public DeadlineIndex(ObservableList<Task> source) {
+        requireNonNull(source);
+        source.forEach(this::addTask);
+        source.addListener(this);
+    }
+
+    /**
+     * Returns the ids of the tasks due from {@code earliest} to {@code latest}, both inclusive. A
+     * null bound leaves that end of the range open.
+     */
+    public TaskIdSet getTaskIdsBetween(Deadline earliest, Deadline latest) {
+        NavigableMap<Deadline, Set<Integer>> range = taskIdsByDeadline;
+        if (earliest != null) {
+            range = range.tailMap(earliest, true);
+        }
+        if (latest != null) {
+            range = range.headMap(latest, true);
+        }
+
+        TaskIdSet taskIds = new TaskIdSet();
+        range.values().forEach(ids -> ids.forEach(taskIds::add));
+        return taskIds;
+    }
+
+    /**
+     * Returns the number of tasks due from {@code from} (inclusive) until {@code until} (exclusive).
+     * A null bound leaves that end of the range open. Takes O(log n + d) time, where d is the number
+     * of distinct deadlines in the range.
+     */
+    public int getTaskCountInRange(Deadline from, Deadline until) {
+        NavigableMap<Deadline, Set<Integer>> range = taskIdsByDeadline;
+        if (from != null) {
+            range = range.tailMap(from, true);
+        }
+        if (until != null) {
+            range = range.headMap(until, false);
+        }
+
+        int taskCount = 0;
+        for (Set<Integer> ids : range.values()) {
+            taskCount += ids.size();
+        }
+        return taskCount;
+    }
+
+    /**
+     * Returns the ids of the tasks in this index grouped by deadline, from the earliest deadline, or
+     * from the latest if {@code isEarliestFirst} is false. Visiting the first k groups takes
+     * O(log n + k) time.
+     */
+    public Iterable<Set<Integer>> getTaskIdsByDeadline(boolean isEarliestFirst) {
+        NavigableMap<Deadline, Set<Integer>> ordered = isEarliestFirst
+            ? taskIdsByDeadline
+            : taskIdsByDeadline.descendingMap();
+        return Collections.unmodifiableCollection(ordered.values());
+    }
+
+    @Override
+    public void onChanged(Change<? extends Task> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removeTask);
+            change.getAddedSubList().forEach(this::addTask);
+        }
+    }
+
+    private void addTask(Task task) {
+        taskIdsByDeadline.computeIfAbsent(task.getDeadline(), unused -> new HashSet<>()).add(task.getId());
+    }
+
+    /**
+     * Removes {@code task} from the index, dropping its deadline once no task is due then.
+     */
+    private void removeTask(Task task) {
+        Set<Integer> ids = taskIdsByDeadline.get(task.getDeadline());
+        ids.remove(task.getId());
+        if (ids.isEmpty()) {
+            taskIdsByDeadline.remove(task.getDeadline());
+        }
+    }
+}
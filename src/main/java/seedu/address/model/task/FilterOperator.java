@@ -6,10 +6,16 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Represents an operator used for the filter predicate.
  */
 public enum FilterOperator {
-    CONVENIENCE,
-    EQUAL,
-    LESS,
-    GREATER;
+    CONVENIENCE(":"),
+    EQUAL("="),
+    LESS("<"),
+    GREATER(">");
+
+    private final String symbol;
+
+    FilterOperator(String symbol) {
+        this.symbol = symbol;
+    }
 
     /**
      * Parses a string into a filter operator.
@@ -30,4 +36,9 @@ public enum FilterOperator {
             throw new ParseException("Invalid filter operator!");
         }
     }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
 }
@@ -0,0 +1,28 @@
+package seedu.address.model.task;
+
+import java.util.function.Predicate;
+
+import seedu.address.model.TaskCollection;
+
+/**
+ * A {@code Predicate<Task>} that can look up the tasks that may satisfy it in the indexes of a
+ * {@code TaskCollection}, so that only those tasks need to be tested.
+ */
+public interface IndexedTaskPredicate extends Predicate<Task> {
+
+    /**
+     * Returns the ids of the tasks in {@code taskCollection} that may satisfy this predicate. Every
+     * task in {@code taskCollection} that satisfies this predicate must be among them.
+     */
+    TaskIdSet getCandidateIds(TaskCollection taskCollection);
+
+    /**
+     * Returns an upper bound of the number of candidate tasks in {@code taskCollection}, by which a
+     * query planner can tell which of several predicates is the most selective. The default is the
+     * exact number of candidates; predicates that can bound it without combining postings may
+     * override this.
+     */
+    default int estimateCandidateCount(TaskCollection taskCollection) {
+        return getCandidateIds(taskCollection).size();
+    }
+}
@@ -3,9 +3,11 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.util.function.Predicate;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
 
-import seedu.address.commons.util.StringUtil;
 import seedu.address.model.task.exceptions.InvalidPredicateOperatorException;
 
 /**
@@ -23,6 +25,11 @@ public class Name implements Comparable<Name> {
      */
     public static final String NAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
+    /** Length of the substrings by which names are indexed. */
+    public static final int TRIGRAM_LENGTH = 3;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("\\s+");
+
     public final String value;
 
     /**
@@ -44,26 +51,45 @@ public class Name implements Comparable<Name> {
     }
 
     /**
-     * Constructs a predicate from the given operator and test phrase.
+     * Constructs a predicate on tasks' names from the given operator and test phrase. The
+     * predicate can be resolved through the name trigram index of a {@code TaskCollection}.
      *
      * @param operator   The operator for this predicate.
      * @param testPhrase The test phrase for this predicate.
      */
-    public static Predicate<Name> makeFilter(FilterOperator operator, String testPhrase)
+    public static NameFilterPredicate makeFilter(FilterOperator operator, String testPhrase)
             throws InvalidPredicateOperatorException {
-        switch (operator) {
-        case EQUAL:
-            return name -> name.value.equals(testPhrase);
-        case LESS:
-            return name -> StringUtil.containsFragmentIgnoreCase(testPhrase, name.value);
-        case CONVENIENCE: // convenience operator, works the same as ">"
-        case GREATER:
-            return name -> StringUtil.containsFragmentIgnoreCase(name.value, testPhrase);
-        default:
-            throw new InvalidPredicateOperatorException();
+        return new NameFilterPredicate(operator, testPhrase);
+    }
+
+    /**
+     * Returns the case-folded trigrams of {@code name}, leading and trailing spaces aside. A name of
+     * fewer than three characters has no trigrams, and is keyed by the whole case-folded name.
+     */
+    public static Set<String> trigramsOf(String name) {
+        String folded = name.trim().toLowerCase();
+        if (folded.length() < TRIGRAM_LENGTH) {
+            return Collections.singleton(folded);
         }
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + TRIGRAM_LENGTH <= folded.length(); i++) {
+            trigrams.add(folded.substring(i, i + TRIGRAM_LENGTH));
+        }
+        return trigrams;
     }
 
+    /**
+     * Returns the case-folded words of {@code name}, which are separated by whitespace.
+     */
+    public static Set<String> wordsOf(String name) {
+        Set<String> words = new HashSet<>();
+        for (String word : WORD_SEPARATOR.split(name.toLowerCase())) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
 
     @Override
     public String toString() {
@@ -1,26 +1,38 @@
 package seedu.address.model.task;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
+import java.util.stream.Collectors;
 
-import seedu.address.commons.util.StringUtil;
+import seedu.address.model.TaskCollection;
 
 /**
- * Tests that a {@code Task}'s {@code Name} matches any of the keywords given.
+ * Tests that a {@code Task}'s {@code Name} matches any of the keywords given. The candidate tasks
+ * are the union of the postings of the keywords in the name word index of a {@code TaskCollection}.
  */
-public class NameContainsKeywordsPredicate implements Predicate<Task> {
+public class NameContainsKeywordsPredicate implements IndexedTaskPredicate {
 
     private final List<String> keywords;
+    private final Set<String> foldedKeywords;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
+        requireNonNull(keywords);
         this.keywords = keywords;
+        this.foldedKeywords = keywords.stream()
+            .map(keyword -> keyword.trim().toLowerCase())
+            .collect(Collectors.toSet());
     }
 
     @Override
     public boolean test(Task task) {
-        return keywords.stream()
-            .anyMatch(keyword -> StringUtil
-                .containsWordIgnoreCase(task.getName().value, keyword));
+        return Name.wordsOf(task.getName().value).stream().anyMatch(foldedKeywords::contains);
+    }
+
+    @Override
+    public TaskIdSet getCandidateIds(TaskCollection taskCollection) {
+        return taskCollection.getNameWordIndex().getTaskIdsWithAny(foldedKeywords);
     }
 
     @Override
@@ -0,0 +1,124 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.TaskCollection;
+import seedu.address.model.task.exceptions.InvalidPredicateOperatorException;
+
+/**
+ * Tests that a {@code Task}'s {@code Name} is equal to ({@code =}), contained in ({@code <}) or
+ * contains ({@code >} or {@code :}) the given phrase, ignoring case for containment. The candidate
+ * tasks are found through the name trigram index of a {@code TaskCollection}, and every candidate
+ * is then tested against the phrase itself.
+ */
+public class NameFilterPredicate implements IndexedTaskPredicate {
+
+    private final FilterOperator operator;
+    private final String testPhrase;
+
+    /**
+     * Constructs a predicate from the given operator and test phrase.
+     *
+     * @param operator   The operator for this predicate.
+     * @param testPhrase The test phrase for this predicate.
+     */
+    public NameFilterPredicate(FilterOperator operator, String testPhrase) throws InvalidPredicateOperatorException {
+        requireNonNull(operator);
+        requireNonNull(testPhrase);
+        switch (operator) {
+        case EQUAL:
+        case LESS:
+        case CONVENIENCE:
+        case GREATER:
+            break;
+        default:
+            throw new InvalidPredicateOperatorException();
+        }
+        this.operator = operator;
+        this.testPhrase = testPhrase;
+    }
+
+    @Override
+    public boolean test(Task task) {
+        String name = task.getName().value;
+        switch (operator) {
+        case EQUAL:
+            return name.equals(testPhrase);
+        case LESS:
+            return StringUtil.containsFragmentIgnoreCase(testPhrase, name);
+        default: // convenience operator, works the same as ">"
+            return StringUtil.containsFragmentIgnoreCase(name, testPhrase);
+        }
+    }
+
+    /**
+     * Returns the ids of the tasks whose names may satisfy this predicate. A name that contains the
+     * phrase has all the trigrams of the phrase, and a name that is contained in the phrase is keyed
+     * by one of the substrings of the phrase of up to three characters. A phrase of fewer than three
+     * characters has no trigrams to narrow down the names that contain it, so every task is a
+     * candidate.
+     */
+    @Override
+    public TaskIdSet getCandidateIds(TaskCollection taskCollection) {
+        TaskInvertedIndex<String> nameIndex = taskCollection.getNameTrigramIndex();
+        switch (operator) {
+        case EQUAL:
+            return nameIndex.getTaskIdsWithAll(Name.trigramsOf(testPhrase));
+        case LESS:
+            return nameIndex.getTaskIdsWithAny(substringsUpToTrigrams(testPhrase));
+        default:
+            String fragment = testPhrase.trim();
+            if (fragment.length() < Name.TRIGRAM_LENGTH) {
+                return nameIndex.getAllTaskIds();
+            }
+            return nameIndex.getTaskIdsWithAll(Name.trigramsOf(fragment));
+        }
+    }
+
+    /**
+     * Returns the smallest posting size among the trigrams of the phrase when looking for names that
+     * contain it, which bounds the size of their intersection.
+     */
+    @Override
+    public int estimateCandidateCount(TaskCollection taskCollection) {
+        String fragment = testPhrase.trim();
+        boolean isContainment = operator == FilterOperator.GREATER || operator == FilterOperator.CONVENIENCE;
+        if (!isContainment || fragment.length() < Name.TRIGRAM_LENGTH) {
+            return IndexedTaskPredicate.super.estimateCandidateCount(taskCollection);
+        }
+        TaskInvertedIndex<String> nameIndex = taskCollection.getNameTrigramIndex();
+        return Name.trigramsOf(fragment).stream().mapToInt(nameIndex::getTaskCount).min().getAsInt();
+    }
+
+    /**
+     * Returns the case-folded substrings of {@code phrase} that are at most a trigram long.
+     */
+    private static Set<String> substringsUpToTrigrams(String phrase) {
+        String folded = phrase.toLowerCase();
+        Set<String> substrings = new HashSet<>();
+        for (int length = 1; length <= Name.TRIGRAM_LENGTH; length++) {
+            for (int i = 0; i + length <= folded.length(); i++) {
+                substrings.add(folded.substring(i, i + length));
+            }
+        }
+        return substrings;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof NameFilterPredicate // instanceof handles nulls
+            && operator == ((NameFilterPredicate) other).operator
+            && testPhrase.equals(((NameFilterPredicate) other).testPhrase)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operator, testPhrase);
+    }
+}
@@ -3,12 +3,14 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.model.task.exceptions.InvalidPredicateException;
+import seedu.address.model.task.exceptions.InvalidPredicateTestPhraseException;
+
 /**
  * Represents a Task's priority in the deadline manager. Guarantees: immutable; is valid as declared
  * in {@link #isValidPriority(String)}
  */
-public class Priority {
-
+public class Priority implements Comparable<Priority> {
 
     public static final String MESSAGE_PRIORITY_CONSTRAINTS =
         "Priority should only be 1, 2, 3, or 4";
@@ -33,6 +35,24 @@ public class Priority {
         return test.matches(PRIORITY_VALIDATION_REGEX);
     }
 
+    /**
+     * Constructs a predicate on tasks' priorities from the given operator and test phrase. The
+     * predicate can be resolved through the priority index of a {@code TaskCollection}.
+     *
+     * @param operator   The operator for this predicate.
+     * @param testPhrase The test phrase for this predicate.
+     */
+    public static PriorityFilterPredicate makeFilter(FilterOperator operator, String testPhrase)
+            throws InvalidPredicateException {
+        Priority testPriority;
+        try {
+            testPriority = new Priority(testPhrase);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidPredicateTestPhraseException(e);
+        }
+        return new PriorityFilterPredicate(operator, testPriority);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -50,4 +70,9 @@ public class Priority {
         return value.hashCode();
     }
 
+    @Override
+    public int compareTo(Priority other) {
+        return value.compareTo(other.value);
+    }
+
 }
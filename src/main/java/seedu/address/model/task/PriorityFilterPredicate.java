@@ -0,0 +1,86 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import seedu.address.model.TaskCollection;
+import seedu.address.model.task.exceptions.InvalidPredicateOperatorException;
+
+/**
+ * Tests that a {@code Task}'s {@code Priority} is equal to ({@code =} or {@code :}), at most
+ * ({@code <}) or at least ({@code >}) the given priority. There are only a few priorities, so the
+ * candidate tasks are the union of the postings of the matching priorities in the priority index of
+ * a {@code TaskCollection}.
+ */
+public class PriorityFilterPredicate implements IndexedTaskPredicate {
+
+    private static final String[] ALL_PRIORITIES = {"1", "2", "3", "4"};
+
+    private final FilterOperator operator;
+    private final Priority priority;
+    private final Set<Priority> matchingPriorities;
+
+    /**
+     * Constructs a predicate from the given operator and priority.
+     *
+     * @param operator The operator for this predicate.
+     * @param priority The priority to compare with.
+     */
+    public PriorityFilterPredicate(FilterOperator operator, Priority priority)
+            throws InvalidPredicateOperatorException {
+        requireNonNull(operator);
+        requireNonNull(priority);
+        this.operator = operator;
+        this.priority = priority;
+        this.matchingPriorities = Stream.of(ALL_PRIORITIES)
+            .map(Priority::new)
+            .filter(makeComparison(operator, priority))
+            .collect(Collectors.toSet());
+    }
+
+    /**
+     * Returns a test of a priority against {@code priority} by {@code operator}.
+     */
+    private static Predicate<Priority> makeComparison(FilterOperator operator, Priority priority)
+            throws InvalidPredicateOperatorException {
+        switch (operator) {
+        case CONVENIENCE: // convenience operator, works the same as "="
+        case EQUAL:
+            return other -> other.compareTo(priority) == 0;
+        case LESS:
+            return other -> other.compareTo(priority) <= 0;
+        case GREATER:
+            return other -> other.compareTo(priority) >= 0;
+        default:
+            throw new InvalidPredicateOperatorException();
+        }
+    }
+
+    @Override
+    public boolean test(Task task) {
+        return matchingPriorities.contains(task.getPriority());
+    }
+
+    @Override
+    public TaskIdSet getCandidateIds(TaskCollection taskCollection) {
+        return taskCollection.getPriorityIndex().getTaskIdsWithAny(matchingPriorities);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof PriorityFilterPredicate // instanceof handles nulls
+            && operator == ((PriorityFilterPredicate) other).operator
+            && priority.equals(((PriorityFilterPredicate) other).priority)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operator, priority);
+    }
+}
@@ -0,0 +1,38 @@
+package seedu.address.model.task;
+
+import java.util.Optional;
+
+/**
+ * Represents a task field that tasks can be sorted by.
+ */
+public enum SortField {
+    NAME("n", "name"),
+    DUE("d", "due"),
+    PRIORITY("p", "priority"),
+    TAG("t", "tag");
+
+    private final String shortKey;
+    private final String key;
+
+    SortField(String shortKey, String key) {
+        this.shortKey = shortKey;
+        this.key = key;
+    }
+
+    /**
+     * Returns the field with the given key or short key, if there is one.
+     */
+    public static Optional<SortField> fromKey(String key) {
+        for (SortField field : values()) {
+            if (field.shortKey.equals(key) || field.key.equals(key)) {
+                return Optional.of(field);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.model.TaskCollection;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.exceptions.InvalidPredicateException;
+import seedu.address.model.task.exceptions.InvalidPredicateOperatorException;
+import seedu.address.model.util.SetUtil;
+
+/**
+ * Tests that a {@code Task}'s tags are equal to ({@code =}), a subset of ({@code <}) or a superset
+ * of ({@code >} or {@code :}) the given tags. The candidate tasks are found by combining the
+ * postings of the tag index of a {@code TaskCollection}.
+ */
+public class TagsFilterPredicate implements IndexedTaskPredicate {
+
+    private final FilterOperator operator;
+    private final Set<Tag> tags;
+    private final Predicate<Set<Tag>> tagsPredicate;
+
+    public TagsFilterPredicate(FilterOperator operator, Set<Tag> tags) throws InvalidPredicateOperatorException {
+        requireNonNull(operator);
+        requireNonNull(tags);
+        this.operator = operator;
+        this.tags = tags;
+        this.tagsPredicate = SetUtil.makeFilter(operator, tags);
+    }
+
+    /**
+     * Constructs a predicate from the given operator and test phrase, a comma-separated list of tag
+     * names.
+     *
+     * @param operator   The operator for this predicate.
+     * @param testPhrase The test phrase for this predicate.
+     */
+    public static TagsFilterPredicate makeFilter(FilterOperator operator, String testPhrase)
+        throws InvalidPredicateException {
+        return new TagsFilterPredicate(operator, SetUtil.parseItems(Tag::new, testPhrase));
+    }
+
+    @Override
+    public boolean test(Task task) {
+        return tagsPredicate.test(task.getTags());
+    }
+
+    @Override
+    public TaskIdSet getCandidateIds(TaskCollection taskCollection) {
+        TaskInvertedIndex<Tag> tagIndex = taskCollection.getTagIndex();
+        switch (operator) {
+        case EQUAL:
+            TaskIdSet taskIds = tagIndex.getTaskIdsWithAll(tags);
+            taskIds.and(tagIndex.getTaskIdsWithOnly(tags));
+            return taskIds;
+        case LESS:
+            return tagIndex.getTaskIdsWithOnly(tags);
+        default:
+            return tagIndex.getTaskIdsWithAll(tags);
+        }
+    }
+
+    /**
+     * Returns the smallest posting size among the given tags when looking for supersets of them,
+     * which bounds the size of their intersection.
+     */
+    @Override
+    public int estimateCandidateCount(TaskCollection taskCollection) {
+        if (operator == FilterOperator.EQUAL || operator == FilterOperator.LESS || tags.isEmpty()) {
+            return IndexedTaskPredicate.super.estimateCandidateCount(taskCollection);
+        }
+        TaskInvertedIndex<Tag> tagIndex = taskCollection.getTagIndex();
+        return tags.stream().mapToInt(tagIndex::getTaskCount).min().getAsInt();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof TagsFilterPredicate // instanceof handles nulls
+            && operator == ((TagsFilterPredicate) other).operator
+            && tags.equals(((TagsFilterPredicate) other).tags)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(operator, tags);
+    }
+}
@@ -1,11 +1,13 @@
 package seedu.address.model.task;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import seedu.address.model.attachment.Attachment;
 import seedu.address.model.tag.Tag;
@@ -13,9 +15,27 @@ import seedu.address.model.tag.Tag;
 /**
  * Represents a Task in the deadline manager. Guarantees: details are present and not null, field values
  * are validated, immutable.
+ * <p>
+ * Every task also carries a numeric id that stays the same across edits of the task. The id is not
+ * part of {@code Task#equals(Object)}: two tasks with the same details are equal, but are still told
+ * apart by their ids when they are located in a {@code TaskCollection}.
+ * <p>
+ * New ids are handed out from a counter that is moved past the id of every task added to a
+ * {@code TaskCollection}, so that a new task never takes the id of a task in a collection. Tasks that
+ * are only read, such as those of an import file, do not move the counter.
  */
 public class Task {
 
+    /** Ids read from files must be below this, which leaves room for many more ids to be handed out. */
+    public static final int MAX_STORED_ID = 1 << 30;
+    public static final String MESSAGE_ID_CONSTRAINTS =
+        "Task ids should be whole numbers from 0 to " + (MAX_STORED_ID - 1);
+
+    /** The next id to hand out. Always larger than the id of any task added to a collection so far. */
+    private static final AtomicInteger nextId = new AtomicInteger();
+
+    private final int id;
+
     // Identity fields
     private final Name name;
     private final Phone phone;
@@ -29,11 +49,22 @@ public class Task {
     private final Set<Attachment> attachments = new HashSet<>();
 
     /**
-     * Every field must be present and not null.
+     * Every field must be present and not null. The task is given a new id.
      */
     public Task(Name name, Phone phone, Priority priority, Email email, Deadline deadline, Address address,
                 Set<Tag> tags, Set<Attachment> attachments) {
+        this(nextId.getAndIncrement(), name, phone, priority, email, deadline, address, tags, attachments);
+    }
+
+    /**
+     * Every field must be present and not null. Used to re-create a task with an existing {@code id},
+     * such as when the task is edited or loaded from storage.
+     */
+    public Task(int id, Name name, Phone phone, Priority priority, Email email, Deadline deadline,
+                Address address, Set<Tag> tags, Set<Attachment> attachments) {
         requireAllNonNull(name, phone, priority, email, deadline, address, tags, attachments);
+        checkArgument(id >= 0, MESSAGE_ID_CONSTRAINTS);
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.priority = priority;
@@ -61,6 +92,25 @@ public class Task {
             address, tags);
     }
 
+    /**
+     * Returns true if {@code id} is a valid id for a task read from a file.
+     */
+    public static boolean isValidStoredId(int id) {
+        return id >= 0 && id < MAX_STORED_ID;
+    }
+
+    /**
+     * Moves the counter of new ids past {@code id}, which is the id of a task being added to a
+     * {@code TaskCollection}, so that no new task is given that id.
+     */
+    public static void reserveId(int id) {
+        nextId.accumulateAndGet(id + 1, Math::max);
+    }
+
+    public int getId() {
+        return id;
+    }
+
     public Name getName() {
         return name;
     }
@@ -101,6 +151,12 @@ public class Task {
         return Collections.unmodifiableSet(attachments);
     }
 
+    /**
+     * Returns a copy of this task that is given a new id.
+     */
+    public Task withNewId() {
+        return new Task(name, phone, priority, email, deadline, address, tags, attachments);
+    }
 
     /**
      * Returns true if both persons have the same identity and data fields. This defines a stronger
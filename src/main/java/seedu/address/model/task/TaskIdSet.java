@@ -0,0 +1,552 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.function.IntConsumer;
+
+/**
+ * A set of task ids, stored in the manner of a roaring bitmap. The ids are split by their upper 16
+ * bits into chunks of 65536 ids, and each chunk that has ids in the set is kept in a container: a
+ * sorted array of the lower 16 bits of its ids while it holds at most {@code ARRAY_CONTAINER_MAX_SIZE}
+ * of them, or a bitmap of 65536 bits once it holds more. A set of sparse ids thus takes about 2 bytes
+ * per id, and a set of dense ids at most 8 KiB per chunk, however large the ids are.
+ * <p>
+ * The number of ids in the set is kept as ids are added and removed, so {@link #size()} takes O(1)
+ * time. Ids must be non-negative.
+ */
+public class TaskIdSet {
+
+    /** The largest number of ids that a chunk holds in a sorted array rather than a bitmap. */
+    public static final int ARRAY_CONTAINER_MAX_SIZE = 4096;
+
+    private static final int CHUNK_BITS = 16;
+    private static final int LOW_BITS_MASK = (1 << CHUNK_BITS) - 1;
+    private static final char[] NO_CHUNK_KEYS = new char[0];
+    private static final Container[] NO_CONTAINERS = new Container[0];
+
+    private char[] chunkKeys = NO_CHUNK_KEYS;
+    private Container[] containers = NO_CONTAINERS;
+    private int chunkCount = 0;
+    private int size = 0;
+
+    /**
+     * Returns a set of the given {@code ids}.
+     */
+    public static TaskIdSet of(int... ids) {
+        TaskIdSet taskIds = new TaskIdSet();
+        for (int id : ids) {
+            taskIds.add(id);
+        }
+        return taskIds;
+    }
+
+    /**
+     * Adds {@code id} to this set. Returns true if it was not already in this set.
+     */
+    public boolean add(int id) {
+        checkArgument(id >= 0, Task.MESSAGE_ID_CONSTRAINTS);
+        char chunkKey = (char) (id >>> CHUNK_BITS);
+        // ids are mostly added in ascending order, so try the last chunk before searching
+        int chunk = chunkCount > 0 && chunkKeys[chunkCount - 1] == chunkKey ? chunkCount - 1 : findChunk(chunkKey);
+        if (chunk < 0) {
+            chunk = -chunk - 1;
+            insertChunk(chunk, chunkKey, new ArrayContainer());
+        }
+        int chunkSize = containers[chunk].size();
+        containers[chunk] = containers[chunk].add((char) (id & LOW_BITS_MASK));
+        size += containers[chunk].size() - chunkSize;
+        return containers[chunk].size() > chunkSize;
+    }
+
+    /**
+     * Removes {@code id} from this set. Returns true if it was in this set.
+     */
+    public boolean remove(int id) {
+        int chunk = id < 0 ? -1 : findChunk((char) (id >>> CHUNK_BITS));
+        if (chunk < 0) {
+            return false;
+        }
+        int chunkSize = containers[chunk].size();
+        containers[chunk] = containers[chunk].remove((char) (id & LOW_BITS_MASK));
+        int removedCount = chunkSize - containers[chunk].size();
+        size -= removedCount;
+        if (containers[chunk].size() == 0) {
+            removeChunk(chunk);
+        }
+        return removedCount > 0;
+    }
+
+    /**
+     * Returns true if {@code id} is in this set.
+     */
+    public boolean contains(int id) {
+        int chunk = id < 0 ? -1 : findChunk((char) (id >>> CHUNK_BITS));
+        return chunk >= 0 && containers[chunk].contains((char) (id & LOW_BITS_MASK));
+    }
+
+    /**
+     * Returns the number of ids in this set.
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Keeps only the ids of this set that are also in {@code other}.
+     */
+    public void and(TaskIdSet other) {
+        requireNonNull(other);
+        TaskIdSet result = new TaskIdSet();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount && j < other.chunkCount) {
+            if (chunkKeys[i] < other.chunkKeys[j]) {
+                i++;
+            } else if (chunkKeys[i] > other.chunkKeys[j]) {
+                j++;
+            } else {
+                result.appendChunk(chunkKeys[i], containers[i].and(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        replaceWith(result);
+    }
+
+    /**
+     * Adds the ids of {@code other} to this set.
+     */
+    public void or(TaskIdSet other) {
+        requireNonNull(other);
+        TaskIdSet result = new TaskIdSet();
+        int i = 0;
+        int j = 0;
+        while (i < chunkCount || j < other.chunkCount) {
+            if (j == other.chunkCount || i < chunkCount && chunkKeys[i] < other.chunkKeys[j]) {
+                result.appendChunk(chunkKeys[i], containers[i]);
+                i++;
+            } else if (i == chunkCount || chunkKeys[i] > other.chunkKeys[j]) {
+                result.appendChunk(other.chunkKeys[j], other.containers[j].copy());
+                j++;
+            } else {
+                result.appendChunk(chunkKeys[i], containers[i].or(other.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        replaceWith(result);
+    }
+
+    /**
+     * Removes the ids of {@code other} from this set.
+     */
+    public void andNot(TaskIdSet other) {
+        requireNonNull(other);
+        TaskIdSet result = new TaskIdSet();
+        int j = 0;
+        for (int i = 0; i < chunkCount; i++) {
+            while (j < other.chunkCount && other.chunkKeys[j] < chunkKeys[i]) {
+                j++;
+            }
+            boolean isInOther = j < other.chunkCount && other.chunkKeys[j] == chunkKeys[i];
+            result.appendChunk(chunkKeys[i], isInOther ? containers[i].andNot(other.containers[j]) : containers[i]);
+        }
+        replaceWith(result);
+    }
+
+    /**
+     * Returns a copy of this set, which can be modified without affecting this set.
+     */
+    public TaskIdSet copy() {
+        TaskIdSet copy = new TaskIdSet();
+        for (int i = 0; i < chunkCount; i++) {
+            copy.appendChunk(chunkKeys[i], containers[i].copy());
+        }
+        return copy;
+    }
+
+    /**
+     * Passes each id in this set to {@code action}, in ascending order.
+     */
+    public void forEach(IntConsumer action) {
+        requireNonNull(action);
+        for (int i = 0; i < chunkCount; i++) {
+            containers[i].forEach(chunkKeys[i] << CHUNK_BITS, action);
+        }
+    }
+
+    /**
+     * Returns the ids in this set, in ascending order.
+     */
+    public int[] toArray() {
+        int[] ids = new int[size];
+        int[] idCount = {0};
+        forEach(id -> ids[idCount[0]++] = id);
+        return ids;
+    }
+
+    /**
+     * Returns the index of the chunk with {@code chunkKey}, or {@code -(insertion point) - 1} if
+     * this set has no ids in that chunk.
+     */
+    private int findChunk(char chunkKey) {
+        return Arrays.binarySearch(chunkKeys, 0, chunkCount, chunkKey);
+    }
+
+    /**
+     * Inserts a chunk with {@code chunkKey} and {@code container} at index {@code chunk}.
+     */
+    private void insertChunk(int chunk, char chunkKey, Container container) {
+        if (chunkCount == chunkKeys.length) {
+            int capacity = Math.max(4, chunkCount * 2);
+            chunkKeys = Arrays.copyOf(chunkKeys, capacity);
+            containers = Arrays.copyOf(containers, capacity);
+        }
+        System.arraycopy(chunkKeys, chunk, chunkKeys, chunk + 1, chunkCount - chunk);
+        System.arraycopy(containers, chunk, containers, chunk + 1, chunkCount - chunk);
+        chunkKeys[chunk] = chunkKey;
+        containers[chunk] = container;
+        chunkCount++;
+    }
+
+    /**
+     * Removes the chunk at index {@code chunk}.
+     */
+    private void removeChunk(int chunk) {
+        System.arraycopy(chunkKeys, chunk + 1, chunkKeys, chunk, chunkCount - chunk - 1);
+        System.arraycopy(containers, chunk + 1, containers, chunk, chunkCount - chunk - 1);
+        chunkCount--;
+        containers[chunkCount] = null;
+    }
+
+    /**
+     * Adds a chunk with {@code chunkKey}, which is greater than the key of every chunk of this set,
+     * unless {@code container} is empty.
+     */
+    private void appendChunk(char chunkKey, Container container) {
+        if (container.size() > 0) {
+            insertChunk(chunkCount, chunkKey, container);
+            size += container.size();
+        }
+    }
+
+    /**
+     * Makes this set hold the ids of {@code other}, which must not be used afterwards.
+     */
+    private void replaceWith(TaskIdSet other) {
+        chunkKeys = other.chunkKeys;
+        containers = other.containers;
+        chunkCount = other.chunkCount;
+        size = other.size;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof TaskIdSet // instanceof handles nulls
+            && size == ((TaskIdSet) other).size
+            && Arrays.equals(toArray(), ((TaskIdSet) other).toArray())); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(toArray());
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        forEach(id -> joiner.add(Integer.toString(id)));
+        return joiner.toString();
+    }
+
+    /**
+     * The lower 16 bits of the ids in one chunk of a {@code TaskIdSet}. Operations that change the
+     * kind of container that suits the ids return a new container; the others may return this one.
+     * Operations that combine two containers always return a new container.
+     */
+    private abstract static class Container {
+
+        abstract int size();
+
+        abstract boolean contains(char low);
+
+        abstract Container add(char low);
+
+        abstract Container remove(char low);
+
+        abstract Container and(Container other);
+
+        abstract Container or(Container other);
+
+        abstract Container andNot(Container other);
+
+        abstract Container copy();
+
+        /**
+         * Passes each id in this container to {@code action}, in ascending order, with
+         * {@code highBits} as its upper bits.
+         */
+        abstract void forEach(int highBits, IntConsumer action);
+    }
+
+    /**
+     * A container of at most {@code ARRAY_CONTAINER_MAX_SIZE} ids, as a sorted array.
+     */
+    private static class ArrayContainer extends Container {
+        private char[] values;
+        private int size;
+
+        ArrayContainer() {
+            this(new char[1], 0);
+        }
+
+        ArrayContainer(char[] values, int size) {
+            this.values = values;
+            this.size = size;
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return Arrays.binarySearch(values, 0, size, low) >= 0;
+        }
+
+        @Override
+        Container add(char low) {
+            boolean isLargest = size == 0 || values[size - 1] < low;
+            int index = isLargest ? -size - 1 : Arrays.binarySearch(values, 0, size, low);
+            if (index >= 0) {
+                return this;
+            }
+            if (size == ARRAY_CONTAINER_MAX_SIZE) {
+                return toBitmap().add(low);
+            }
+            index = -index - 1;
+            if (size == values.length) {
+                values = Arrays.copyOf(values, Math.min(size + (size >> 1) + 1, ARRAY_CONTAINER_MAX_SIZE));
+            }
+            System.arraycopy(values, index, values, index + 1, size - index);
+            values[index] = low;
+            size++;
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            int index = Arrays.binarySearch(values, 0, size, low);
+            if (index >= 0) {
+                System.arraycopy(values, index + 1, values, index, size - index - 1);
+                size--;
+            }
+            return this;
+        }
+
+        @Override
+        Container and(Container other) {
+            char[] result = new char[size];
+            int resultSize = 0;
+            for (int i = 0; i < size; i++) {
+                if (other.contains(values[i])) {
+                    result[resultSize++] = values[i];
+                }
+            }
+            return new ArrayContainer(Arrays.copyOf(result, resultSize), resultSize);
+        }
+
+        @Override
+        Container or(Container other) {
+            if (other instanceof BitmapContainer) {
+                return other.or(this);
+            }
+            ArrayContainer otherArray = (ArrayContainer) other;
+            char[] result = new char[size + otherArray.size];
+            int resultSize = 0;
+            int i = 0;
+            int j = 0;
+            while (i < size || j < otherArray.size) {
+                if (j == otherArray.size || i < size && values[i] < otherArray.values[j]) {
+                    result[resultSize++] = values[i++];
+                } else if (i == size || values[i] > otherArray.values[j]) {
+                    result[resultSize++] = otherArray.values[j++];
+                } else {
+                    result[resultSize++] = values[i++];
+                    j++;
+                }
+            }
+            ArrayContainer union = new ArrayContainer(Arrays.copyOf(result, resultSize), resultSize);
+            return resultSize > ARRAY_CONTAINER_MAX_SIZE ? union.toBitmap() : union;
+        }
+
+        @Override
+        Container andNot(Container other) {
+            char[] result = new char[size];
+            int resultSize = 0;
+            for (int i = 0; i < size; i++) {
+                if (!other.contains(values[i])) {
+                    result[resultSize++] = values[i];
+                }
+            }
+            return new ArrayContainer(Arrays.copyOf(result, resultSize), resultSize);
+        }
+
+        @Override
+        Container copy() {
+            return new ArrayContainer(Arrays.copyOf(values, size), size);
+        }
+
+        @Override
+        void forEach(int highBits, IntConsumer action) {
+            for (int i = 0; i < size; i++) {
+                action.accept(highBits | values[i]);
+            }
+        }
+
+        /**
+         * Returns a bitmap container of the ids in this container.
+         */
+        private BitmapContainer toBitmap() {
+            BitmapContainer bitmap = new BitmapContainer();
+            for (int i = 0; i < size; i++) {
+                bitmap.add(values[i]);
+            }
+            return bitmap;
+        }
+    }
+
+    /**
+     * A container of more than {@code ARRAY_CONTAINER_MAX_SIZE} ids, as a bitmap of 65536 bits.
+     */
+    private static class BitmapContainer extends Container {
+        private static final int WORD_COUNT = (1 << CHUNK_BITS) / Long.SIZE;
+
+        private final long[] words;
+        private int size;
+
+        BitmapContainer() {
+            this(new long[WORD_COUNT], 0);
+        }
+
+        BitmapContainer(long[] words, int size) {
+            this.words = words;
+            this.size = size;
+        }
+
+        /**
+         * Returns a container of the ids in {@code words}: a bitmap container, or an array container
+         * if there are few enough of them.
+         */
+        static Container of(long[] words) {
+            int size = 0;
+            for (long word : words) {
+                size += Long.bitCount(word);
+            }
+            BitmapContainer bitmap = new BitmapContainer(words, size);
+            return size > ARRAY_CONTAINER_MAX_SIZE ? bitmap : bitmap.toArrayContainer();
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        boolean contains(char low) {
+            return (words[low >>> 6] & (1L << low)) != 0;
+        }
+
+        @Override
+        Container add(char low) {
+            if (!contains(low)) {
+                words[low >>> 6] |= 1L << low;
+                size++;
+            }
+            return this;
+        }
+
+        @Override
+        Container remove(char low) {
+            if (contains(low)) {
+                words[low >>> 6] &= ~(1L << low);
+                size--;
+            }
+            return size > ARRAY_CONTAINER_MAX_SIZE ? this : toArrayContainer();
+        }
+
+        @Override
+        Container and(Container other) {
+            if (other instanceof ArrayContainer) {
+                return other.and(this);
+            }
+            long[] otherWords = ((BitmapContainer) other).words;
+            long[] result = new long[WORD_COUNT];
+            for (int i = 0; i < WORD_COUNT; i++) {
+                result[i] = words[i] & otherWords[i];
+            }
+            return of(result);
+        }
+
+        @Override
+        Container or(Container other) {
+            long[] result = words.clone();
+            if (other instanceof ArrayContainer) {
+                other.forEach(0, low -> result[low >>> 6] |= 1L << low);
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+                for (int i = 0; i < WORD_COUNT; i++) {
+                    result[i] |= otherWords[i];
+                }
+            }
+            return of(result);
+        }
+
+        @Override
+        Container andNot(Container other) {
+            long[] result = words.clone();
+            if (other instanceof ArrayContainer) {
+                other.forEach(0, low -> result[low >>> 6] &= ~(1L << low));
+            } else {
+                long[] otherWords = ((BitmapContainer) other).words;
+                for (int i = 0; i < WORD_COUNT; i++) {
+                    result[i] &= ~otherWords[i];
+                }
+            }
+            return of(result);
+        }
+
+        @Override
+        Container copy() {
+            return new BitmapContainer(words.clone(), size);
+        }
+
+        @Override
+        void forEach(int highBits, IntConsumer action) {
+            for (int i = 0; i < WORD_COUNT; i++) {
+                for (long word = words[i]; word != 0; word &= word - 1) {
+                    action.accept(highBits | (i << 6) | Long.numberOfTrailingZeros(word));
+                }
+            }
+        }
+
+        /**
+         * Returns an array container of the ids in this container.
+         */
+        private ArrayContainer toArrayContainer() {
+            char[] values = new char[size];
+            int[] valueCount = {0};
+            forEach(0, low -> values[valueCount[0]++] = (char) low);
+            return new ArrayContainer(values, size);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * An inverted index over an {@code ObservableList<Task>}, from each key of a task to a
+ * {@code TaskIdSet} of the ids of the tasks with that key, kept in step with the list by listening to
+ * its changes. The keys of a task are given by a key function, such as the task's tags.
+ * <p>
+ * Queries combine the postings with set intersection, union and difference. Ids are not dense: they
+ * are never reused, and tasks loaded from a file keep the ids they were saved with. The postings are
+ * compressed sets, so a key with few tasks takes space in proportion to its tasks rather than to the
+ * largest id. The ids in the indexed list must be unique.
+ * <p>
+ * A posting keeps the number of its ids, so the number of tasks with a key is read in O(1) time.
+ *
+ * @param <K> the type of the keys, which must implement {@code equals} and {@code hashCode}.
+ */
+public class TaskInvertedIndex<K> implements ListChangeListener<Task> {
+
+    private final Function<Task, ? extends Collection<K>> keysFunction;
+    private final Map<K, TaskIdSet> postings = new HashMap<>();
+    private final TaskIdSet allTaskIds = new TaskIdSet();
+
+    /**
+     * Creates an index over {@code source} keyed by {@code keysFunction}, and registers it as a
+     * listener of {@code source}.
+     */
+    public TaskInvertedIndex(ObservableList<Task> source, Function<Task, ? extends Collection<K>> keysFunction) {
+        requireNonNull(source);
+        requireNonNull(keysFunction);
+        this.keysFunction = keysFunction;
+        source.forEach(this::addTask);
+        source.addListener(this);
+    }
+
+    /**
+     * Returns the ids of the tasks with the given {@code key}.
+     */
+    public TaskIdSet getTaskIds(K key) {
+        requireNonNull(key);
+        TaskIdSet taskIds = postings.get(key);
+        return taskIds == null ? new TaskIdSet() : taskIds.copy();
+    }
+
+    /**
+     * Returns the number of tasks with the given {@code key}.
+     */
+    public int getTaskCount(K key) {
+        requireNonNull(key);
+        TaskIdSet taskIds = postings.get(key);
+        return taskIds == null ? 0 : taskIds.size();
+    }
+
+    /**
+     * Returns the number of tasks in the indexed list.
+     */
+    public int getTaskCount() {
+        return allTaskIds.size();
+    }
+
+    /**
+     * Returns the ids of the tasks with all of the given {@code keys}, or of all tasks if there are
+     * no keys. The postings are intersected from the smallest, so that each intersection is at most
+     * as large as the smallest posting.
+     */
+    public TaskIdSet getTaskIdsWithAll(Collection<K> keys) {
+        List<TaskIdSet> keyTaskIds = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            TaskIdSet taskIds = postings.get(key);
+            if (taskIds == null) {
+                return new TaskIdSet();
+            }
+            keyTaskIds.add(taskIds);
+        }
+        if (keyTaskIds.isEmpty()) {
+            return getAllTaskIds();
+        }
+        keyTaskIds.sort(Comparator.comparingInt(TaskIdSet::size));
+        TaskIdSet taskIds = keyTaskIds.get(0).copy();
+        for (int i = 1; i < keyTaskIds.size() && !taskIds.isEmpty(); i++) {
+            taskIds.and(keyTaskIds.get(i));
+        }
+        return taskIds;
+    }
+
+    /**
+     * Returns the ids of the tasks with any of the given {@code keys}.
+     */
+    public TaskIdSet getTaskIdsWithAny(Collection<K> keys) {
+        TaskIdSet taskIds = new TaskIdSet();
+        for (K key : keys) {
+            TaskIdSet keyTaskIds = postings.get(key);
+            if (keyTaskIds != null) {
+                taskIds.or(keyTaskIds);
+            }
+        }
+        return taskIds;
+    }
+
+    /**
+     * Returns the ids of the tasks whose keys are all among the given {@code keys}, including the
+     * tasks without keys.
+     */
+    public TaskIdSet getTaskIdsWithOnly(Collection<K> keys) {
+        TaskIdSet taskIds = getAllTaskIds();
+        for (Map.Entry<K, TaskIdSet> posting : postings.entrySet()) {
+            if (!keys.contains(posting.getKey())) {
+                taskIds.andNot(posting.getValue());
+            }
+        }
+        return taskIds;
+    }
+
+    /**
+     * Returns the ids of all tasks in the indexed list.
+     */
+    public TaskIdSet getAllTaskIds() {
+        return allTaskIds.copy();
+    }
+
+    /**
+     * Returns the keys of the tasks in the indexed list.
+     */
+    public Set<K> getKeys() {
+        return Collections.unmodifiableSet(postings.keySet());
+    }
+
+    @Override
+    public void onChanged(Change<? extends Task> change) {
+        while (change.next()) {
+            if (change.wasPermutated() || change.wasUpdated()) {
+                continue;
+            }
+            change.getRemoved().forEach(this::removeTask);
+            change.getAddedSubList().forEach(this::addTask);
+        }
+    }
+
+    /**
+     * Adds {@code task} to the index, under each of its keys.
+     */
+    private void addTask(Task task) {
+        allTaskIds.add(task.getId());
+        for (K key : keysFunction.apply(task)) {
+            postings.computeIfAbsent(key, unused -> new TaskIdSet()).add(task.getId());
+        }
+    }
+
+    /**
+     * Removes {@code task} from the index, dropping each of its keys that no other task has.
+     */
+    private void removeTask(Task task) {
+        allTaskIds.remove(task.getId());
+        for (K key : keysFunction.apply(task)) {
+            TaskIdSet taskIds = postings.get(key);
+            taskIds.remove(task.getId());
+            if (taskIds.isEmpty()) {
+                postings.remove(key);
+            }
+        }
+    }
+}
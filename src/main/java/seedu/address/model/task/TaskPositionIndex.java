@@ -0,0 +1,137 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+/**
+ * A hash index over an {@code ObservableList<Task>} that is kept in step with the list by listening
+ * to its changes. Each task is indexed under the key computed by the given key function, so that
+ * membership checks and position lookups by key take O(1) instead of a linear scan.
+ * <p>
+ * When several tasks share a key, {@link #indexOf(Object)} returns the position of the first of them,
+ * in agreement with {@code List#indexOf(Object)}.
+ *
+ * @param <K> the type of the keys, which must implement {@code equals} and {@code hashCode}.
+ */
+public class TaskPositionIndex<K> implements ListChangeListener<Task> {
+
+    private final ObservableList<Task> source;
+    private final Function<Task, K> keyFunction;
+
+    /** Number of tasks in {@code source} with each key. */
+    private final Map<K, Integer> occurrences = new HashMap<>();
+
+    /** Position of the first task in {@code source} with each key. */
+    private final Map<K, Integer> firstPositions = new HashMap<>();
+
+    /**
+     * Creates an index over {@code source} keyed by {@code keyFunction}, and registers it as a
+     * listener of {@code source}.
+     */
+    public TaskPositionIndex(ObservableList<Task> source, Function<Task, K> keyFunction) {
+        requireNonNull(source);
+        requireNonNull(keyFunction);
+        this.source = source;
+        this.keyFunction = keyFunction;
+        source.forEach(task -> addOccurrence(keyFunction.apply(task)));
+        reindexFrom(0);
+        source.addListener(this);
+    }
+
+    /**
+     * Returns true if the indexed list contains a task with the given {@code key}.
+     */
+    public boolean contains(K key) {
+        requireNonNull(key);
+        return occurrences.containsKey(key);
+    }
+
+    /**
+     * Returns the position of the first task in the indexed list with the given {@code key}, or -1
+     * if there is no such task.
+     */
+    public int indexOf(K key) {
+        requireNonNull(key);
+        return firstPositions.getOrDefault(key, -1);
+    }
+
+    @Override
+    public void onChanged(Change<? extends Task> change) {
+        // Appends and same-size replacements leave the other positions untouched and are
+        // handled in place. Anything that shifts elements re-indexes the tail it shifted.
+        int reindexFrom = source.size();
+        while (change.next()) {
+            int from = change.getFrom();
+            if (change.wasPermutated()) {
+                reindexFrom = Math.min(reindexFrom, from);
+                continue;
+            }
+
+            for (Task removed : change.getRemoved()) {
+                K removedKey = keyFunction.apply(removed);
+                if (removeOccurrence(removedKey) && firstPositions.get(removedKey) >= from) {
+                    reindexFrom = Math.min(reindexFrom, from);
+                }
+            }
+
+            for (int i = from; i < change.getTo(); i++) {
+                K addedKey = keyFunction.apply(source.get(i));
+                addOccurrence(addedKey);
+                Integer firstPosition = firstPositions.get(addedKey);
+                if (firstPosition == null || firstPosition > i) {
+                    firstPositions.put(addedKey, i);
+                }
+            }
+
+            boolean isShifted = change.getRemovedSize() != change.getAddedSize()
+                && change.getTo() < source.size();
+            if (isShifted) {
+                reindexFrom = Math.min(reindexFrom, from);
+            }
+        }
+        reindexFrom(reindexFrom);
+    }
+
+    private void addOccurrence(K key) {
+        occurrences.merge(key, 1, Integer::sum);
+    }
+
+    /**
+     * Records that one task with the given {@code key} has left the list.
+     *
+     * @return true if other tasks with the same {@code key} remain in the list.
+     */
+    private boolean removeOccurrence(K key) {
+        int remaining = occurrences.merge(key, -1, Integer::sum);
+        if (remaining > 0) {
+            return true;
+        }
+        occurrences.remove(key);
+        firstPositions.remove(key);
+        return false;
+    }
+
+    /**
+     * Recomputes the first positions of the keys in {@code source} from position {@code from}
+     * onwards. Positions before {@code from} are assumed to be up to date.
+     */
+    private void reindexFrom(int from) {
+        Set<K> seen = new HashSet<>();
+        for (int i = from; i < source.size(); i++) {
+            K key = keyFunction.apply(source.get(i));
+            Integer firstPosition = firstPositions.get(key);
+            boolean isBeforeRange = firstPosition != null && firstPosition < from;
+            if (!isBeforeRange && seen.add(key)) {
+                firstPositions.put(key, i);
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Orders tasks by a list of fields, each in ascending or descending order, where ties on a field are
+ * broken by the next field.
+ * <p>
+ * Each task can be compiled into a {@code SortKey} once, which holds a {@code long} per field: the
+ * deadline in epoch milliseconds, the priority, or the first three characters of a name or tag packed
+ * into 48 bits. Comparing two keys compares these numbers, and falls back to the full text only when
+ * the packed characters are equal, so that sorting many tasks does not fetch and compare their fields
+ * over and over. Names compare as {@link Name#compareTo(Name)} does, and tasks compare by their
+ * alphabetically first tag, where a task without tags comes before every task with one.
+ */
+public class TaskSortOrder implements Comparator<Task> {
+
+    private static final int PACKED_CHARACTERS = 3;
+
+    private final List<SortField> fields;
+    private final List<Boolean> isAscending;
+
+    /**
+     * Creates an order in which every task is equal.
+     */
+    public TaskSortOrder() {
+        this(Collections.emptyList(), Collections.emptyList());
+    }
+
+    private TaskSortOrder(List<SortField> fields, List<Boolean> isAscending) {
+        this.fields = fields;
+        this.isAscending = isAscending;
+    }
+
+    /**
+     * Returns an order that breaks ties of this order by {@code field}, in ascending order if
+     * {@code ascending} is true and descending order otherwise.
+     */
+    public TaskSortOrder thenBy(SortField field, boolean ascending) {
+        requireNonNull(field);
+        List<SortField> newFields = new ArrayList<>(fields);
+        newFields.add(field);
+        List<Boolean> newIsAscending = new ArrayList<>(isAscending);
+        newIsAscending.add(ascending);
+        return new TaskSortOrder(Collections.unmodifiableList(newFields),
+            Collections.unmodifiableList(newIsAscending));
+    }
+
+    /**
+     * Returns the sort key of {@code task} in this order.
+     */
+    public SortKey keyOf(Task task) {
+        requireNonNull(task);
+        long[] numbers = new long[fields.size()];
+        String[] texts = new String[fields.size()];
+        for (int i = 0; i < fields.size(); i++) {
+            switch (fields.get(i)) {
+            case NAME:
+                texts[i] = task.getName().value;
+                numbers[i] = packPrefix(texts[i]);
+                break;
+            case DUE:
+                numbers[i] = task.getDeadline().value.getTime();
+                break;
+            case PRIORITY:
+                numbers[i] = Long.parseLong(task.getPriority().value);
+                break;
+            case TAG:
+                texts[i] = firstTagName(task);
+                numbers[i] = packPrefix(texts[i]);
+                break;
+            default:
+                throw new AssertionError("Unknown sort field: " + fields.get(i));
+            }
+        }
+        return new SortKey(numbers, texts);
+    }
+
+    /**
+     * Compares two keys made by {@link #keyOf(Task)} of this order.
+     */
+    public int compareKeys(SortKey first, SortKey second) {
+        for (int i = 0; i < first.numbers.length; i++) {
+            int comparison = Long.compare(first.numbers[i], second.numbers[i]);
+            if (comparison == 0 && first.texts[i] != null) {
+                comparison = first.texts[i].compareTo(second.texts[i]);
+            }
+            if (comparison != 0) {
+                return isAscending.get(i) ? comparison : -comparison;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public int compare(Task first, Task second) {
+        return compareKeys(keyOf(first), keyOf(second));
+    }
+
+    /**
+     * Returns the first {@value #PACKED_CHARACTERS} characters of {@code text} packed into a
+     * non-negative {@code long}, so that the numbers compare in the same order as the prefixes.
+     */
+    private static long packPrefix(String text) {
+        long packed = 0;
+        for (int i = 0; i < PACKED_CHARACTERS; i++) {
+            packed = (packed << Character.SIZE) | (i < text.length() ? text.charAt(i) : 0);
+        }
+        return packed;
+    }
+
+    /**
+     * Returns the alphabetically first tag name of {@code task}, or an empty string if it has no tags.
+     */
+    private static String firstTagName(Task task) {
+        String firstTagName = "";
+        for (Tag tag : task.getTags()) {
+            if (firstTagName.isEmpty() || tag.tagName.compareTo(firstTagName) < 0) {
+                firstTagName = tag.tagName;
+            }
+        }
+        return firstTagName;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+            || (other instanceof TaskSortOrder // instanceof handles nulls
+            && fields.equals(((TaskSortOrder) other).fields)
+            && isAscending.equals(((TaskSortOrder) other).isAscending)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return fields.hashCode() * 31 + isAscending.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < fields.size(); i++) {
+            builder.append(i == 0 ? "" : " ").append(fields.get(i)).append(isAscending.get(i) ? '<' : '>');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * The precomputed fields of a task by which it is sorted in a {@code TaskSortOrder}.
+     */
+    public static final class SortKey {
+        private final long[] numbers;
+        /** The full text of each text field, or null for a numeric field. */
+        private final String[] texts;
+
+        private SortKey(long[] numbers, String[] texts) {
+            this.numbers = numbers;
+            this.texts = texts;
+        }
+    }
+}
@@ -3,8 +3,11 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -24,13 +27,15 @@ import seedu.address.model.task.exceptions.TaskNotFoundException;
 public class UniqueTaskList implements Iterable<Task> {
 
     private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    private final TaskPositionIndex<Task> internalIndex =
+        new TaskPositionIndex<>(internalList, Function.identity());
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        return internalIndex.contains(toCheck);
     }
 
     /**
@@ -52,7 +57,7 @@ public class UniqueTaskList implements Iterable<Task> {
     public void setTask(Task target, Task editedTask) {
         requireAllNonNull(target, editedTask);
 
-        int index = internalList.indexOf(target);
+        int index = internalIndex.indexOf(target);
         if (index == -1) {
             throw new TaskNotFoundException();
         }
@@ -69,9 +74,11 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalIndex.indexOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
+        internalList.remove(index);
     }
 
     public void setTasks(UniqueTaskList replacement) {
@@ -120,11 +127,10 @@ public class UniqueTaskList implements Iterable<Task> {
      * Returns true if {@code tasks} contains only unique tasks.
      */
     private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).equals(tasks.get(j))) {
-                    return false;
-                }
+        Set<Task> seenTasks = new HashSet<>();
+        for (Task task : tasks) {
+            if (!seenTasks.add(task)) {
+                return false;
             }
         }
         return true;
@@ -0,0 +1,136 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.collections.ModifiableObservableListBase;
+
+/**
+ * An observable array list whose changes can be grouped, so that listeners see a batch of additions,
+ * removals and replacements as one {@code ListChangeListener.Change}.
+ * <p>
+ * Unlike {@code FXCollections.observableArrayList()}, ranges are inserted and removed by shifting the
+ * backing array once, rather than once per element.
+ *
+ * @param <E> the type of elements in this list.
+ */
+public class BatchObservableList<E> extends ModifiableObservableListBase<E> {
+
+    private List<E> elements = new ArrayList<>();
+
+    /**
+     * Runs {@code changes}, which may modify this list any number of times, and reports all of their
+     * modifications to the listeners of this list as a single change once they are done.
+     */
+    public void applyAsOneChange(Runnable changes) {
+        requireNonNull(changes);
+        beginChange();
+        try {
+            changes.run();
+        } finally {
+            endChange();
+        }
+    }
+
+    /**
+     * Removes the elements at the set bits of {@code indexes} as a single change, in O(n) time.
+     *
+     * @throws IndexOutOfBoundsException if an index is out of range.
+     */
+    public void removeAt(BitSet indexes) {
+        requireNonNull(indexes);
+        if (indexes.isEmpty()) {
+            return;
+        }
+        Objects.checkIndex(indexes.length() - 1, size());
+
+        List<E> kept = new ArrayList<>(size() - indexes.cardinality());
+        for (int i = indexes.nextClearBit(0); i < size(); i = indexes.nextClearBit(i + 1)) {
+            kept.add(elements.get(i));
+        }
+
+        beginChange();
+        try {
+            // runs are reported from the last, so that the positions of the earlier ones still hold
+            int last = indexes.length() - 1;
+            while (last >= 0) {
+                int first = indexes.previousClearBit(last) + 1;
+                nextRemove(first, new ArrayList<>(elements.subList(first, last + 1)));
+                last = indexes.previousSetBit(first - 1);
+            }
+            elements = kept;
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    public E get(int index) {
+        return elements.get(index);
+    }
+
+    @Override
+    public int size() {
+        return elements.size();
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        return addAll(size(), collection);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends E> collection) {
+        Objects.checkIndex(index, size() + 1);
+        if (collection.isEmpty()) {
+            return false;
+        }
+        beginChange();
+        try {
+            elements.addAll(index, collection);
+            nextAdd(index, index + collection.size());
+            modCount++;
+        } finally {
+            endChange();
+        }
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        if (fromIndex == toIndex) {
+            return;
+        }
+        beginChange();
+        try {
+            List<E> range = elements.subList(fromIndex, toIndex);
+            nextRemove(fromIndex, new ArrayList<>(range));
+            range.clear();
+            modCount++;
+        } finally {
+            endChange();
+        }
+    }
+
+    @Override
+    protected void doAdd(int index, E element) {
+        elements.add(index, element);
+    }
+
+    @Override
+    protected E doSet(int index, E element) {
+        return elements.set(index, element);
+    }
+
+    @Override
+    protected E doRemove(int index) {
+        return elements.remove(index);
+    }
+}
@@ -0,0 +1,356 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An immutable list that shares structure with the lists it was derived from.
+ * <p>
+ * The elements are kept in a treap ordered by position. Every update copies only the nodes on the
+ * paths it touches and returns a new list, leaving this list unchanged. Updating one element
+ * therefore takes O(log n) time and space, and the new list shares all other nodes with this one,
+ * which makes it cheap to keep many versions of a large list around.
+ *
+ * @param <E> the type of elements in this list.
+ */
+public final class PersistentList<E> implements Iterable<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list with the given {@code elements}, in the same order. Takes O(n) time.
+     */
+    public static <E> PersistentList<E> of(List<? extends E> elements) {
+        requireNonNull(elements);
+        return new PersistentList<>(build(elements));
+    }
+
+    public int size() {
+        return sizeOf(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public E get(int index) {
+        Objects.checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns a list with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PersistentList<E> set(int index, E element) {
+        Objects.checkIndex(index, size());
+        return new PersistentList<>(setAt(root, index, element));
+    }
+
+    /**
+     * Returns a list with {@code element} inserted at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PersistentList<E> add(int index, E element) {
+        Objects.checkIndex(index, size() + 1);
+        return replace(index, index, List.of(element));
+    }
+
+    /**
+     * Returns a list with the element at {@code index} removed.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is out of range.
+     */
+    public PersistentList<E> remove(int index) {
+        Objects.checkIndex(index, size());
+        return replace(index, index + 1, List.of());
+    }
+
+    /**
+     * Returns a list with the elements from {@code fromIndex} (inclusive) to {@code toIndex}
+     * (exclusive) replaced by {@code elements}. Takes O(log n + k) time, where k is the number of
+     * elements inserted.
+     *
+     * @throws IndexOutOfBoundsException if the range is out of bounds.
+     */
+    public PersistentList<E> replace(int fromIndex, int toIndex, List<? extends E> elements) {
+        requireNonNull(elements);
+        Objects.checkFromToIndex(fromIndex, toIndex, size());
+        Split<E> head = split(root, fromIndex);
+        Split<E> tail = split(head.right, toIndex - fromIndex);
+        return new PersistentList<>(merge(merge(head.left, build(elements)), tail.right));
+    }
+
+    /**
+     * Returns the index of the first element that is not less than {@code key}, or the size of this
+     * list if there is none. This list must be sorted by {@code comparator}. Takes O(log n) time.
+     */
+    public int lowerBound(E key, Comparator<? super E> comparator) {
+        requireNonNull(comparator);
+        int index = 0;
+        Node<E> node = root;
+        while (node != null) {
+            if (comparator.compare(node.value, key) < 0) {
+                index += sizeOf(node.left) + 1;
+                node = node.right;
+            } else {
+                node = node.left;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Returns the elements of this list as a new mutable {@code List}.
+     */
+    public List<E> toList() {
+        List<E> list = new ArrayList<>(size());
+        forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Returns an iterator over the elements of this list from the last to the first.
+     */
+    public Iterator<E> descendingIterator() {
+        return new TreeIterator<>(root, true);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new TreeIterator<>(root, false);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof PersistentList)) {
+            return false;
+        }
+
+        PersistentList<?> otherList = (PersistentList<?>) other;
+        if (root == otherList.root) {
+            return true;
+        }
+        if (size() != otherList.size()) {
+            return false;
+        }
+        Iterator<?> otherIterator = otherList.iterator();
+        for (E element : this) {
+            if (!Objects.equals(element, otherIterator.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hashCode = 1;
+        for (E element : this) {
+            hashCode = 31 * hashCode + Objects.hashCode(element);
+        }
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return toList().toString();
+    }
+
+    //// treap operations
+
+    private static int sizeOf(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * Builds a treap holding {@code elements} in O(n) time, by building the Cartesian tree of
+     * randomly drawn priorities with a stack of the rightmost path.
+     */
+    private static <E> Node<E> build(List<? extends E> elements) {
+        Deque<Node<E>> rightPath = new ArrayDeque<>();
+        for (E element : elements) {
+            int priority = ThreadLocalRandom.current().nextInt();
+            Node<E> left = null;
+            while (!rightPath.isEmpty() && rightPath.peek().priority < priority) {
+                Node<E> popped = rightPath.pop();
+                left = popped.withChildren(popped.left, left);
+            }
+            rightPath.push(new Node<>(element, priority, left, null));
+        }
+
+        Node<E> built = null;
+        while (!rightPath.isEmpty()) {
+            Node<E> popped = rightPath.pop();
+            built = popped.withChildren(popped.left, built);
+        }
+        return built;
+    }
+
+    /**
+     * Returns a copy of {@code node} with the element at {@code index} replaced by {@code element}.
+     */
+    private static <E> Node<E> setAt(Node<E> node, int index, E element) {
+        int leftSize = sizeOf(node.left);
+        if (index < leftSize) {
+            return node.withChildren(setAt(node.left, index, element), node.right);
+        } else if (index == leftSize) {
+            return new Node<>(element, node.priority, node.left, node.right);
+        } else {
+            return node.withChildren(node.left, setAt(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    /**
+     * Splits {@code node} into a treap of its first {@code count} elements and a treap of the rest.
+     */
+    private static <E> Split<E> split(Node<E> node, int count) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        int leftSize = sizeOf(node.left);
+        if (count <= leftSize) {
+            Split<E> leftSplit = split(node.left, count);
+            return new Split<>(leftSplit.left, node.withChildren(leftSplit.right, node.right));
+        } else {
+            Split<E> rightSplit = split(node.right, count - leftSize - 1);
+            return new Split<>(node.withChildren(node.left, rightSplit.left), rightSplit.right);
+        }
+    }
+
+    /**
+     * Joins two treaps, where all elements of {@code left} come before those of {@code right}.
+     */
+    private static <E> Node<E> merge(Node<E> left, Node<E> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority >= right.priority) {
+            return left.withChildren(left.left, merge(left.right, right));
+        } else {
+            return right.withChildren(merge(left, right.left), right.right);
+        }
+    }
+
+    /**
+     * An immutable treap node, which also records the size of its subtree.
+     */
+    private static final class Node<E> {
+        private final E value;
+        private final int priority;
+        private final int size;
+        private final Node<E> left;
+        private final Node<E> right;
+
+        private Node(E value, int priority, Node<E> left, Node<E> right) {
+            this.value = value;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + 1 + sizeOf(right);
+        }
+
+        private Node<E> withChildren(Node<E> newLeft, Node<E> newRight) {
+            return new Node<>(value, priority, newLeft, newRight);
+        }
+    }
+
+    /**
+     * The two treaps resulting from a split.
+     */
+    private static final class Split<E> {
+        private final Node<E> left;
+        private final Node<E> right;
+
+        private Split(Node<E> left, Node<E> right) {
+            this.left = left;
+            this.right = right;
+        }
+    }
+
+    /**
+     * An in-order iterator over a treap, in either direction.
+     */
+    private static final class TreeIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+        private final boolean isDescending;
+
+        private TreeIterator(Node<E> root, boolean isDescending) {
+            this.isDescending = isDescending;
+            pushEdge(root);
+        }
+
+        /**
+         * Pushes {@code node} and its chain of first children in iteration order onto the path.
+         */
+        private void pushEdge(Node<E> node) {
+            while (node != null) {
+                path.push(node);
+                node = isDescending ? node.right : node.left;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushEdge(isDescending ? node.left : node.right);
+            return node.value;
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package seedu.address.model.util;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.InputMismatchException;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -21,36 +21,51 @@ public class SetUtil {
      * Constructs a predicate from the given operator and test phrase.
      * Test phrase should be a comma-separated list of values.
      *
-     * @param klass      The class that this filter is being made for.
+     * @param itemParser The function that constructs an item from a value in the test phrase.
      * @param operator   The operator for this predicate.
      * @param testPhrase The test phrase for this predicate.
      */
-    public static <T> Predicate<Set<T>> makeFilter(Class<T> klass, FilterOperator operator, String testPhrase)
-        throws InvalidPredicateException {
+    public static <T> Predicate<Set<T>> makeFilter(Function<String, T> itemParser, FilterOperator operator,
+                                                   String testPhrase) throws InvalidPredicateException {
+        return makeFilter(operator, parseItems(itemParser, testPhrase));
+    }
+
+    /**
+     * Constructs a predicate from the given operator and set of items.
+     *
+     * @param operator The operator for this predicate.
+     * @param items    The items to compare sets against.
+     */
+    public static <T> Predicate<Set<T>> makeFilter(FilterOperator operator, Set<T> items)
+        throws InvalidPredicateOperatorException {
+        switch (operator) {
+        case EQUAL:
+            return set -> set.equals(items);
+        case LESS:
+            return set -> set.stream().allMatch(item -> items.contains(item));
+        case CONVENIENCE: // convenience operator, works the same as ">"
+        case GREATER:
+            return set -> items.stream().allMatch(item -> set.contains(item));
+        default:
+            throw new InvalidPredicateOperatorException();
+        }
+    }
+
+    /**
+     * Parses the items in the given comma-separated test phrase, where each value may be quoted.
+     *
+     * @param itemParser The function that constructs an item from a value in the test phrase.
+     * @param testPhrase The test phrase to parse.
+     * @throws InvalidPredicateTestPhraseException if the test phrase or one of its values is invalid.
+     */
+    public static <T> Set<T> parseItems(Function<String, T> itemParser, String testPhrase)
+        throws InvalidPredicateTestPhraseException {
         try {
             // comma-separated quotable tokenizer
             StringTokenizer tokenizer = new StringTokenizer(testPhrase,
                 ch -> ch == ',', ch -> ch == '\'' || ch == '\"');
-            Set<T> items = tokenizer.toList().stream().map(token -> {
-                try {
-                    return klass.getDeclaredConstructor(String.class).newInstance(token);
-                } catch (NoSuchMethodException | InstantiationException | IllegalAccessException
-                    | InvocationTargetException e) {
-                    throw new IllegalArgumentException("Class does not support construction from a single string", e);
-                }
-            }).collect(Collectors.toSet());
-            switch (operator) {
-            case EQUAL:
-                return set -> set.equals(items);
-            case LESS:
-                return set -> set.stream().allMatch(item -> items.contains(item));
-            case CONVENIENCE: // convenience operator, works the same as ">"
-            case GREATER:
-                return set -> items.stream().allMatch(item -> set.contains(item));
-            default:
-                throw new InvalidPredicateOperatorException();
-            }
-        } catch (InputMismatchException e) {
+            return tokenizer.toList().stream().map(itemParser).collect(Collectors.toSet());
+        } catch (InputMismatchException | IllegalArgumentException e) {
             throw new InvalidPredicateTestPhraseException(e);
         }
     }
@@ -0,0 +1,144 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.ReadOnlyTaskCollection;
+import seedu.address.model.TaskCollectionSnapshot;
+
+/**
+ * Saves a deadline manager to a {@code TaskCollectionStorage} on a background thread, so that the thread
+ * which changes the deadline manager does not wait for the disk.
+ * <p>
+ * While a save is in progress, only the latest snapshot handed to {@link #save(ReadOnlyTaskCollection)}
+ * is kept, so a burst of changes is written as a single save of the state after the last of them. A
+ * {@code TaskCollectionSnapshot} that replaces a waiting one takes over its deltas, so that the saved
+ * snapshot still carries every change since the last save. Snapshots must not change after they are
+ * handed over.
+ */
+public class BackgroundTaskCollectionSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(BackgroundTaskCollectionSaver.class);
+    private static final String WRITER_THREAD_NAME = "task-collection-writer";
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 60;
+
+    private final TaskCollectionStorage storage;
+    private final Consumer<IOException> failureHandler;
+    private final AtomicReference<ReadOnlyTaskCollection> pendingSnapshot = new AtomicReference<>();
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, WRITER_THREAD_NAME);
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Creates a saver that writes to {@code storage}, and calls {@code failureHandler} on the writer
+     * thread whenever a save fails.
+     */
+    public BackgroundTaskCollectionSaver(TaskCollectionStorage storage, Consumer<IOException> failureHandler) {
+        requireAllNonNull(storage, failureHandler);
+        this.storage = storage;
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Schedules {@code snapshot} to be saved, replacing any snapshot that is still waiting to be saved.
+     * Must not be called after {@link #shutdown()}.
+     */
+    public void save(ReadOnlyTaskCollection snapshot) {
+        requireNonNull(snapshot);
+        // a save is only scheduled if none is waiting, as a waiting save will pick up this snapshot
+        if (pendingSnapshot.getAndUpdate(pending -> pending == null ? snapshot : coalesce(pending, snapshot))
+            == null) {
+            writer.execute(this::savePendingSnapshot);
+        }
+    }
+
+    /**
+     * Returns the snapshot to save in place of both {@code pending} and the later {@code latest}.
+     */
+    private static ReadOnlyTaskCollection coalesce(ReadOnlyTaskCollection pending, ReadOnlyTaskCollection latest) {
+        if (!(pending instanceof TaskCollectionSnapshot) || !(latest instanceof TaskCollectionSnapshot)) {
+            return latest;
+        }
+        TaskCollectionSnapshot pendingSnapshot = (TaskCollectionSnapshot) pending;
+        TaskCollectionSnapshot latestSnapshot = (TaskCollectionSnapshot) latest;
+        if (latestSnapshot.getBaseVersion() != pendingSnapshot.getVersion()) {
+            return latest;
+        }
+        return latestSnapshot.basedOn(pendingSnapshot);
+    }
+
+    /**
+     * Saves the latest snapshot, if it has not been saved by an earlier run, and forces it to disk.
+     */
+    private void savePendingSnapshot() {
+        ReadOnlyTaskCollection snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            storage.saveTaskCollection(snapshot);
+            forceToDisk(storage.getTaskCollectionFilePath());
+        } catch (IOException e) {
+            failureHandler.accept(e);
+        }
+    }
+
+    /**
+     * Forces the content of {@code file} out of the operating system's cache onto the disk.
+     */
+    private static void forceToDisk(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+
+    /**
+     * Blocks until every snapshot handed to {@link #save(ReadOnlyTaskCollection)} before this call has
+     * been saved and forced to disk, or has failed to save.
+     */
+    public void flush() {
+        try {
+            writer.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for the deadline manager to be saved");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("An empty task cannot fail", e);
+        }
+    }
+
+    /**
+     * Stops the writer thread once every snapshot handed to {@link #save(ReadOnlyTaskCollection)} has been
+     * saved, and blocks until it has stopped.
+     */
+    public void shutdown() {
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                logger.warning("Timed out waiting for the deadline manager to be saved");
+            }
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for the deadline manager to be saved");
+            Thread.currentThread().interrupt();
+        }
+    }
+}
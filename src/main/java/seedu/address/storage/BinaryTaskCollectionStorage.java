@@ -0,0 +1,357 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTaskCollection;
+import seedu.address.model.TaskCollection;
+import seedu.address.model.attachment.Attachment;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Address;
+import seedu.address.model.task.Deadline;
+import seedu.address.model.task.Email;
+import seedu.address.model.task.Name;
+import seedu.address.model.task.Phone;
+import seedu.address.model.task.Priority;
+import seedu.address.model.task.Task;
+
+/**
+ * A class to access TaskCollection data stored in a compact binary file on the hard disk, which is
+ * smaller than the XML file and is loaded without parsing text.
+ * <p>
+ * The file is laid out as follows, with every number big-endian:
+ * <ol>
+ * <li>A header of the format's magic number and version, followed by the number of tasks, tag and
+ * attachment references, and strings in the file.</li>
+ * <li>A fixed-width record for each task, holding its id, the string indices of its name, phone, email
+ * and address, its deadline as an epoch day, its priority, and where its references start and how many
+ * tags and attachments it has.</li>
+ * <li>The references of every task, each the string index of a tag name or attachment path.</li>
+ * <li>The string table, which is the end offset of each string followed by the strings in UTF-8. A
+ * string used by many tasks, such as a common tag, is stored and decoded once.</li>
+ * <li>The CRC-32 checksum of everything before it.</li>
+ * </ol>
+ * The file is memory-mapped for loading. A file that does not start with the magic number is read as an
+ * XML file, together with its journal if it has one, so that switching an existing deadline manager to
+ * this format converts it on the next save. The journal is deleted once the binary file replaces the XML
+ * file. As the format is told from the magic number, the file can keep the name of the XML file.
+ */
+public class BinaryTaskCollectionStorage implements TaskCollectionStorage {
+
+    public static final String MESSAGE_CORRUPTED_FILE = "Binary data file is corrupted";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary data file was written by a newer version"
+        + " of the deadline manager (format version %1$d)";
+
+    static final int MAGIC = 0x444c4d42;
+    static final short VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTaskCollectionStorage.class);
+    private static final int HEADER_SIZE = Integer.BYTES + 2 * Short.BYTES + 3 * Integer.BYTES;
+    private static final int RECORD_SIZE = 7 * Integer.BYTES + 2 * Short.BYTES + Byte.BYTES;
+    private static final int CHECKSUM_SIZE = Long.BYTES;
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
+    private Path filePath;
+
+    public BinaryTaskCollectionStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getTaskCollectionFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskCollection> readTaskCollection() throws DataConversionException, IOException {
+        return readTaskCollection(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskCollection()}
+     *
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskCollection> readTaskCollection(Path filePath)
+        throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("TaskCollection file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (!isBinaryFile(channel)) {
+                logger.info("Reading " + filePath + " as XML, to be saved in binary from now on");
+                return new JournaledTaskCollectionStorage(filePath).readTaskCollection(filePath);
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return Optional.of(decode(buffer));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveTaskCollection(ReadOnlyTaskCollection taskCollection) throws IOException {
+        saveTaskCollection(taskCollection, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskCollection(ReadOnlyTaskCollection)}. The file is written in full under a
+     * temporary name and then moved over the old file, so a crash never leaves a file cut short. The
+     * journal of an XML file that was at {@code filePath} is deleted, as the binary file replaces it.
+     *
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveTaskCollection(ReadOnlyTaskCollection taskCollection, Path filePath) throws IOException {
+        requireNonNull(taskCollection);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFile = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_EXTENSION);
+        ByteBuffer buffer = encode(taskCollection.getTaskList());
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        FileUtil.moveReplacing(temporaryFile, filePath);
+        Files.deleteIfExists(JournaledTaskCollectionStorage.getJournalFilePath(filePath));
+    }
+
+    /**
+     * Returns true if {@code file} is a binary data file, which is when it starts with the magic number.
+     */
+    static boolean isBinaryFile(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return isBinaryFile(channel);
+        }
+    }
+
+    /**
+     * Returns true if the file of {@code channel} starts with the magic number.
+     */
+    private static boolean isBinaryFile(FileChannel channel) throws IOException {
+        ByteBuffer magic = ByteBuffer.allocate(Integer.BYTES);
+        while (magic.hasRemaining()) {
+            if (channel.read(magic, magic.position()) == -1) {
+                return false;
+            }
+        }
+        return magic.getInt(0) == MAGIC;
+    }
+
+    /**
+     * Returns {@code tasks} in the binary format, ready to be written.
+     *
+     * @throws IOException if the tasks are too many to fit in one file.
+     */
+    private static ByteBuffer encode(List<Task> tasks) throws IOException {
+        Map<String, Integer> stringIndices = new HashMap<>();
+        List<byte[]> strings = new ArrayList<>();
+        long stringsSize = 0;
+        int referenceCount = 0;
+        for (Task task : tasks) {
+            List<String> taskStrings = new ArrayList<>();
+            taskStrings.add(task.getName().value);
+            taskStrings.add(task.getPhone().value);
+            taskStrings.add(task.getEmail().value);
+            taskStrings.add(task.getAddress().value);
+            task.getTags().forEach(tag -> taskStrings.add(tag.tagName));
+            task.getAttachments().forEach(attachment -> taskStrings.add(toPath(attachment)));
+            for (String string : taskStrings) {
+                if (!stringIndices.containsKey(string)) {
+                    stringIndices.put(string, strings.size());
+                    byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                    strings.add(bytes);
+                    stringsSize += bytes.length;
+                }
+            }
+            referenceCount += task.getTags().size() + task.getAttachments().size();
+        }
+
+        long size = HEADER_SIZE + (long) RECORD_SIZE * tasks.size() + (long) Integer.BYTES * referenceCount
+            + (long) Integer.BYTES * strings.size() + stringsSize + CHECKSUM_SIZE;
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Deadline manager is too large to be saved in binary (" + size + " bytes)");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        buffer.putInt(MAGIC).putShort(VERSION).putShort((short) 0)
+            .putInt(tasks.size()).putInt(referenceCount).putInt(strings.size());
+
+        int referencesStart = buffer.position() + RECORD_SIZE * tasks.size();
+        int nextReference = 0;
+        for (Task task : tasks) {
+            buffer.putInt(task.getId())
+                .putInt(stringIndices.get(task.getName().value))
+                .putInt(stringIndices.get(task.getPhone().value))
+                .putInt(stringIndices.get(task.getEmail().value))
+                .putInt(stringIndices.get(task.getAddress().value))
+                .putInt(Math.toIntExact(task.getDeadline().toEpochDay()))
+                .putInt(nextReference)
+                .putShort((short) task.getTags().size())
+                .putShort((short) task.getAttachments().size())
+                .put(Byte.parseByte(task.getPriority().value));
+            for (Tag tag : task.getTags()) {
+                buffer.putInt(referencesStart + nextReference++ * Integer.BYTES, stringIndices.get(tag.tagName));
+            }
+            for (Attachment attachment : task.getAttachments()) {
+                buffer.putInt(referencesStart + nextReference++ * Integer.BYTES,
+                    stringIndices.get(toPath(attachment)));
+            }
+        }
+
+        buffer.position(referencesStart + referenceCount * Integer.BYTES);
+        int stringEnd = 0;
+        for (byte[] string : strings) {
+            stringEnd += string.length;
+            buffer.putInt(stringEnd);
+        }
+        strings.forEach(buffer::put);
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putLong(crc.getValue());
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Reads the tasks back from {@code buffer}, which holds a whole binary data file.
+     *
+     * @throws DataConversionException if the file is corrupted or from a newer version of the format.
+     * @throws IllegalValueException if a task violates a data constraint or is repeated.
+     */
+    private static TaskCollection decode(ByteBuffer buffer) throws DataConversionException, IllegalValueException {
+        try {
+            if (buffer.limit() < HEADER_SIZE + CHECKSUM_SIZE) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            ByteBuffer content = buffer.duplicate();
+            content.limit(buffer.limit() - CHECKSUM_SIZE);
+            CRC32 crc = new CRC32();
+            crc.update(content);
+            if (crc.getValue() != buffer.getLong(buffer.limit() - CHECKSUM_SIZE)) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+
+            buffer.getInt(); // magic number, which has been checked
+            short version = buffer.getShort();
+            if (version > VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            buffer.getShort(); // flags, none of which are used yet
+            int taskCount = buffer.getInt();
+            int referenceCount = buffer.getInt();
+            int stringCount = buffer.getInt();
+
+            int recordsStart = buffer.position();
+            int referencesStart = Math.addExact(recordsStart, Math.multiplyExact(RECORD_SIZE, taskCount));
+            String[] strings = decodeStrings(buffer,
+                Math.addExact(referencesStart, Math.multiplyExact(Integer.BYTES, referenceCount)), stringCount);
+
+            TaskCollection taskCollection = new TaskCollection();
+            Set<Integer> taskIds = new HashSet<>();
+            for (int i = 0; i < taskCount; i++) {
+                Task task = decodeTask(buffer, recordsStart + i * RECORD_SIZE, referencesStart, strings);
+                XmlSerializableTaskCollection.addLoadedTask(taskCollection, taskIds, task);
+            }
+            return taskCollection;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | NegativeArraySizeException
+            | ArithmeticException e) {
+            throw new DataConversionException(e);
+        } catch (IllegalArgumentException e) {
+            // a value that breaks a constraint of the model
+            throw new IllegalValueException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the {@code stringCount} strings of the string table that starts at {@code offset}.
+     */
+    private static String[] decodeStrings(ByteBuffer buffer, int offset, int stringCount) {
+        String[] strings = new String[stringCount];
+        int dataStart = Math.addExact(offset, Math.multiplyExact(Integer.BYTES, stringCount));
+        int start = 0;
+        for (int i = 0; i < stringCount; i++) {
+            int end = buffer.getInt(offset + i * Integer.BYTES);
+            byte[] bytes = new byte[end - start];
+            ByteBuffer string = buffer.duplicate();
+            string.position(dataStart + start);
+            string.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+            start = end;
+        }
+        return strings;
+    }
+
+    /**
+     * Returns the task whose record starts at {@code offset}.
+     */
+    private static Task decodeTask(ByteBuffer buffer, int offset, int referencesStart, String[] strings) {
+        ByteBuffer record = buffer.duplicate();
+        record.position(offset);
+        int id = record.getInt();
+        Name name = new Name(strings[record.getInt()]);
+        Phone phone = new Phone(strings[record.getInt()]);
+        Email email = new Email(strings[record.getInt()]);
+        Address address = new Address(strings[record.getInt()]);
+        Deadline deadline = Deadline.ofEpochDay(record.getInt());
+        int firstReference = record.getInt();
+        short tagCount = record.getShort();
+        short attachmentCount = record.getShort();
+        Priority priority = new Priority(Byte.toString(record.get()));
+
+        int referenceOffset = Math.addExact(referencesStart, Math.multiplyExact(Integer.BYTES, firstReference));
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(strings[buffer.getInt(referenceOffset)]));
+            referenceOffset += Integer.BYTES;
+        }
+        Set<Attachment> attachments = new HashSet<>();
+        for (int i = 0; i < attachmentCount; i++) {
+            attachments.add(new Attachment(new File(strings[buffer.getInt(referenceOffset)])));
+            referenceOffset += Integer.BYTES;
+        }
+        checkArgument(Task.isValidStoredId(id), Task.MESSAGE_ID_CONSTRAINTS);
+        return new Task(id, name, phone, priority, email, deadline, address, tags, attachments);
+    }
+
+    /**
+     * Returns the path of {@code attachment} as it is kept in the file, which is how the XML file keeps it.
+     */
+    private static String toPath(Attachment attachment) {
+        return attachment.file.getAbsolutePath();
+    }
+}
@@ -0,0 +1,398 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.ReadOnlyTaskCollection;
+import seedu.address.model.TaskCollection;
+import seedu.address.model.TaskCollectionSnapshot;
+import seedu.address.model.TaskDelta;
+import seedu.address.model.task.Task;
+
+/**
+ * A {@code TaskCollectionStorage} that keeps the deadline manager as an XML snapshot, in the same format
+ * as {@code XmlTaskCollectionStorage}, followed by a journal of the changes made since the snapshot.
+ * <p>
+ * A {@code TaskCollectionSnapshot} that is based on the version last saved is saved by appending its
+ * deltas to the journal as one record, so that saving an edit writes only the tasks it changed. Any
+ * other save, and a save that makes the journal larger than the snapshot, compacts the journal by
+ * writing a new snapshot and starting an empty journal. Loading reads the snapshot and replays the
+ * journal on top of it.
+ * <p>
+ * The journal starts with a header that holds the checksum of the snapshot it applies to, so a journal
+ * left over from an older snapshot is ignored. Each record holds its length and checksum, so a record
+ * that was cut short by a crash is dropped along with everything after it.
+ */
+public class JournaledTaskCollectionStorage implements TaskCollectionStorage {
+
+    public static final String JOURNAL_FILE_EXTENSION = ".journal";
+    public static final String MESSAGE_JOURNAL_MISMATCH = "Journal does not match the tasks in the snapshot";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledTaskCollectionStorage.class);
+    private static final int JOURNAL_MAGIC = 0x444c4d4a;
+    private static final int HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES;
+    private static final long MIN_COMPACTION_SIZE = 64 * 1024;
+    private static final long UNKNOWN_VERSION = -1;
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
+    private final Path filePath;
+    private final XmlTaskCollectionStorage snapshotStorage;
+
+    /** The version of the deadline manager in the files, or {@code UNKNOWN_VERSION}. */
+    private long savedVersion = UNKNOWN_VERSION;
+    private long snapshotChecksum;
+    private long snapshotSize;
+    /** The length of the journal up to the end of its last whole record. */
+    private long journalSize;
+
+    public JournaledTaskCollectionStorage(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.snapshotStorage = new XmlTaskCollectionStorage(filePath);
+    }
+
+    @Override
+    public Path getTaskCollectionFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal of the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_EXTENSION);
+    }
+
+    /**
+     * Replays the journal of the snapshot at {@code snapshotPath}, if it has one, into a new snapshot
+     * there and deletes the journal, so that the snapshot can be used as a plain XML data file without
+     * losing the changes in the journal. A journal without a snapshot is deleted.
+     *
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    public static void mergeJournal(Path snapshotPath) throws DataConversionException, IOException {
+        requireNonNull(snapshotPath);
+        Path journalPath = getJournalFilePath(snapshotPath);
+        if (!Files.isRegularFile(journalPath)) {
+            return;
+        }
+
+        JournaledTaskCollectionStorage storage = new JournaledTaskCollectionStorage(snapshotPath);
+        Optional<ReadOnlyTaskCollection> taskCollection = storage.readTaskCollection();
+        if (taskCollection.isPresent()) {
+            storage.compact(taskCollection.get());
+        }
+        Files.delete(journalPath);
+        logger.info("Merged journal " + journalPath + " into " + snapshotPath);
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskCollection> readTaskCollection() throws DataConversionException, IOException {
+        return readTaskCollection(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskCollection()}
+     *
+     * @param filePath location of the snapshot, next to which its journal is. Cannot be null
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskCollection> readTaskCollection(Path filePath)
+        throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyTaskCollection> snapshot = snapshotStorage.readTaskCollection(filePath);
+        if (!snapshot.isPresent()) {
+            return Optional.empty();
+        }
+        TaskCollection taskCollection = new TaskCollection(snapshot.get());
+        long checksum = checksumOf(filePath);
+        long replayedSize = replayJournal(getJournalFilePath(filePath), checksum, taskCollection);
+
+        if (filePath.equals(this.filePath)) {
+            // the deadline manager is loaded from here, so the next changes can be appended to the journal
+            savedVersion = TaskCollectionSnapshot.INITIAL_VERSION;
+            snapshotChecksum = checksum;
+            snapshotSize = Files.size(filePath);
+            journalSize = replayedSize;
+        }
+        return Optional.of(taskCollection);
+    }
+
+    /**
+     * Applies the records of the journal at {@code journalPath} to {@code taskCollection}, if the
+     * journal belongs to the snapshot with {@code checksum}.
+     *
+     * @return the length of the journal up to the end of its last whole record, or 0 if the journal
+     *     does not belong to the snapshot.
+     */
+    private static long replayJournal(Path journalPath, long checksum, TaskCollection taskCollection)
+        throws DataConversionException, IOException {
+        if (!Files.isRegularFile(journalPath)) {
+            return 0;
+        }
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.READ)) {
+            ByteBuffer header = readFully(channel, 0, HEADER_SIZE);
+            if (header == null || header.getInt() != JOURNAL_MAGIC || header.getLong() != checksum) {
+                logger.info("Ignoring journal " + journalPath + " that belongs to another snapshot");
+                return 0;
+            }
+
+            long offset = HEADER_SIZE;
+            int recordCount = 0;
+            while (true) {
+                ByteBuffer recordHeader = readFully(channel, offset, RECORD_HEADER_SIZE);
+                if (recordHeader == null) {
+                    break;
+                }
+                int length = recordHeader.getInt();
+                long recordChecksum = recordHeader.getLong();
+                ByteBuffer record = length < 0 ? null : readFully(channel, offset + RECORD_HEADER_SIZE, length);
+                if (record == null || checksumOf(record.array()) != recordChecksum) {
+                    logger.warning("Dropping incomplete record at the end of journal " + journalPath);
+                    break;
+                }
+                for (TaskDelta delta : toRevision(record.array())) {
+                    applyDelta(delta, taskCollection);
+                }
+                offset += RECORD_HEADER_SIZE + length;
+                recordCount++;
+            }
+            logger.fine("Replayed " + recordCount + " journal records from " + journalPath);
+            return offset;
+        }
+    }
+
+    /**
+     * Applies {@code delta} to {@code taskCollection}.
+     *
+     * @throws DataConversionException if {@code taskCollection} does not hold the tasks the delta removes.
+     */
+    private static void applyDelta(TaskDelta delta, TaskCollection taskCollection) throws DataConversionException {
+        List<Task> tasks = taskCollection.getTaskList();
+        int end = delta.getSlot() + delta.getRemoved().size();
+        if (delta.getSlot() < 0 || end > tasks.size()
+            || !tasks.subList(delta.getSlot(), end).equals(delta.getRemoved())) {
+            throw new DataConversionException(new IllegalValueException(MESSAGE_JOURNAL_MISMATCH));
+        }
+        delta.applyTo(taskCollection);
+    }
+
+    @Override
+    public void saveTaskCollection(ReadOnlyTaskCollection taskCollection) throws IOException {
+        saveTaskCollection(taskCollection, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskCollection(ReadOnlyTaskCollection)}
+     *
+     * @param filePath location of the snapshot. Cannot be null
+     */
+    @Override
+    public void saveTaskCollection(ReadOnlyTaskCollection taskCollection, Path filePath) throws IOException {
+        requireNonNull(taskCollection);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            // a copy elsewhere is a plain snapshot, so any journal next to it is out of date
+            snapshotStorage.saveTaskCollection(taskCollection, filePath);
+            Files.deleteIfExists(getJournalFilePath(filePath));
+            return;
+        }
+
+        if (isBasedOnSavedVersion(taskCollection)) {
+            appendToJournal(((TaskCollectionSnapshot) taskCollection).getDeltas());
+            if (journalSize > Math.max(MIN_COMPACTION_SIZE, snapshotSize)) {
+                compact(taskCollection);
+            }
+        } else {
+            compact(taskCollection);
+        }
+        savedVersion = taskCollection instanceof TaskCollectionSnapshot
+            ? ((TaskCollectionSnapshot) taskCollection).getVersion()
+            : UNKNOWN_VERSION;
+    }
+
+    /**
+     * Returns true if {@code taskCollection} is a snapshot whose deltas apply to the tasks in the files.
+     */
+    private boolean isBasedOnSavedVersion(ReadOnlyTaskCollection taskCollection) {
+        return savedVersion != UNKNOWN_VERSION
+            && taskCollection instanceof TaskCollectionSnapshot
+            && ((TaskCollectionSnapshot) taskCollection).getBaseVersion() == savedVersion
+            && Files.isRegularFile(filePath);
+    }
+
+    /**
+     * Appends {@code deltas} to the journal as a single record, and forces it to disk.
+     */
+    private void appendToJournal(List<TaskDelta> deltas) throws IOException {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        byte[] record = toRecord(deltas);
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + record.length);
+        buffer.putInt(record.length).putLong(checksumOf(record)).put(record).flip();
+
+        Path journalPath = getJournalFilePath(filePath);
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE)) {
+            if (journalSize == 0) {
+                writeFully(channel, 0, journalHeader(snapshotChecksum));
+                journalSize = HEADER_SIZE;
+            }
+            // drops whatever is left of a record that was cut short
+            channel.truncate(journalSize);
+            writeFully(channel, journalSize, buffer);
+            channel.force(false);
+        }
+        journalSize += buffer.limit();
+    }
+
+    /**
+     * Writes {@code taskCollection} as a new snapshot with an empty journal. The snapshot replaces the old
+     * one before the journal does, and a crash in between leaves the old journal, whose checksum no
+     * longer matches, to be ignored.
+     */
+    private void compact(ReadOnlyTaskCollection taskCollection) throws IOException {
+        Path temporarySnapshot = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_EXTENSION);
+        Path journalPath = getJournalFilePath(filePath);
+        Path temporaryJournal = journalPath.resolveSibling(journalPath.getFileName() + TEMPORARY_FILE_EXTENSION);
+
+        snapshotStorage.saveTaskCollection(taskCollection, temporarySnapshot);
+        forceToDisk(temporarySnapshot);
+        long checksum = checksumOf(temporarySnapshot);
+        try (FileChannel channel = FileChannel.open(temporaryJournal, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            writeFully(channel, 0, journalHeader(checksum));
+            channel.force(false);
+        }
+
+        FileUtil.moveReplacing(temporarySnapshot, filePath);
+        FileUtil.moveReplacing(temporaryJournal, journalPath);
+        snapshotChecksum = checksum;
+        snapshotSize = Files.size(filePath);
+        journalSize = HEADER_SIZE;
+        logger.fine("Compacted journal of " + filePath + " into a snapshot of " + snapshotSize + " bytes");
+    }
+
+    /**
+     * Returns the header of a journal that applies to the snapshot with {@code checksum}.
+     */
+    private static ByteBuffer journalHeader(long checksum) {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        header.putInt(JOURNAL_MAGIC).putLong(checksum).flip();
+        return header;
+    }
+
+    /**
+     * Returns {@code deltas} as the XML of an {@code XmlSerializableRevision}.
+     */
+    private static byte[] toRecord(List<TaskDelta> deltas) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            XmlUtil.getMarshaller(XmlSerializableRevision.class).marshal(new XmlSerializableRevision(deltas), bytes);
+        } catch (JAXBException jaxbe) {
+            throw new IOException("Could not convert journal record to XML", jaxbe);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads the deltas back from the XML in {@code record}.
+     */
+    private static List<TaskDelta> toRevision(byte[] record) throws DataConversionException {
+        try {
+            XmlSerializableRevision revision = (XmlSerializableRevision) XmlUtil
+                .getUnmarshaller(XmlSerializableRevision.class).unmarshal(new ByteArrayInputStream(record));
+            return revision.toModelType();
+        } catch (JAXBException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the {@code length} bytes of {@code channel} from {@code offset}, ready to be read, or null
+     * if the channel ends before then.
+     */
+    private static ByteBuffer readFully(FileChannel channel, long offset, int length) throws IOException {
+        if (offset + length > channel.size()) {
+            return null;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, offset + buffer.position()) == -1) {
+                return null;
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Writes all of {@code buffer} to {@code channel} from {@code offset}.
+     */
+    private static void writeFully(FileChannel channel, long offset, ByteBuffer buffer) throws IOException {
+        long position = offset;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Returns the CRC-32 checksum of {@code bytes}.
+     */
+    private static long checksumOf(byte[] bytes) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes);
+        return crc.getValue();
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the content of {@code file}.
+     */
+    private static long checksumOf(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(file), new CRC32())) {
+            byte[] buffer = new byte[8192];
+            while (in.read(buffer) != -1) {
+                // the checksum is updated as the file is read
+            }
+            return in.getChecksum().getValue();
+        }
+    }
+
+    /**
+     * Forces the content of {@code file} out of the operating system's cache onto the disk.
+     */
+    private static void forceToDisk(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTaskCollection;
+import seedu.address.model.TaskCollection;
+import seedu.address.model.attachment.Attachment;
+import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
+
+/**
+ * A class to access TaskCollection data stored as a json file on the hard disk.
+ * <p>
+ * The file holds a {@code tasks} array with an object for each task, whose fields are named like the
+ * elements of the XML file. Tasks are written and read one at a time with the streaming API of Jackson,
+ * so only the task being converted is held apart from the deadline manager itself. A file that is not a
+ * json object is read as an XML file, together with its journal if it has one, so that switching an
+ * existing deadline manager to this format converts it on the next save. The journal is deleted once the
+ * json file replaces the XML file.
+ */
+public class JsonTaskCollectionStorage implements TaskCollectionStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(JsonTaskCollectionStorage.class);
+    private static final JsonFactory jsonFactory = new JsonFactory();
+
+    private static final String TASKS_FIELD = "tasks";
+    private static final String ID_FIELD = "id";
+    private static final String NAME_FIELD = "name";
+    private static final String PHONE_FIELD = "phone";
+    private static final String PRIORITY_FIELD = "priority";
+    private static final String DEADLINE_FIELD = "deadline";
+    private static final String EMAIL_FIELD = "email";
+    private static final String ADDRESS_FIELD = "address";
+    private static final String TAGS_FIELD = "tagged";
+    private static final String ATTACHMENTS_FIELD = "attachments";
+    private static final String TEMPORARY_FILE_EXTENSION = ".tmp";
+
+    private Path filePath;
+
+    public JsonTaskCollectionStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getTaskCollectionFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyTaskCollection> readTaskCollection() throws DataConversionException, IOException {
+        return readTaskCollection(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTaskCollection()}
+     *
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTaskCollection> readTaskCollection(Path filePath)
+        throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("TaskCollection file " + filePath + " not found");
+            return Optional.empty();
+        }
+        if (!isJsonFile(filePath)) {
+            logger.info("Reading " + filePath + " as XML, to be saved in json from now on");
+            return new JournaledTaskCollectionStorage(filePath).readTaskCollection(filePath);
+        }
+
+        try (JsonParser parser = jsonFactory.createParser(Files.newInputStream(filePath))) {
+            return Optional.of(readTasks(parser));
+        } catch (JsonProcessingException e) {
+            logger.info("Invalid json in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        }
+    }
+
+    @Override
+    public void saveTaskCollection(ReadOnlyTaskCollection taskCollection) throws IOException {
+        saveTaskCollection(taskCollection, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTaskCollection(ReadOnlyTaskCollection)}. The file is written in full under a
+     * temporary name and then moved over the old file, so a crash never leaves a file cut short. The
+     * journal of an XML file that was at {@code filePath} is deleted, as the json file replaces it.
+     *
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveTaskCollection(ReadOnlyTaskCollection taskCollection, Path filePath) throws IOException {
+        requireNonNull(taskCollection);
+        requireNonNull(filePath);
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path temporaryFile = filePath.resolveSibling(filePath.getFileName() + TEMPORARY_FILE_EXTENSION);
+        try (FileChannel channel = FileChannel.open(temporaryFile, StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            // the channel is left open when the generator is closed, so that it can be forced to disk
+            try (JsonGenerator generator = jsonFactory.createGenerator(Channels.newOutputStream(channel),
+                JsonEncoding.UTF8).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)) {
+                generator.useDefaultPrettyPrinter();
+                generator.writeStartObject();
+                generator.writeArrayFieldStart(TASKS_FIELD);
+                for (Task task : taskCollection.getTaskList()) {
+                    writeTask(generator, task);
+                }
+                generator.writeEndArray();
+                generator.writeEndObject();
+            }
+            channel.force(false);
+        }
+        FileUtil.moveReplacing(temporaryFile, filePath);
+        Files.deleteIfExists(JournaledTaskCollectionStorage.getJournalFilePath(filePath));
+    }
+
+    /**
+     * Returns true if {@code file} is a json data file, which is when it starts with a json object.
+     */
+    static boolean isJsonFile(Path file) throws IOException {
+        try (InputStream input = new BufferedInputStream(Files.newInputStream(file))) {
+            int next = input.read();
+            while (next != -1 && Character.isWhitespace(next)) {
+                next = input.read();
+            }
+            return next == '{';
+        }
+    }
+
+    /**
+     * Writes the fields of {@code task} as a json object.
+     */
+    private static void writeTask(JsonGenerator generator, Task task) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField(ID_FIELD, task.getId());
+        generator.writeStringField(NAME_FIELD, task.getName().value);
+        generator.writeStringField(PHONE_FIELD, task.getPhone().value);
+        generator.writeStringField(PRIORITY_FIELD, task.getPriority().value);
+        generator.writeStringField(DEADLINE_FIELD, task.getDeadline().toString());
+        generator.writeStringField(EMAIL_FIELD, task.getEmail().value);
+        generator.writeStringField(ADDRESS_FIELD, task.getAddress().value);
+        generator.writeArrayFieldStart(TAGS_FIELD);
+        for (Tag tag : task.getTags()) {
+            generator.writeString(tag.tagName);
+        }
+        generator.writeEndArray();
+        generator.writeArrayFieldStart(ATTACHMENTS_FIELD);
+        for (Attachment attachment : task.getAttachments()) {
+            generator.writeString(attachment.file.getAbsolutePath());
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
+    /**
+     * Reads the tasks of the json object that {@code parser} is about to read. Fields other than the tasks
+     * are skipped.
+     *
+     * @throws IllegalValueException if the tasks are not in the expected structure, violate a data
+     *                               constraint or are repeated.
+     */
+    private static TaskCollection readTasks(JsonParser parser) throws IOException, IllegalValueException {
+        expectToken(parser.nextToken(), JsonToken.START_OBJECT);
+        TaskCollection taskCollection = new TaskCollection();
+        Set<Integer> taskIds = new HashSet<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!TASKS_FIELD.equals(field)) {
+                parser.skipChildren();
+                continue;
+            }
+            expectToken(value, JsonToken.START_ARRAY);
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                XmlSerializableTaskCollection.addLoadedTask(taskCollection, taskIds, readTask(parser).toModelType());
+            }
+            expectToken(parser.getCurrentToken(), JsonToken.END_ARRAY);
+        }
+        expectToken(parser.getCurrentToken(), JsonToken.END_OBJECT);
+        return taskCollection;
+    }
+
+    /**
+     * Reads the fields of the task object that {@code parser} has just started. The fields are checked by
+     * the same rules as a task in an XML file. Unknown fields are skipped.
+     */
+    private static XmlAdaptedTask readTask(JsonParser parser) throws IOException, IllegalValueException {
+        Integer id = null;
+        String name = null;
+        String phone = null;
+        String priority = null;
+        String deadline = null;
+        String email = null;
+        String address = null;
+        List<XmlAdaptedTag> tags = new ArrayList<>();
+        List<XmlAdaptedAttachment> attachments = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+            case ID_FIELD:
+                expectToken(value, JsonToken.VALUE_NUMBER_INT);
+                id = parser.getIntValue();
+                break;
+            case NAME_FIELD:
+                name = readString(parser, value);
+                break;
+            case PHONE_FIELD:
+                phone = readString(parser, value);
+                break;
+            case PRIORITY_FIELD:
+                priority = readString(parser, value);
+                break;
+            case DEADLINE_FIELD:
+                deadline = readString(parser, value);
+                break;
+            case EMAIL_FIELD:
+                email = readString(parser, value);
+                break;
+            case ADDRESS_FIELD:
+                address = readString(parser, value);
+                break;
+            case TAGS_FIELD:
+                for (String tagName : readStrings(parser, value)) {
+                    tags.add(new XmlAdaptedTag(tagName));
+                }
+                break;
+            case ATTACHMENTS_FIELD:
+                for (String attachmentPath : readStrings(parser, value)) {
+                    attachments.add(new XmlAdaptedAttachment(attachmentPath));
+                }
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        expectToken(parser.getCurrentToken(), JsonToken.END_OBJECT);
+        return new XmlAdaptedTask(id, name, phone, priority, deadline, email, address, tags, attachments);
+    }
+
+    /**
+     * Returns the string that {@code parser} has just read as {@code value}, or null if it is a json null.
+     */
+    private static String readString(JsonParser parser, JsonToken value) throws IOException, IllegalValueException {
+        if (value == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expectToken(value, JsonToken.VALUE_STRING);
+        return parser.getText();
+    }
+
+    /**
+     * Returns the strings of the array that {@code parser} has just started as {@code value}.
+     */
+    private static List<String> readStrings(JsonParser parser, JsonToken value)
+        throws IOException, IllegalValueException {
+        expectToken(value, JsonToken.START_ARRAY);
+        List<String> strings = new ArrayList<>();
+        JsonToken element;
+        while ((element = parser.nextToken()) != JsonToken.END_ARRAY) {
+            expectToken(element, JsonToken.VALUE_STRING);
+            strings.add(parser.getText());
+        }
+        return strings;
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} unless {@code actual} is {@code expected}.
+     */
+    private static void expectToken(JsonToken actual, JsonToken expected) throws IllegalValueException {
+        if (actual != expected) {
+            throw new IllegalValueException("Expected " + expected + " in json file but found " + actual);
+        }
+    }
+}
@@ -57,6 +57,23 @@ public interface Storage extends TaskCollectionStorage, UserPrefsStorage {
         return importExportStorage.readTaskCollection(filePath);
     }
 
+    /**
+     * Opens an external save file for importing its tasks a batch at a time. The file must exist,
+     * otherwise an IOException will be thrown.
+     * @param filePath file to import
+     * @return A reader of the tasks in the file, which the caller must close
+     * @throws DataConversionException
+     * @throws IOException
+     */
+    static XmlTaskReader openTaskImport(Path filePath) throws DataConversionException, IOException {
+        Logger logger = LogsCenter.getLogger(StorageManager.class);
+        if (!fileExists(filePath)) {
+            throw new IOException(MESSAGE_READ_FILE_MISSING_ERROR);
+        }
+        logger.fine("Attempting to stream import from file: " + filePath);
+        return new XmlTaskReader(filePath);
+    }
+
     /**
      * Exports the current view of task collection to a path specified. The path must not already exist,
      * otherwise an IOException will be thrown
@@ -85,8 +102,23 @@ public interface Storage extends TaskCollectionStorage, UserPrefsStorage {
     }
 
     /**
-     * Saves the current version of the deadline manager to the hard disk. Creates the data file if it
-     * is missing. Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     * Blocks until every change reported to {@link #handleTaskCollectionChangedEvent} so far has been
+     * written to the hard disk, or has failed to be written.
+     */
+    void flushTaskCollection();
+
+    /**
+     * Blocks until every change reported to {@link #handleTaskCollectionChangedEvent} so far has been
+     * written to the hard disk, then stops the background thread that writes them. Changes must not be
+     * reported afterwards.
+     */
+    void shutdownTaskCollectionSaver();
+
+    /**
+     * Saves the current version of the deadline manager to the hard disk in the background, so this
+     * returns before the data is written. Creates the data file if it is missing. Raises
+     * {@link DataSavingExceptionEvent} from the background thread if there was an error during saving.
+     * {@code abce} must hold a snapshot of the deadline manager that does not change afterwards.
      */
     void handleTaskCollectionChangedEvent(TaskCollectionChangedEvent abce);
 }
@@ -21,12 +21,15 @@ public class StorageManager extends ComponentManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private TaskCollectionStorage privateTaskCollectionStorage;
     private UserPrefsStorage userPrefsStorage;
+    private BackgroundTaskCollectionSaver taskCollectionSaver;
 
     public StorageManager(TaskCollectionStorage privateTaskCollectionStorage,
                           UserPrefsStorage userPrefsStorage) {
         super();
         this.privateTaskCollectionStorage = privateTaskCollectionStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.taskCollectionSaver = new BackgroundTaskCollectionSaver(privateTaskCollectionStorage,
+            e -> raise(new DataSavingExceptionEvent(e)));
     }
 
     // ================ UserPrefs methods ==============================
@@ -77,16 +80,22 @@ public class StorageManager extends ComponentManager implements Storage {
         privateTaskCollectionStorage.saveTaskCollection(taskCollection, filePath);
     }
 
+    @Override
+    public void flushTaskCollection() {
+        taskCollectionSaver.flush();
+    }
+
+    @Override
+    public void shutdownTaskCollectionSaver() {
+        taskCollectionSaver.shutdown();
+    }
+
     @Override
     @Subscribe
     public void handleTaskCollectionChangedEvent(TaskCollectionChangedEvent event) {
         logger.info(
-            LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
-        try {
-            saveTaskCollection(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+            LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file in the background"));
+        taskCollectionSaver.save(event.data);
     }
 
 }
@@ -0,0 +1,127 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskCollection;
+
+/**
+ * Converts a deadline manager data file between the XML, binary and json formats without losing any
+ * data, so that a data file can be moved to another storage format. Run it from the jar file with
+ * {@code java -cp deadlinemanager.jar seedu.address.storage.TaskCollectionFileConverter SOURCE TARGET}.
+ */
+public class TaskCollectionFileConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: TaskCollectionFileConverter SOURCE_FILE TARGET_FILE"
+        + " [XML|BINARY|JSON]\n"
+        + "Converts a data file to the given format. Without a format, an XML data file is converted to binary"
+        + " and any other data file to XML.";
+    public static final String MESSAGE_SUCCESS = "Converted %1$s to %2$s in %3$s format.";
+
+    /**
+     * Converts the data file named by the first argument into the file named by the second argument, in
+     * the format named by the third argument if there is one.
+     */
+    public static void main(String[] args) {
+        if (args.length < 2 || args.length > 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        Path source = Paths.get(args[0]);
+        Path target = Paths.get(args[1]);
+        try {
+            StorageFormat targetFormat = args.length == 3
+                ? convert(source, target, StorageFormat.valueOf(args[2]))
+                : convert(source, target);
+            System.out.println(String.format(MESSAGE_SUCCESS, source, target, targetFormat));
+        } catch (IllegalArgumentException e) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        } catch (DataConversionException | IOException e) {
+            System.err.println("Could not convert " + source + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Writes the tasks in {@code source} to {@code target}, in binary if {@code source} is an XML data
+     * file and in XML otherwise. {@code target} must not exist yet.
+     *
+     * @return the format of {@code target}.
+     * @throws DataConversionException if {@code source} is not a valid data file.
+     * @throws IOException if {@code source} is missing, {@code target} exists or there was any problem
+     *                     reading or writing the files.
+     */
+    public static StorageFormat convert(Path source, Path target) throws DataConversionException, IOException {
+        requireNonNull(source);
+        StorageFormat targetFormat = Files.isRegularFile(source) && getFormat(source) == StorageFormat.XML
+            ? StorageFormat.BINARY
+            : StorageFormat.XML;
+        return convert(source, target, targetFormat);
+    }
+
+    /**
+     * Writes the tasks in {@code source}, which may be in any format, to {@code target} in
+     * {@code targetFormat}. {@code target} must not exist yet.
+     *
+     * @return {@code targetFormat}.
+     * @throws DataConversionException if {@code source} is not a valid data file.
+     * @throws IOException if {@code source} is missing, {@code target} exists or there was any problem
+     *                     reading or writing the files.
+     */
+    public static StorageFormat convert(Path source, Path target, StorageFormat targetFormat)
+        throws DataConversionException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        requireNonNull(targetFormat);
+        if (!Files.isRegularFile(source)) {
+            throw new IOException(Storage.MESSAGE_READ_FILE_MISSING_ERROR);
+        }
+        if (Files.exists(target)) {
+            throw new IOException(Storage.MESSAGE_WRITE_FILE_EXISTS_ERROR);
+        }
+
+        ReadOnlyTaskCollection tasks = getStorage(getFormat(source), source).readTaskCollection().get();
+        getStorage(targetFormat, target).saveTaskCollection(tasks);
+        // a journal next to the target belongs to an older file, and the target holds every change
+        Files.deleteIfExists(JournaledTaskCollectionStorage.getJournalFilePath(target));
+        return targetFormat;
+    }
+
+    /**
+     * Returns the format of the data file {@code file}, found from how the file starts.
+     */
+    static StorageFormat getFormat(Path file) throws IOException {
+        if (BinaryTaskCollectionStorage.isBinaryFile(file)) {
+            return StorageFormat.BINARY;
+        }
+        if (JsonTaskCollectionStorage.isJsonFile(file)) {
+            return StorageFormat.JSON;
+        }
+        return StorageFormat.XML;
+    }
+
+    /**
+     * Returns a storage of {@code file} in {@code format}. An XML file is read together with its journal,
+     * if it has one, so that no change recorded in the journal is lost.
+     */
+    private static TaskCollectionStorage getStorage(StorageFormat format, Path file) {
+        switch (format) {
+        case XML:
+        case JOURNALED_XML:
+            return new JournaledTaskCollectionStorage(file);
+        case BINARY:
+            return new BinaryTaskCollectionStorage(file);
+        case JSON:
+            return new JsonTaskCollectionStorage(file);
+        default:
+            throw new AssertionError("Unknown storage format: " + format);
+        }
+    }
+}
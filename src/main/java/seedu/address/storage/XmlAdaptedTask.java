@@ -27,6 +27,8 @@ public class XmlAdaptedTask {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Task's %s field is missing!";
 
+    @XmlElement
+    private Integer id;
     @XmlElement(required = true)
     private String name;
     @XmlElement(required = true)
@@ -56,6 +58,16 @@ public class XmlAdaptedTask {
      */
     public XmlAdaptedTask(String name, String phone, String priority, String deadline, String email, String address,
                           List<XmlAdaptedTag> tagged, List<XmlAdaptedAttachment> attachments) {
+        this(null, name, phone, priority, deadline, email, address, tagged, attachments);
+    }
+
+    /**
+     * Constructs an {@code XmlAdaptedTask} with the given task details and {@code id}, which may be null if
+     * the task has no id yet.
+     */
+    public XmlAdaptedTask(Integer id, String name, String phone, String priority, String deadline, String email,
+                          String address, List<XmlAdaptedTag> tagged, List<XmlAdaptedAttachment> attachments) {
+        this.id = id;
         this.name = name;
         this.phone = phone;
         this.priority = priority;
@@ -76,6 +88,7 @@ public class XmlAdaptedTask {
      * @param source future changes to this will not affect the created XmlAdaptedTask
      */
     public XmlAdaptedTask(Task source) {
+        id = source.getId();
         name = source.getName().value;
         phone = source.getPhone().value;
         priority = source.getPriority().value;
@@ -176,7 +189,15 @@ public class XmlAdaptedTask {
             }
         }
 
-        return new Task(modelName, modelPhone, modelPriority, modelEmail,
+        // files written before tasks had ids get new ids on loading
+        if (id != null && !Task.isValidStoredId(id)) {
+            throw new IllegalValueException(Task.MESSAGE_ID_CONSTRAINTS);
+        }
+        if (id == null) {
+            return new Task(modelName, modelPhone, modelPriority, modelEmail,
+                modelDeadline, modelAddress, modelTags, modelAttachments);
+        }
+        return new Task(id, modelName, modelPhone, modelPriority, modelEmail,
             modelDeadline, modelAddress, modelTags, modelAttachments);
     }
 
@@ -191,7 +212,8 @@ public class XmlAdaptedTask {
         }
 
         XmlAdaptedTask otherPerson = (XmlAdaptedTask) other;
-        return Objects.equals(name, otherPerson.name)
+        return Objects.equals(id, otherPerson.id)
+            && Objects.equals(name, otherPerson.name)
             && Objects.equals(phone, otherPerson.phone)
             && Objects.equals(priority, otherPerson.priority)
             && Objects.equals(email, otherPerson.email)
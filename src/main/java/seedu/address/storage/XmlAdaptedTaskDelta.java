@@ -0,0 +1,76 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.annotation.XmlAttribute;
+import javax.xml.bind.annotation.XmlElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.TaskDelta;
+import seedu.address.model.task.Task;
+
+/**
+ * JAXB-friendly adapted version of the TaskDelta.
+ */
+public class XmlAdaptedTaskDelta {
+
+    @XmlAttribute(required = true)
+    private int slot;
+    @XmlElement
+    private List<XmlAdaptedTask> removed = new ArrayList<>();
+    @XmlElement
+    private List<XmlAdaptedTask> added = new ArrayList<>();
+
+    /**
+     * Constructs an XmlAdaptedTaskDelta. This is the no-arg constructor that is required by JAXB.
+     */
+    public XmlAdaptedTaskDelta() {
+    }
+
+    /**
+     * Converts a given TaskDelta into this class for JAXB use.
+     */
+    public XmlAdaptedTaskDelta(TaskDelta source) {
+        slot = source.getSlot();
+        removed = source.getRemoved().stream().map(XmlAdaptedTask::new).collect(Collectors.toList());
+        added = source.getAdded().stream().map(XmlAdaptedTask::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Converts this jaxb-friendly adapted delta object into the model's TaskDelta object.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted tasks.
+     */
+    public TaskDelta toModelType() throws IllegalValueException {
+        return new TaskDelta(slot, toModelTasks(removed), toModelTasks(added));
+    }
+
+    /**
+     * Converts each of {@code adaptedTasks} into the model's Task object.
+     */
+    private static List<Task> toModelTasks(List<XmlAdaptedTask> adaptedTasks) throws IllegalValueException {
+        List<Task> tasks = new ArrayList<>();
+        for (XmlAdaptedTask adaptedTask : adaptedTasks) {
+            tasks.add(adaptedTask.toModelType());
+        }
+        return tasks;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlAdaptedTaskDelta)) {
+            return false;
+        }
+
+        XmlAdaptedTaskDelta otherDelta = (XmlAdaptedTaskDelta) other;
+        return slot == otherDelta.slot
+            && removed.equals(otherDelta.removed)
+            && added.equals(otherDelta.added);
+    }
+}
@@ -0,0 +1,134 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.xml.bind.JAXBException;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.RevisionArchive;
+import seedu.address.model.TaskDelta;
+
+/**
+ * A {@code RevisionArchive} that keeps revisions in a local file. Each revision is stored as a
+ * gzip-compressed {@code XmlSerializableRevision} appended to the end of the file, and the file is
+ * truncated again when the revision is popped.
+ * <p>
+ * The file only lasts for one session: any revisions left in it by an earlier session are
+ * overwritten by the first revision pushed.
+ */
+public class XmlRevisionArchive implements RevisionArchive {
+
+    private static final Logger logger = LogsCenter.getLogger(XmlRevisionArchive.class);
+
+    private final Path filePath;
+
+    /** Offsets in the file at which each archived revision starts, the last pushed on top. */
+    private final Deque<Long> revisionOffsets = new ArrayDeque<>();
+
+    public XmlRevisionArchive(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public void push(List<TaskDelta> revision) throws IOException {
+        requireNonNull(revision);
+        byte[] record = compress(new XmlSerializableRevision(revision));
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE)) {
+            long offset = revisionOffsets.isEmpty() ? 0 : channel.size();
+            channel.truncate(offset);
+            channel.position(offset);
+            ByteBuffer buffer = ByteBuffer.wrap(record);
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            revisionOffsets.push(offset);
+        }
+        logger.fine("Archived undo history revision " + revisionOffsets.size() + " to " + filePath);
+    }
+
+    @Override
+    public List<TaskDelta> pop() throws IOException {
+        long offset = revisionOffsets.pop();
+        byte[] record;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ,
+            StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(channel.size() - offset));
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) == -1) {
+                    throw new IOException("Archived undo history revision is truncated");
+                }
+            }
+            channel.truncate(offset);
+            record = buffer.array();
+        }
+
+        try {
+            return decompress(record).toModelType();
+        } catch (IllegalValueException ive) {
+            throw new IOException("Archived undo history revision has illegal values", ive);
+        }
+    }
+
+    @Override
+    public int size() {
+        return revisionOffsets.size();
+    }
+
+    @Override
+    public void clear() throws IOException {
+        revisionOffsets.clear();
+        Files.deleteIfExists(filePath);
+    }
+
+    /**
+     * Returns {@code revision} as gzip-compressed XML.
+     */
+    private static byte[] compress(XmlSerializableRevision revision) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (OutputStream out = new GZIPOutputStream(bytes)) {
+            XmlUtil.getMarshaller(XmlSerializableRevision.class).marshal(revision, out);
+        } catch (JAXBException jaxbe) {
+            throw new IOException("Could not convert undo history revision to XML", jaxbe);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads a revision back from the gzip-compressed XML in {@code record}.
+     */
+    private static XmlSerializableRevision decompress(byte[] record) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(record))) {
+            return (XmlSerializableRevision) XmlUtil.getUnmarshaller(XmlSerializableRevision.class).unmarshal(in);
+        } catch (JAXBException jaxbe) {
+            throw new IOException("Archived undo history revision is not in the correct format", jaxbe);
+        }
+    }
+}
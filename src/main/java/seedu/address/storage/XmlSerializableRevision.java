@@ -0,0 +1,61 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javax.xml.bind.annotation.XmlElement;
+import javax.xml.bind.annotation.XmlRootElement;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.TaskDelta;
+
+/**
+ * An undo history revision, the deltas between two states of the task list, that is serializable
+ * to XML format
+ */
+@XmlRootElement(name = "revision")
+public class XmlSerializableRevision {
+
+    @XmlElement(name = "delta")
+    private List<XmlAdaptedTaskDelta> deltas;
+
+    /**
+     * Creates an empty XmlSerializableRevision. This empty constructor is required for marshalling.
+     */
+    public XmlSerializableRevision() {
+        deltas = new ArrayList<>();
+    }
+
+    /**
+     * Conversion
+     */
+    public XmlSerializableRevision(List<TaskDelta> src) {
+        deltas = src.stream().map(XmlAdaptedTaskDelta::new).collect(Collectors.toList());
+    }
+
+    /**
+     * Converts this revision into a list of the model's {@code TaskDelta} objects.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the deltas.
+     */
+    public List<TaskDelta> toModelType() throws IllegalValueException {
+        List<TaskDelta> revision = new ArrayList<>();
+        for (XmlAdaptedTaskDelta delta : deltas) {
+            revision.add(delta.toModelType());
+        }
+        return revision;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof XmlSerializableRevision)) {
+            return false;
+        }
+        return deltas.equals(((XmlSerializableRevision) other).deltas);
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.storage;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -48,16 +50,32 @@ public class XmlSerializableTaskCollection {
      */
     public TaskCollection toModelType() throws IllegalValueException {
         TaskCollection taskCollection = new TaskCollection();
+        Set<Integer> taskIds = new HashSet<>();
         for (XmlAdaptedTask p : tasks) {
-            Task task = p.toModelType();
-            if (taskCollection.hasTask(task)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
-            }
-            taskCollection.addPerson(task);
+            addLoadedTask(taskCollection, taskIds, p.toModelType());
         }
         return taskCollection;
     }
 
+    /**
+     * Adds {@code task}, the next task read from a file, to {@code taskCollection}, which holds the
+     * tasks read before it. {@code taskIds} holds the ids of those tasks, and is updated.
+     *
+     * @throws IllegalValueException if {@code taskCollection} already has the task.
+     */
+    static void addLoadedTask(TaskCollection taskCollection, Set<Integer> taskIds, Task task)
+        throws IllegalValueException {
+        if (taskCollection.hasTask(task)) {
+            throw new IllegalValueException(MESSAGE_DUPLICATE_TASK);
+        }
+        if (taskIds.contains(task.getId())) {
+            // the id was repeated in the file, so this task can only keep its details
+            task = task.withNewId();
+        }
+        taskIds.add(task.getId());
+        taskCollection.addPerson(task);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -2,11 +2,12 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -14,9 +15,12 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyTaskCollection;
+import seedu.address.model.TaskCollection;
+import seedu.address.model.task.Task;
 
 /**
- * A class to access TaskCollection data stored as an xml file on the hard disk.
+ * A class to access TaskCollection data stored as an xml file on the hard disk. Tasks are streamed to
+ * and from the file one at a time, so loading and saving need little memory beyond the tasks themselves.
  */
 public class XmlTaskCollectionStorage implements TaskCollectionStorage {
 
@@ -45,8 +49,7 @@ public class XmlTaskCollectionStorage implements TaskCollectionStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyTaskCollection> readTaskCollection(Path filePath)
-        throws DataConversionException,
-        FileNotFoundException {
+        throws DataConversionException, IOException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
@@ -54,13 +57,19 @@ public class XmlTaskCollectionStorage implements TaskCollectionStorage {
             return Optional.empty();
         }
 
-        XmlSerializableTaskCollection xmlAddressBook = XmlFileStorage.loadDataFromSaveFile(filePath);
-        try {
-            return Optional.of(xmlAddressBook.toModelType());
+        // tasks are read one at a time so that the file is never held in memory as a whole
+        TaskCollection taskCollection = new TaskCollection();
+        Set<Integer> taskIds = new HashSet<>();
+        try (XmlTaskReader reader = new XmlTaskReader(filePath)) {
+            Optional<Task> task;
+            while ((task = reader.readTask()).isPresent()) {
+                XmlSerializableTaskCollection.addLoadedTask(taskCollection, taskIds, task.get());
+            }
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
         }
+        return Optional.of(taskCollection);
     }
 
     @Override
@@ -78,7 +87,11 @@ public class XmlTaskCollectionStorage implements TaskCollectionStorage {
         requireNonNull(filePath);
 
         FileUtil.createIfMissing(filePath);
-        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableTaskCollection(addressBook));
+        try (XmlTaskWriter writer = new XmlTaskWriter(filePath)) {
+            for (Task task : addressBook.getTaskList()) {
+                writer.write(task);
+            }
+        }
     }
 
 }
@@ -0,0 +1,122 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.task.Task;
+
+/**
+ * Reads the tasks of a deadline manager XML file a batch at a time, so that only the current batch of
+ * {@code XmlAdaptedTask}s is held in memory rather than the whole {@code XmlSerializableTaskCollection}.
+ */
+public class XmlTaskReader implements AutoCloseable {
+
+    private static final String ROOT_ELEMENT = "taskcollection";
+    private static final String TASK_ELEMENT = "tasks";
+
+    private final InputStream input;
+    private final XMLStreamReader reader;
+    private final Unmarshaller unmarshaller;
+
+    /**
+     * Opens {@code file} and reads up to its root element.
+     *
+     * @throws IOException if the file cannot be opened.
+     * @throws DataConversionException if the file does not start with a deadline manager root element.
+     */
+    public XmlTaskReader(Path file) throws IOException, DataConversionException {
+        requireNonNull(file);
+        input = Files.newInputStream(file);
+        try {
+            reader = XMLInputFactory.newFactory().createXMLStreamReader(input);
+            unmarshaller = XmlUtil.getUnmarshaller(XmlAdaptedTask.class);
+            if (reader.nextTag() != XMLStreamReader.START_ELEMENT || !ROOT_ELEMENT.equals(reader.getLocalName())) {
+                throw new DataConversionException(
+                    new IllegalValueException("Expected a <" + ROOT_ELEMENT + "> root element"));
+            }
+        } catch (XMLStreamException | JAXBException e) {
+            input.close();
+            throw new DataConversionException(e);
+        } catch (DataConversionException | RuntimeException e) {
+            input.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Returns the next {@code maxCount} tasks in the file, or fewer if the file ends before then. An
+     * empty list is returned once every task has been read.
+     *
+     * @throws DataConversionException if a task is malformed or violates a data constraint.
+     */
+    public List<Task> readBatch(int maxCount) throws DataConversionException {
+        List<Task> batch = new ArrayList<>();
+        while (batch.size() < maxCount) {
+            Optional<Task> task = readTask();
+            if (!task.isPresent()) {
+                break;
+            }
+            batch.add(task.get());
+        }
+        return batch;
+    }
+
+    /**
+     * Returns the next task in the file, or an empty Optional once every task has been read. Only the
+     * task being read is held as an {@code XmlAdaptedTask}.
+     *
+     * @throws DataConversionException if the task is malformed or violates a data constraint.
+     */
+    public Optional<Task> readTask() throws DataConversionException {
+        try {
+            if (!advanceToNextTask()) {
+                return Optional.empty();
+            }
+            return Optional.of(unmarshaller.unmarshal(reader, XmlAdaptedTask.class).getValue().toModelType());
+        } catch (XMLStreamException | JAXBException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Moves the reader to the start of the next task element.
+     *
+     * @return false if there are no more tasks in the file.
+     */
+    private boolean advanceToNextTask() throws XMLStreamException {
+        while (!reader.isStartElement() || !TASK_ELEMENT.equals(reader.getLocalName())) {
+            if (!reader.hasNext()) {
+                return false;
+            }
+            reader.next();
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            input.close();
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.xml.bind.JAXBElement;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.task.Task;
+
+/**
+ * Writes the tasks of a deadline manager to an XML file one at a time, so that only the task being
+ * written is held as an {@code XmlAdaptedTask} rather than the whole {@code XmlSerializableTaskCollection}.
+ * The file can be read by {@link XmlTaskReader} and by {@link XmlFileStorage}. Each task is written on a
+ * line of its own.
+ */
+public class XmlTaskWriter implements AutoCloseable {
+
+    private static final String ROOT_ELEMENT = "taskcollection";
+    private static final QName TASK_ELEMENT = new QName("tasks");
+    private static final String TASK_INDENT = "\n    ";
+
+    private final OutputStream output;
+    private final XMLStreamWriter writer;
+    private final Marshaller marshaller;
+
+    /**
+     * Creates or replaces {@code file} and writes up to the start of its root element.
+     *
+     * @throws IOException if the file cannot be written.
+     */
+    public XmlTaskWriter(Path file) throws IOException {
+        requireNonNull(file);
+        output = new BufferedOutputStream(Files.newOutputStream(file));
+        try {
+            writer = XMLOutputFactory.newFactory().createXMLStreamWriter(output, StandardCharsets.UTF_8.name());
+            marshaller = XmlUtil.getFragmentMarshaller(XmlAdaptedTask.class);
+            writer.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+            writer.writeCharacters("\n");
+            writer.writeStartElement(ROOT_ELEMENT);
+        } catch (XMLStreamException | JAXBException e) {
+            output.close();
+            throw new IOException(e);
+        } catch (RuntimeException e) {
+            output.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Writes {@code task} after the tasks written before it.
+     *
+     * @throws IOException if the task cannot be written.
+     */
+    public void write(Task task) throws IOException {
+        requireNonNull(task);
+        try {
+            writer.writeCharacters(TASK_INDENT);
+            marshaller.marshal(new JAXBElement<>(TASK_ELEMENT, XmlAdaptedTask.class, new XmlAdaptedTask(task)),
+                writer);
+        } catch (XMLStreamException | JAXBException e) {
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Ends the root element and closes the file.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            writer.writeCharacters("\n");
+            writer.writeEndElement();
+            writer.writeCharacters("\n");
+            writer.writeEndDocument();
+            writer.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            output.close();
+        }
+    }
+}
@@ -65,6 +65,7 @@ public class TestApp extends MainApp {
         double y = Screen.getPrimary().getVisualBounds().getMinY();
         userPrefs.updateLastUsedGuiSetting(new GuiSettings(600.0, 600.0, (int) x, (int) y));
         userPrefs.setAddressBookFilePath(saveFileLocation);
+        userPrefs.setUndoHistoryFilePath(TestUtil.getFilePathInSandboxFolder("undohistory.dat"));
         return userPrefs;
     }
 
@@ -72,6 +73,7 @@ public class TestApp extends MainApp {
      * Returns a defensive copy of the deadline manager data stored inside the storage file.
      */
     public TaskCollection readStorageAddressBook() {
+        storage.flushTaskCollection();
         try {
             return new TaskCollection(storage.readTaskCollection().get());
         } catch (DataConversionException dce) {
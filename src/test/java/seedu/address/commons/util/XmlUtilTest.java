@@ -1,6 +1,8 @@
 package seedu.address.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 
 import java.io.FileNotFoundException;
 import java.nio.file.Path;
@@ -9,6 +11,7 @@ import java.util.Collections;
 import java.util.List;
 
 import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import org.junit.Rule;
@@ -151,6 +154,17 @@ public class XmlUtilTest {
         assertEquals(dataToWrite, dataFromFile);
     }
 
+    @Test
+    public void getFragmentMarshaller_sameThread_sharedMarshallersUnchanged() throws Exception {
+        Marshaller fragmentMarshaller = XmlUtil.getFragmentMarshaller(XmlSerializableTaskCollection.class);
+        assertEquals(true, fragmentMarshaller.getProperty(Marshaller.JAXB_FRAGMENT));
+        assertSame(fragmentMarshaller, XmlUtil.getFragmentMarshaller(XmlSerializableTaskCollection.class));
+
+        Marshaller marshaller = XmlUtil.getMarshaller(XmlSerializableTaskCollection.class);
+        assertNotSame(fragmentMarshaller, marshaller);
+        assertEquals(false, marshaller.getProperty(Marshaller.JAXB_FRAGMENT));
+    }
+
     /**
      * Test class annotated with {@code XmlRootElement} to allow unmarshalling of .xml data to
      * {@code XmlAdaptedTask} objects.
@@ -7,7 +7,10 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import org.junit.Rule;
@@ -20,6 +23,9 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTaskCollection;
 import seedu.address.model.TaskCollection;
+import seedu.address.model.TaskStatistics;
+import seedu.address.model.query.Query;
+import seedu.address.model.query.QueryPlan;
 import seedu.address.model.task.Task;
 import seedu.address.testutil.PersonBuilder;
 
@@ -121,6 +127,31 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Task> tasks) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void deletePersons(Collection<Task> targets) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void updatePersons(Map<Task, Task> editedTasks) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Task> getNextDueTasks(int count, boolean isEarliestFirst) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public TaskStatistics getStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateSortedPersonList(Comparator<Task> comparator) {
             throw new AssertionError("This method should not be called.");
@@ -136,6 +167,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public QueryPlan planQuery(Query query) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean canUndoAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -151,11 +187,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void undoAddressBook(int steps) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void redoAddressBook() {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void redoAddressBook(int steps) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void commitAddressBook() {
             throw new AssertionError("This method should not be called.");
@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
@@ -109,10 +110,13 @@ public class EditCommandTest {
 
         Model expectedModel = new ModelManager(new TaskCollection(model.getAddressBook()),
             new UserPrefs());
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
         expectedModel.updatePerson(model.getFilteredPersonList().get(0), editedTask);
         expectedModel.commitAddressBook();
 
+        // the filter is kept, and the renamed task no longer satisfies it
         assertCommandSuccess(editCommand, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(0, model.getFilteredPersonList().size());
     }
 
     @Test
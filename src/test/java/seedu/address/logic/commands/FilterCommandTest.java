@@ -14,6 +14,7 @@ import java.util.Arrays;
 
 import org.junit.Test;
 
+import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.parser.FilterCommandParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -156,6 +157,75 @@ public class FilterCommandTest {
         assertEquals(Arrays.asList(ALICE, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_tagSuperset_success() {
+        FilterCommand command = ensureParseSuccess("t:friends");
+        command.execute(model, null);
+        assertEquals(Arrays.asList(ALICE, BENSON, DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_tagExact_success() {
+        FilterCommand command = ensureParseSuccess("tag=friends");
+        command.execute(model, null);
+        assertEquals(Arrays.asList(ALICE, DANIEL), model.getFilteredPersonList());
+
+        command = ensureParseSuccess("t='friends,owesMoney'");
+        command.execute(model, null);
+        assertEquals(Arrays.asList(BENSON), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_tagSubset_success() {
+        FilterCommand command = ensureParseSuccess("t<friends");
+        command.execute(model, null);
+        assertEquals(Arrays.asList(ALICE, CARL, DANIEL, ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_priority_success() {
+        FilterCommand command = ensureParseSuccess("p=1");
+        command.execute(model, null);
+        assertEquals(Arrays.asList(ALICE, ELLE), model.getFilteredPersonList());
+
+        command = ensureParseSuccess("priority<2");
+        command.execute(model, null);
+        assertEquals(Arrays.asList(ALICE, BENSON, ELLE, FIONA), model.getFilteredPersonList());
+
+        command = ensureParseSuccess("p:4");
+        command.execute(model, null);
+        assertEquals(Arrays.asList(DANIEL), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_multipleConditions_reportsPlan() {
+        FilterCommand command = ensureParseSuccess("d<1/11/2018 t:friends");
+        CommandResult result = command.execute(model, null);
+        assertEquals(Arrays.asList(ALICE, BENSON), model.getFilteredPersonList());
+        assertEquals(String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, 2) + "\n"
+            + String.format(FilterCommand.MESSAGE_QUERY_PLAN, "look up tag:\"friends\" in the tag index "
+            + "(at most 3 candidates), then test them against due<\"1/11/2018\""), result.feedbackToUser);
+    }
+
+    @Test
+    public void execute_booleanCombinators_success() {
+        FilterCommand command = ensureParseSuccess("t:friends or p=3");
+        command.execute(model, null);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL, GEORGE), model.getFilteredPersonList());
+
+        command = ensureParseSuccess("not t:friends and d<2/10/2018");
+        command.execute(model, null);
+        assertEquals(Arrays.asList(ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+
+        command = ensureParseSuccess("(n:meier or n:'kurz') and not p=4");
+        command.execute(model, null);
+        assertEquals(Arrays.asList(BENSON, CARL), model.getFilteredPersonList());
+
+        command = ensureParseSuccess("not (t:friends or d>3/10/2018)");
+        command.execute(model, null);
+        assertEquals(Arrays.asList(ELLE, FIONA, GEORGE), model.getFilteredPersonList());
+    }
+
     /**
      * Throws an assertion error if parsing fails, or else returns the successfully parsed FilterCommand.
      *
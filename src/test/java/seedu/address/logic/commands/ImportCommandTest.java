@@ -0,0 +1,83 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskCollection;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.Storage;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ImportCommand}.
+ */
+public class ImportCommandTest {
+
+    private static final Path TYPICAL_TASKS_FILE = Paths.get("src", "test", "data",
+        "XmlSerializableTaskCollectionTest", "typicalTasksInTaskCollection.xml");
+    private static final Path INVALID_TASK_FILE = Paths.get("src", "test", "data",
+        "XmlSerializableTaskCollectionTest", "invalidTaskInTaskCollection.xml");
+
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_typicalTasksIntoEmptyModel_allImportedInOneCommit() {
+        Model model = new ModelManager(new TaskCollection(), new UserPrefs());
+        Model expectedModel = new ModelManager(new TaskCollection(), new UserPrefs());
+        expectedModel.addPersons(getTypicalPersons());
+        expectedModel.commitAddressBook();
+
+        assertCommandSuccess(new ImportCommand(TYPICAL_TASKS_FILE.toString()), model, commandHistory,
+            String.format(ImportCommand.MESSAGE_SUCCESS, getTypicalPersons().size(), 0), expectedModel);
+
+        model.undoAddressBook();
+        assertEquals(new TaskCollection(), model.getAddressBook());
+    }
+
+    @Test
+    public void execute_typicalTasksIntoTypicalModel_allSkipped() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+        assertCommandSuccess(new ImportCommand(TYPICAL_TASKS_FILE.toString()), model, commandHistory,
+            String.format(ImportCommand.MESSAGE_SUCCESS, 0, getTypicalPersons().size()), expectedModel);
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        String expectedMessage = String.format(ImportCommand.MESSAGE_IMPORT_ERROR,
+            new IOException(Storage.MESSAGE_READ_FILE_MISSING_ERROR));
+
+        assertCommandFailure(new ImportCommand("nonExistentImportFile.xml"), model, commandHistory,
+            expectedMessage);
+    }
+
+    @Test
+    public void execute_invalidTask_modelUnchanged() {
+        Model model = new ModelManager(new TaskCollection(), new UserPrefs());
+        try {
+            new ImportCommand(INVALID_TASK_FILE.toString()).execute(model, commandHistory);
+            fail("The expected CommandException was not thrown.");
+        } catch (CommandException ce) {
+            assertTrue(ce.getMessage().startsWith(String.format(ImportCommand.MESSAGE_IMPORT_ERROR, "")));
+        }
+        assertEquals(new ModelManager(new TaskCollection(), new UserPrefs()), model);
+    }
+}
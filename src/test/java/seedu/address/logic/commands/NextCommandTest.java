@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.logic.commands.CommandTestUtil.showPersonAtIndex;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Task;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code NextCommand}.
+ */
+public class NextCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        NextCommand nextThreeCommand = new NextCommand(3, true);
+
+        // same object -> returns true
+        assertTrue(nextThreeCommand.equals(nextThreeCommand));
+
+        // same values -> returns true
+        assertTrue(nextThreeCommand.equals(new NextCommand(3, true)));
+
+        // different types -> returns false
+        assertFalse(nextThreeCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(nextThreeCommand.equals(null));
+
+        // different count -> returns false
+        assertFalse(nextThreeCommand.equals(new NextCommand(4, true)));
+
+        // different order -> returns false
+        assertFalse(nextThreeCommand.equals(new NextCommand(3, false)));
+    }
+
+    @Test
+    public void execute_earliestFirst_listsNextDueTasks() {
+        String expectedMessage = expectedMessage(true, ALICE, ELLE, FIONA);
+        assertCommandSuccess(new NextCommand(3, true), model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_latestFirst_listsLastDueTasks() {
+        String expectedMessage = expectedMessage(false, DANIEL, BENSON);
+        assertCommandSuccess(new NextCommand(2, false), model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_repeated_viewUnchanged() {
+        assertCommandSuccess(new NextCommand(1, true), model, commandHistory, expectedMessage(true, ALICE),
+            expectedModel);
+        assertCommandSuccess(new NextCommand(3, true), model, commandHistory,
+            expectedMessage(true, ALICE, ELLE, FIONA), expectedModel);
+        assertEquals(getTypicalAddressBook().getTaskList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_filteredList_listsTasksInView() {
+        showPersonAtIndex(model, INDEX_FIRST_PERSON);
+        showPersonAtIndex(expectedModel, INDEX_FIRST_PERSON);
+        assertCommandSuccess(new NextCommand(3, true), model, commandHistory, expectedMessage(true, ALICE),
+            expectedModel);
+        assertEquals(Arrays.asList(ALICE), model.getFilteredPersonList());
+    }
+
+    /**
+     * Returns the message of a {@code NextCommand} that lists {@code tasks}.
+     */
+    private static String expectedMessage(boolean isEarliestFirst, Task... tasks) {
+        List<String> lines = new ArrayList<>();
+        for (Task task : tasks) {
+            lines.add(String.format(NextCommand.MESSAGE_TASK, lines.size() + 1, task.getName(), task.getDeadline()));
+        }
+        return String.format(NextCommand.MESSAGE_SUCCESS, tasks.length, isEarliestFirst ? "next" : "last",
+            String.join("\n", lines));
+    }
+}
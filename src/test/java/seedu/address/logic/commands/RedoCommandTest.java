@@ -48,4 +48,12 @@ public class RedoCommandTest {
         // no redoable state in model
         assertCommandFailure(new RedoCommand(), model, commandHistory, RedoCommand.MESSAGE_FAILURE);
     }
+
+    @Test
+    public void execute_multipleSteps() {
+        expectedModel.redoAddressBook();
+        expectedModel.redoAddressBook();
+        assertCommandSuccess(new RedoCommand(2), model, commandHistory, RedoCommand.MESSAGE_SUCCESS,
+            expectedModel);
+    }
 }
@@ -0,0 +1,40 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.TaskCollection;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code StatsCommand}.
+ */
+public class StatsCommandTest {
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void execute_typicalTasks_showsStatistics() {
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, 7,
+            getTypicalAddressBook().getStatistics(LocalDate.now()));
+        assertCommandSuccess(new StatsCommand(), model, commandHistory, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_emptyList_showsNoTasks() {
+        Model emptyModel = new ModelManager(new TaskCollection(), new UserPrefs());
+        String expectedMessage = String.format(StatsCommand.MESSAGE_SUCCESS, 0,
+            "By priority: none\nBy tag: none\nBy deadline: overdue 0, today 0, this week 0, later 0");
+        assertCommandSuccess(new StatsCommand(), emptyModel, commandHistory, expectedMessage,
+            new ModelManager(new TaskCollection(), new UserPrefs()));
+    }
+}
@@ -44,4 +44,13 @@ public class UndoCommandTest {
         // no undoable states in model
         assertCommandFailure(new UndoCommand(), model, commandHistory, UndoCommand.MESSAGE_FAILURE);
     }
+
+    @Test
+    public void execute_multipleSteps() {
+        // more steps than undoable states in model -> undoes all of them
+        expectedModel.undoAddressBook();
+        expectedModel.undoAddressBook();
+        assertCommandSuccess(new UndoCommand(3), model, commandHistory, UndoCommand.MESSAGE_SUCCESS,
+            expectedModel);
+    }
 }
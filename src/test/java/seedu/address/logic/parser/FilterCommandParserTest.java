@@ -42,6 +42,17 @@ public class FilterCommandParserTest {
         assertParseSuccess(parser, "n:\"Hello World\"");
         assertParseSuccess(parser, "n<\"Hello World\"");
         assertParseSuccess(parser, "n:Test");
+
+        assertParseSuccess(parser, "p=1");
+        assertParseSuccess(parser, "priority>3");
+        assertParseSuccess(parser, "t:friends d<1/10/2018");
+        assertParseSuccess(parser, "n>\"Hello World\"   p<2 tag='a,b'");
+        assertParseSuccess(parser, "t:friends and d<1/10/2018");
+        assertParseSuccess(parser, "t:friends or not d<1/10/2018");
+        assertParseSuccess(parser, "not (t:friends or p=1)");
+        assertParseSuccess(parser, "(d<1/10/2018)");
+        assertParseSuccess(parser, "((n:'a b' or n:c)and(p=1))");
+        assertParseSuccess(parser, "n:and and n:or");
     }
 
     @Test
@@ -66,6 +77,16 @@ public class FilterCommandParserTest {
         assertParseThrowsException(parser, "name<");
         assertParseThrowsException(parser, "name~");
         assertParseThrowsException(parser, "name:");
+        assertParseThrowsException(parser, "p=5");
+        assertParseThrowsException(parser, "p<high");
+        assertParseThrowsException(parser, "t:friends d<");
+        assertParseThrowsException(parser, "(t:friends");
+        assertParseThrowsException(parser, "t:friends)");
+        assertParseThrowsException(parser, "t:friends and");
+        assertParseThrowsException(parser, "t:friends or or p=1");
+        assertParseThrowsException(parser, "not");
+        assertParseThrowsException(parser, "()");
+        assertParseThrowsException(parser, "n:\"\"");
     }
 
     /**
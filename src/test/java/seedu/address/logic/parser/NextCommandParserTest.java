@@ -0,0 +1,42 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.NextCommand;
+
+public class NextCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+        String.format(MESSAGE_INVALID_COMMAND_FORMAT, NextCommand.MESSAGE_USAGE);
+
+    private NextCommandParser parser = new NextCommandParser();
+
+    @Test
+    public void parse_validArgs_returnsNextCommand() {
+        assertParseSuccess(parser, " 20", new NextCommand(20, true));
+        assertParseSuccess(parser, " 5  <", new NextCommand(5, true));
+        assertParseSuccess(parser, " 5 >", new NextCommand(5, false));
+        assertParseSuccess(parser, " " + NextCommand.MAX_COUNT, new NextCommand(NextCommand.MAX_COUNT, true));
+    }
+
+    @Test
+    public void parse_countTooLarge_throwsParseException() {
+        String expectedMessage = String.format(NextCommand.MESSAGE_COUNT_TOO_LARGE, NextCommand.MAX_COUNT);
+        assertParseFailure(parser, " " + (NextCommand.MAX_COUNT + 1), expectedMessage);
+        assertParseFailure(parser, " 2000000000 >", expectedMessage);
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 0", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " -3", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " five", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 5 =", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " 5 > <", MESSAGE_INVALID_FORMAT);
+    }
+}
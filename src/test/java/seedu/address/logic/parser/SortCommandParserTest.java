@@ -1,5 +1,6 @@
 package seedu.address.logic.parser;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.fail;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
@@ -9,6 +10,8 @@ import org.junit.Test;
 
 import seedu.address.logic.commands.SortCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.task.SortField;
+import seedu.address.model.task.TaskSortOrder;
 
 public class SortCommandParserTest {
 
@@ -26,6 +29,14 @@ public class SortCommandParserTest {
         assertParseSuccess(parser, "name>");
         assertParseSuccess(parser, "d< name>");
         assertParseSuccess(parser, "d> d<");
+        assertParseSuccess(parser, "p< tag>");
+    }
+
+    @Test
+    public void parse_validArgs_returnsSortCommand() throws Exception {
+        TaskSortOrder expectedOrder = new TaskSortOrder().thenBy(SortField.DUE, true)
+            .thenBy(SortField.NAME, false).thenBy(SortField.PRIORITY, true).thenBy(SortField.TAG, false);
+        assertEquals(new SortCommand(expectedOrder), parser.parse("due< n> priority< t>"));
     }
 
     @Test
@@ -36,6 +47,7 @@ public class SortCommandParserTest {
         assertParseThrowsException(parser, "name>>  due<");
         assertParseThrowsException(parser, "d>  name<");
         assertParseThrowsException(parser, "name~");
+        assertParseThrowsException(parser, "tags<");
     }
 
     /**
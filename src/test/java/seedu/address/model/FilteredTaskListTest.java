@@ -0,0 +1,151 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.PersonBuilder;
+
+public class FilteredTaskListTest {
+
+    private static final Predicate<Task> DUE_IN_OCTOBER = task -> task.getDeadline().toString().endsWith("/10/2018");
+
+    private final ObservableList<Task> source = FXCollections.observableArrayList(ALICE, BENSON, CARL, DANIEL);
+    private final FilteredTaskList filteredTasks = new FilteredTaskList(source);
+    private final List<Task> replayedChanges = new ArrayList<>(filteredTasks);
+
+    public FilteredTaskListTest() {
+        filteredTasks.addListener(this::replayChange);
+    }
+
+    @Test
+    public void constructor_showsAllTasks() {
+        assertEquals(source, filteredTasks);
+    }
+
+    @Test
+    public void setPredicate_filtersTasks() {
+        filteredTasks.setPredicate(DUE_IN_OCTOBER);
+        assertEquals(Arrays.asList(ALICE, CARL), filteredTasks);
+        assertEquals(filteredTasks, replayedChanges);
+        assertEquals(2, filteredTasks.getSourceIndex(1));
+        assertEquals(1, filteredTasks.getViewIndex(2));
+        assertEquals(-1, filteredTasks.getViewIndex(1));
+    }
+
+    @Test
+    public void setPredicate_withCandidates_onlyCandidatesShown() {
+        filteredTasks.setPredicate(task -> true, new int[] {1, 3});
+        assertEquals(Arrays.asList(BENSON, DANIEL), filteredTasks);
+        assertEquals(filteredTasks, replayedChanges);
+    }
+
+    @Test
+    public void setPredicate_aboveParallelThreshold_sameAsSequential() {
+        for (int i = 0; i < 1000; i++) {
+            source.add(new PersonBuilder(ELLE).withName("Task " + i).build());
+        }
+        Predicate<Task> nameEndsWithSeven = task -> task.getName().value.endsWith("7");
+        FilteredList<Task> expected = new FilteredList<>(source, nameEndsWithSeven);
+
+        filteredTasks.setParallelThreshold(1);
+        filteredTasks.setPredicate(nameEndsWithSeven);
+        assertEquals(expected, filteredTasks);
+        assertEquals(filteredTasks, replayedChanges);
+
+        int[] evenSlots = new int[source.size() / 2];
+        Arrays.setAll(evenSlots, i -> 2 * i);
+        filteredTasks.setPredicate(nameEndsWithSeven, evenSlots);
+        assertEquals(expected.filtered(task -> source.indexOf(task) % 2 == 0), filteredTasks);
+        assertEquals(filteredTasks, replayedChanges);
+    }
+
+    @Test
+    public void sourceChanged_editKeepsTaskInView_singleReplacement() {
+        filteredTasks.setPredicate(DUE_IN_OCTOBER);
+        Task editedCarl = new PersonBuilder(CARL).withName("Carl Edited").build();
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        filteredTasks.addListener((ListChangeListener<Task>) change -> {
+            while (change.next()) {
+                assertTrue(change.wasReplaced());
+                assertEquals(1, change.getFrom());
+                assertEquals(Arrays.asList(CARL), change.getRemoved());
+            }
+            changes.add(change);
+        });
+
+        source.set(2, editedCarl);
+        assertEquals(Arrays.asList(ALICE, editedCarl), filteredTasks);
+        assertEquals(filteredTasks, replayedChanges);
+        assertEquals(1, changes.size());
+    }
+
+    @Test
+    public void sourceChanged_matchesFilteredList() {
+        FilteredList<Task> expected = new FilteredList<>(source, DUE_IN_OCTOBER);
+        filteredTasks.setPredicate(DUE_IN_OCTOBER);
+        Random random = new Random(2103);
+
+        for (int i = 0; i < 500; i++) {
+            Task task = new PersonBuilder(ELLE).withName("Task " + i)
+                .withDeadline((1 + random.nextInt(28)) + "/" + (9 + random.nextInt(3)) + "/2018").build();
+            switch (source.isEmpty() ? 0 : random.nextInt(5)) {
+            case 0:
+                source.add(random.nextInt(source.size() + 1), task);
+                break;
+            case 1:
+                source.remove(random.nextInt(source.size()));
+                break;
+            case 2:
+                source.set(random.nextInt(source.size()), task);
+                break;
+            case 3:
+                FXCollections.sort(source, Comparator.comparing(Task::getDeadline));
+                break;
+            default:
+                int from = random.nextInt(source.size());
+                source.remove(from, Math.min(source.size(), from + 3));
+                break;
+            }
+            assertEquals(expected, filteredTasks);
+            assertEquals(filteredTasks, replayedChanges);
+        }
+    }
+
+    /**
+     * Applies {@code change} to {@code replayedChanges}, so that it should always equal the view.
+     */
+    private void replayChange(ListChangeListener.Change<? extends Task> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Task> permuted = new ArrayList<>(replayedChanges);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), replayedChanges.get(i));
+                }
+                replayedChanges.clear();
+                replayedChanges.addAll(permuted);
+            } else {
+                replayedChanges.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                replayedChanges.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
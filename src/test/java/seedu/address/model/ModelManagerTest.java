@@ -1,28 +1,54 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Predicate;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.TaskCollectionChangedEvent;
 import seedu.address.model.task.NameContainsKeywordsPredicate;
+import seedu.address.model.task.Task;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
+    @Test
+    public void addPerson_changedEvent_holdsUnchangingSnapshot() {
+        modelManager.addPerson(ALICE);
+        ReadOnlyTaskCollection snapshot = ((TaskCollectionChangedEvent) eventsCollectorRule.eventsCollector
+            .getMostRecent()).data;
+
+        modelManager.addPerson(BENSON);
+        modelManager.deletePerson(ALICE);
+        assertEquals(Collections.singletonList(ALICE), snapshot.getTaskList());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -40,6 +66,51 @@ public class ModelManagerTest {
         assertTrue(modelManager.hasPerson(ALICE));
     }
 
+    @Test
+    public void addPerson_filteredList_keepsFilter() {
+        modelManager.addPerson(ALICE);
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList("Benson")));
+        assertEquals(Collections.emptyList(), modelManager.getFilteredPersonList());
+
+        modelManager.addPerson(CARL);
+        assertEquals(Collections.emptyList(), modelManager.getFilteredPersonList());
+        modelManager.addPerson(BENSON);
+        assertEquals(Collections.singletonList(BENSON), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void getNextDueTasks_nonPositiveCount_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        modelManager.getNextDueTasks(0, true);
+    }
+
+    @Test
+    public void getNextDueTasks_anyFilter_matchesSortedFilteredList() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 200; i++) {
+            modelManager.addPerson(new PersonBuilder().withName("Task " + i)
+                .withDeadline((1 + random.nextInt(28)) + "/" + (1 + random.nextInt(12)) + "/2018").build());
+        }
+
+        // an unfiltered list is walked through the deadline index, a narrow filter through a heap
+        List<Predicate<Task>> filters = Arrays.asList(PREDICATE_SHOW_ALL_PERSONS,
+            task -> task.getName().value.endsWith("7"), task -> task.getName().value.endsWith("17"));
+        for (Predicate<Task> filter : filters) {
+            modelManager.updateFilteredPersonList(filter);
+            for (boolean isEarliestFirst : new boolean[] {true, false}) {
+                Comparator<Task> byDeadline = isEarliestFirst
+                    ? Comparator.comparing(Task::getDeadline)
+                    : Comparator.comparing(Task::getDeadline, Comparator.reverseOrder());
+                List<Task> expected = new ArrayList<>(modelManager.getFilteredPersonList());
+                expected.sort(byDeadline.thenComparingInt(Task::getId));
+                for (int count : new int[] {1, 5, 300, Integer.MAX_VALUE}) {
+                    assertEquals(expected.subList(0, Math.min(count, expected.size())),
+                        modelManager.getNextDueTasks(count, isEarliestFirst));
+                }
+            }
+        }
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
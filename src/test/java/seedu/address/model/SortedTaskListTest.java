@@ -0,0 +1,140 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.task.SortField;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskSortOrder;
+import seedu.address.testutil.PersonBuilder;
+
+public class SortedTaskListTest {
+
+    private static final Comparator<Task> BY_DEADLINE = Comparator.comparing(Task::getDeadline);
+    private static final Comparator<Task> BY_NAME = Comparator.comparing(task -> task.getName().value);
+    private static final Comparator<Task> BY_DUE_THEN_NAME = new TaskSortOrder().thenBy(SortField.DUE, false)
+        .thenBy(SortField.NAME, true);
+
+    private final ObservableList<Task> source = FXCollections.observableArrayList(DANIEL, BENSON, CARL, ALICE);
+    private final SortedTaskList sortedTasks = new SortedTaskList(source);
+    private final List<Task> replayedChanges = new ArrayList<>(sortedTasks);
+
+    public SortedTaskListTest() {
+        sortedTasks.addListener(this::replayChange);
+    }
+
+    @Test
+    public void constructor_inSourceOrder() {
+        assertEquals(source, sortedTasks);
+    }
+
+    @Test
+    public void setComparator_sortsViewOnly() {
+        sortedTasks.setComparator(BY_NAME);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL), sortedTasks);
+        assertEquals(Arrays.asList(DANIEL, BENSON, CARL, ALICE), source);
+        assertEquals(sortedTasks, replayedChanges);
+        assertEquals(3, sortedTasks.getSourceIndex(0));
+        assertEquals(0, sortedTasks.getViewIndex(3));
+
+        sortedTasks.setComparator(null);
+        assertEquals(source, sortedTasks);
+        assertEquals(sortedTasks, replayedChanges);
+    }
+
+    @Test
+    public void getSourceIndex_equalTasks_eachMappedToOwnIndex() {
+        Task aliceCopy = ALICE.withNewId();
+        source.add(0, aliceCopy);
+        sortedTasks.setComparator(BY_NAME);
+        List<Integer> sourceIndexes = Arrays.asList(sortedTasks.getSourceIndex(0), sortedTasks.getSourceIndex(1));
+        sourceIndexes.sort(Comparator.naturalOrder());
+        assertEquals(Arrays.asList(0, 4), sourceIndexes);
+
+        source.remove(aliceCopy);
+        assertEquals(3, sortedTasks.getSourceIndex(0));
+        assertEquals(0, sortedTasks.getSourceIndex(3));
+    }
+
+    @Test
+    public void sourceChanged_editedTask_movesToSortedPosition() {
+        sortedTasks.setComparator(BY_NAME);
+        Task editedAlice = new PersonBuilder(ALICE).withName("Zed").build();
+        source.set(3, editedAlice);
+        assertEquals(Arrays.asList(BENSON, CARL, DANIEL, editedAlice), sortedTasks);
+        assertEquals(sortedTasks, replayedChanges);
+    }
+
+    @Test
+    public void sourceChanged_matchesSortedCopy() {
+        Random random = new Random(2103);
+        Comparator<Task> comparator = null;
+
+        for (int i = 0; i < 500; i++) {
+            Task task = new PersonBuilder(ELLE).withName("Task " + random.nextInt(50))
+                .withDeadline((1 + random.nextInt(28)) + "/" + (9 + random.nextInt(3)) + "/2018").build();
+            switch (source.isEmpty() ? 0 : random.nextInt(6)) {
+            case 0:
+                source.add(random.nextInt(source.size() + 1), task);
+                break;
+            case 1:
+                source.remove(random.nextInt(source.size()));
+                break;
+            case 2:
+                source.set(random.nextInt(source.size()), task);
+                break;
+            case 3:
+                FXCollections.sort(source, BY_NAME);
+                break;
+            case 4:
+                comparator = Arrays.asList(BY_DEADLINE, BY_NAME, BY_DUE_THEN_NAME).get(random.nextInt(3));
+                sortedTasks.setComparator(comparator);
+                break;
+            default:
+                int from = random.nextInt(source.size());
+                source.remove(from, Math.min(source.size(), from + 3));
+                break;
+            }
+            List<Task> expected = new ArrayList<>(source);
+            if (comparator != null) {
+                expected.sort(comparator.thenComparingInt(Task::getId));
+            }
+            assertEquals(expected, sortedTasks);
+            assertEquals(sortedTasks, replayedChanges);
+        }
+    }
+
+    /**
+     * Applies {@code change} to {@code replayedChanges}, so that it should always equal the view.
+     */
+    private void replayChange(ListChangeListener.Change<? extends Task> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<Task> permuted = new ArrayList<>(replayedChanges);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), replayedChanges.get(i));
+                }
+                replayedChanges.clear();
+                replayedChanges.addAll(permuted);
+            } else {
+                replayedChanges.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                replayedChanges.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class TaskCollectionSnapshotTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final TaskCollection taskCollection = new TaskCollection();
+    private final List<TaskDelta> deltas = new ArrayList<>();
+
+    @Test
+    public void basedOn_consecutiveSnapshots_deltasCombined() {
+        taskCollection.addTaskListListener(change -> deltas.addAll(TaskDelta.fromChange(change)));
+        taskCollection.addPerson(ALICE);
+        TaskCollectionSnapshot first = new TaskCollectionSnapshot(taskCollection, 0, 1, deltas);
+        List<TaskDelta> firstDeltas = new ArrayList<>(deltas);
+        deltas.clear();
+        taskCollection.addPerson(BENSON);
+        TaskCollectionSnapshot second = new TaskCollectionSnapshot(taskCollection, 1, 2, deltas);
+
+        TaskCollectionSnapshot combined = second.basedOn(first);
+        assertEquals(0, combined.getBaseVersion());
+        assertEquals(2, combined.getVersion());
+        assertEquals(Arrays.asList(ALICE, BENSON), combined.getTaskList());
+
+        // replaying the combined deltas on the base version gives the tasks of the snapshot
+        TaskCollection replayed = new TaskCollection();
+        combined.getDeltas().forEach(delta -> delta.applyTo(replayed));
+        assertEquals(taskCollection, replayed);
+        assertEquals(firstDeltas, combined.getDeltas().subList(0, firstDeltas.size()));
+    }
+
+    @Test
+    public void basedOn_notPreviousVersion_throwsIllegalArgumentException() {
+        TaskCollectionSnapshot first = new TaskCollectionSnapshot(taskCollection, 0, 1, Collections.emptyList());
+        TaskCollectionSnapshot third = new TaskCollectionSnapshot(taskCollection, 2, 3, Collections.emptyList());
+        thrown.expect(IllegalArgumentException.class);
+        third.basedOn(first);
+    }
+}
@@ -2,28 +2,43 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.model.task.Address;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.exceptions.TaskNotFoundException;
 import seedu.address.testutil.PersonBuilder;
 
 public class TaskCollectionTest {
 
+    private static final LocalDate TODAY = LocalDate.of(2018, 10, 1);
+
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
@@ -77,6 +92,120 @@ public class TaskCollectionTest {
         assertTrue(taskCollection.hasTask(ALICE));
     }
 
+    @Test
+    public void updateTask_identicalTasks_updatesTaskWithSameId() {
+        Task aliceCopy = ALICE.withNewId();
+        taskCollection.addPerson(ALICE);
+        taskCollection.addPerson(aliceCopy);
+        Task editedAliceCopy = new Task(aliceCopy.getId(), aliceCopy.getName(), aliceCopy.getPhone(),
+            aliceCopy.getPriority(), aliceCopy.getEmail(), aliceCopy.getDeadline(),
+            new Address(VALID_ADDRESS_BOB), aliceCopy.getTags(), aliceCopy.getAttachments());
+
+        taskCollection.updateTask(aliceCopy, editedAliceCopy);
+        assertSame(ALICE, taskCollection.getTaskList().get(0));
+        assertSame(editedAliceCopy, taskCollection.getTaskList().get(1));
+    }
+
+    @Test
+    public void removeTask_identicalTasks_removesTaskWithSameId() {
+        Task aliceCopy = ALICE.withNewId();
+        taskCollection.addPerson(ALICE);
+        taskCollection.addPerson(aliceCopy);
+
+        taskCollection.removeTask(aliceCopy);
+        assertEquals(1, taskCollection.getTaskList().size());
+        assertSame(ALICE, taskCollection.getTaskList().get(0));
+    }
+
+    @Test
+    public void addTasks_clashingIds_singleChangeWithUniqueIds() {
+        taskCollection.addPerson(ALICE);
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        taskCollection.getTaskList().addListener((ListChangeListener<Task>) changes::add);
+
+        taskCollection.addTasks(Arrays.asList(ALICE, BENSON, BENSON));
+        assertEquals(1, changes.size());
+        assertEquals(Arrays.asList(ALICE, ALICE, BENSON, BENSON), taskCollection.getTaskList());
+        assertEquals(4, taskCollection.getTaskList().stream().mapToInt(Task::getId).distinct().count());
+    }
+
+    @Test
+    public void updateTasks_missingTask_throwsTaskNotFoundExceptionAndKeepsTasks() {
+        taskCollection.addPerson(ALICE);
+        Map<Task, Task> editedTasks = new LinkedHashMap<>();
+        editedTasks.put(ALICE, BENSON);
+        editedTasks.put(CARL, BENSON);
+
+        thrown.expect(TaskNotFoundException.class);
+        try {
+            taskCollection.updateTasks(editedTasks);
+        } finally {
+            assertEquals(Collections.singletonList(ALICE), taskCollection.getTaskList());
+        }
+    }
+
+    @Test
+    public void updateAndRemoveTasks_typicalTasks_singleChangeEach() {
+        taskCollection.resetData(getTypicalAddressBook());
+        List<ListChangeListener.Change<? extends Task>> changes = new ArrayList<>();
+        taskCollection.getTaskList().addListener((ListChangeListener<Task>) changes::add);
+        Task editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        Task editedCarl = new PersonBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        Map<Task, Task> editedTasks = new HashMap<>();
+        editedTasks.put(ALICE, editedAlice);
+        editedTasks.put(CARL, editedCarl);
+
+        taskCollection.updateTasks(editedTasks);
+        assertEquals(1, changes.size());
+        assertEquals(editedAlice, taskCollection.getTaskList().get(0));
+        assertEquals(editedCarl, taskCollection.getTaskList().get(2));
+
+        taskCollection.removeTasks(Arrays.asList(editedAlice, editedCarl, BENSON, AMY));
+        assertEquals(2, changes.size());
+        assertEquals(4, taskCollection.getTaskList().size());
+        assertFalse(taskCollection.hasTask(BENSON));
+        assertEquals(new TaskCollection(taskCollection).getStatistics(TODAY), taskCollection.getStatistics(TODAY));
+    }
+
+    @Test
+    public void getStatistics_typicalTasks_countsByPriorityTagAndDeadline() {
+        Map<String, Integer> priorityCounts = new HashMap<>();
+        priorityCounts.put("1", 2);
+        priorityCounts.put("2", 2);
+        priorityCounts.put("3", 2);
+        priorityCounts.put("4", 1);
+        Map<String, Integer> tagCounts = new HashMap<>();
+        tagCounts.put("friends", 3);
+        tagCounts.put("owesMoney", 1);
+
+        // ALICE is due today, ELLE, FIONA and GEORGE tomorrow, and the rest later
+        TaskStatistics expected = new TaskStatistics(7, priorityCounts, tagCounts, 0, 1, 3, 3);
+        assertEquals(expected, getTypicalAddressBook().getStatistics(TODAY));
+    }
+
+    @Test
+    public void getTasksInDeadlineOrder_countLargerThanCollection_returnsAllTasks() {
+        TaskCollection typicalTaskCollection = getTypicalAddressBook();
+        List<Task> expected = new ArrayList<>(typicalTaskCollection.getTaskList());
+        expected.sort(Comparator.comparing(Task::getDeadline).thenComparingInt(Task::getId));
+        assertEquals(expected, typicalTaskCollection.getTasksInDeadlineOrder(Integer.MAX_VALUE, true, task -> true));
+    }
+
+    @Test
+    public void getStatistics_afterChangesAndUndo_sameAsRecounted() {
+        VersionedTaskCollection versionedTaskCollection = new VersionedTaskCollection(getTypicalAddressBook());
+        versionedTaskCollection.removeTask(ALICE);
+        versionedTaskCollection.updateTask(BENSON, new PersonBuilder(BENSON).withPriority("4").withTags("exam")
+            .withDeadline("30/9/2018").build());
+        versionedTaskCollection.addPerson(new PersonBuilder().withDeadline("5/10/2018").withTags("exam").build());
+        assertEquals(new TaskCollection(versionedTaskCollection).getStatistics(TODAY),
+            versionedTaskCollection.getStatistics(TODAY));
+
+        versionedTaskCollection.commit();
+        versionedTaskCollection.undo();
+        assertEquals(getTypicalAddressBook().getStatistics(TODAY), versionedTaskCollection.getStatistics(TODAY));
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
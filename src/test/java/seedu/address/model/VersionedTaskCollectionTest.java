@@ -4,16 +4,25 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
 
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 
 import org.junit.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.task.Task;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class VersionedTaskCollectionTest {
@@ -197,6 +206,107 @@ public class VersionedTaskCollectionTest {
             Collections.singletonList(addressBookWithBob));
     }
 
+    @Test
+    public void undoRedo_singleUpdatedTask_onlyUpdatedSlotReplaced() {
+        VersionedTaskCollection versionedAddressBook = prepareAddressBookList(
+            new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).withPerson(CARL).build());
+        versionedAddressBook.updateTask(BENSON, BOB);
+        versionedAddressBook.commit();
+
+        List<String> changes = new ArrayList<>();
+        ObservableList<Task> taskList = versionedAddressBook.getTaskList();
+        taskList.addListener((ListChangeListener<Task>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + ":" + change.getRemoved() + "->" + change.getAddedSubList());
+            }
+        });
+
+        versionedAddressBook.undo();
+        versionedAddressBook.redo();
+        assertEquals(Arrays.asList("1:" + Arrays.asList(BOB) + "->" + Arrays.asList(BENSON),
+            "1:" + Arrays.asList(BENSON) + "->" + Arrays.asList(BOB)), changes);
+        assertEquals(Arrays.asList(ALICE, BOB, CARL), taskList);
+    }
+
+    @Test
+    public void undoRedo_multipleSteps_success() {
+        VersionedTaskCollection versionedAddressBook = prepareAddressBookList(
+            emptyAddressBook, addressBookWithAmy, addressBookWithBob, addressBookWithCarl);
+
+        versionedAddressBook.undo(2);
+        assertEquals(addressBookWithAmy, new TaskCollection(versionedAddressBook));
+
+        // more steps than states -> stops at first state
+        versionedAddressBook.undo(5);
+        assertEquals(emptyAddressBook, new TaskCollection(versionedAddressBook));
+
+        versionedAddressBook.redo(3);
+        assertEquals(addressBookWithCarl, new TaskCollection(versionedAddressBook));
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undo_uncommittedChanges_changesDiscarded() {
+        VersionedTaskCollection versionedAddressBook = prepareAddressBookList(
+            new AddressBookBuilder().withPerson(CARL).withPerson(AMY).build(), addressBookWithBob);
+        versionedAddressBook.addPerson(ALICE);
+        versionedAddressBook.removeTask(CARL);
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(CARL, AMY), versionedAddressBook.getTaskList());
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithBob, new TaskCollection(versionedAddressBook));
+    }
+
+    @Test
+    public void undo_bulkChanges_allRevertedAsOneState() {
+        VersionedTaskCollection versionedAddressBook = prepareAddressBookList(
+            new AddressBookBuilder().withPerson(CARL).withPerson(BENSON).withPerson(ALICE).build());
+        versionedAddressBook.addTasks(Arrays.asList(AMY, BOB));
+        versionedAddressBook.updateTasks(Collections.singletonMap(BENSON, BENSON.withNewId()));
+        versionedAddressBook.removeTasks(Arrays.asList(CARL, AMY));
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(CARL, BENSON, ALICE), versionedAddressBook.getTaskList());
+        versionedAddressBook.redo();
+        assertEquals(Arrays.asList(BENSON, ALICE, BOB), versionedAddressBook.getTaskList());
+    }
+
+    @Test
+    public void commit_historyLimitExceeded_oldestStatesArchived() {
+        StubRevisionArchive archive = new StubRevisionArchive();
+        VersionedTaskCollection versionedAddressBook = new VersionedTaskCollection(emptyAddressBook, 1, archive);
+        versionedAddressBook.resetData(addressBookWithAmy);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(addressBookWithBob);
+        versionedAddressBook.commit();
+        assertEquals(1, archive.revisions.size());
+
+        versionedAddressBook.undo(2);
+        assertEquals(emptyAddressBook, new TaskCollection(versionedAddressBook));
+        assertTrue(archive.revisions.isEmpty());
+
+        versionedAddressBook.redo(2);
+        assertEquals(addressBookWithBob, new TaskCollection(versionedAddressBook));
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void undo_archiveUnreadable_stopsAtOldestStateInMemory() {
+        StubRevisionArchive archive = new StubRevisionArchive();
+        VersionedTaskCollection versionedAddressBook = new VersionedTaskCollection(emptyAddressBook, 1, archive);
+        versionedAddressBook.resetData(addressBookWithAmy);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(addressBookWithBob);
+        versionedAddressBook.commit();
+        archive.isReadable = false;
+
+        versionedAddressBook.undo(2);
+        assertEquals(addressBookWithAmy, new TaskCollection(versionedAddressBook));
+        assertFalse(versionedAddressBook.canUndo());
+    }
+
     @Test
     public void redo_singleAddressBook_throwsNoRedoableStateException() {
         VersionedTaskCollection versionedAddressBook = prepareAddressBookList(emptyAddressBook);
@@ -307,4 +417,35 @@ public class VersionedTaskCollectionTest {
             versionedAddressBook.undo();
         }
     }
+
+    /**
+     * A {@code RevisionArchive} that keeps its revisions in memory.
+     */
+    private class StubRevisionArchive implements RevisionArchive {
+        private final Deque<List<TaskDelta>> revisions = new ArrayDeque<>();
+        private boolean isReadable = true;
+
+        @Override
+        public void push(List<TaskDelta> revision) {
+            revisions.push(revision);
+        }
+
+        @Override
+        public List<TaskDelta> pop() throws IOException {
+            if (!isReadable) {
+                throw new IOException("stub archive is unreadable");
+            }
+            return revisions.pop();
+        }
+
+        @Override
+        public int size() {
+            return revisions.size();
+        }
+
+        @Override
+        public void clear() {
+            revisions.clear();
+        }
+    }
 }
@@ -0,0 +1,92 @@
+package seedu.address.model.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.TaskCollection;
+import seedu.address.model.task.FilterOperator;
+import seedu.address.model.task.IndexedTaskPredicate;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.exceptions.InvalidPredicateException;
+
+public class QueryPlannerTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final TaskCollection taskCollection = getTypicalAddressBook();
+
+    @Test
+    public void plan_nullQuery_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        QueryPlanner.plan(null, taskCollection);
+    }
+
+    @Test
+    public void plan_selectiveCondition_usesIndex() throws Exception {
+        ConditionQuery friends = condition(QueryField.TAG, FilterOperator.CONVENIENCE, "friends");
+        QueryPlan plan = QueryPlanner.plan(friends, taskCollection);
+        assertEquals(friends, plan.getIndexedCondition());
+        assertEquals(Collections.emptyList(), plan.getResidualConditions());
+        assertTrue(plan.getPredicate() instanceof IndexedTaskPredicate);
+    }
+
+    @Test
+    public void plan_unselectiveCondition_testsEveryTask() throws Exception {
+        // every typical task is due on or before 1/1/2020
+        ConditionQuery due = condition(QueryField.DUE, FilterOperator.LESS, "1/1/2020");
+        QueryPlan plan = QueryPlanner.plan(due, taskCollection);
+        assertNull(plan.getIndexedCondition());
+        assertEquals(Collections.singletonList(due), plan.getResidualConditions());
+    }
+
+    @Test
+    public void plan_conjunction_mostSelectiveConditionUsesIndexAndResidualsOrderedByRank() throws Exception {
+        ConditionQuery due = condition(QueryField.DUE, FilterOperator.LESS, "1/11/2018");
+        ConditionQuery priority = condition(QueryField.PRIORITY, FilterOperator.LESS, "2");
+        ConditionQuery name = condition(QueryField.NAME, FilterOperator.GREATER, "meier");
+        Query query = new AndQuery(Arrays.asList(due, new AndQuery(Arrays.asList(priority, name))));
+
+        QueryPlan plan = QueryPlanner.plan(query, taskCollection);
+        assertEquals(name, plan.getIndexedCondition());
+        // more tasks fail the priority condition, at the same cost
+        assertEquals(Arrays.asList(priority, due), plan.getResidualConditions());
+        assertEquals(filter(query), filter(plan.getPredicate()));
+    }
+
+    @Test
+    public void plan_disjunction_operandMostLikelyToPassFirst() throws Exception {
+        ConditionQuery name = condition(QueryField.NAME, FilterOperator.GREATER, "meier");
+        ConditionQuery priority = condition(QueryField.PRIORITY, FilterOperator.EQUAL, "1");
+        ConditionQuery due = condition(QueryField.DUE, FilterOperator.LESS, "1/1/2020");
+        NotQuery notFriends = new NotQuery(condition(QueryField.TAG, FilterOperator.CONVENIENCE, "friends"));
+        Query query = new AndQuery(Arrays.asList(new OrQuery(Arrays.asList(priority, due)), notFriends, name));
+
+        QueryPlan plan = QueryPlanner.plan(query, taskCollection);
+        assertEquals(name, plan.getIndexedCondition());
+        assertEquals(Arrays.asList(notFriends, new OrQuery(Arrays.asList(due, priority))),
+            plan.getResidualConditions());
+        assertEquals(filter(query), filter(plan.getPredicate()));
+    }
+
+    private static ConditionQuery condition(QueryField field, FilterOperator operator, String literal)
+        throws InvalidPredicateException {
+        return new ConditionQuery(field, operator, literal);
+    }
+
+    private List<Task> filter(Predicate<Task> predicate) {
+        return taskCollection.getTaskList().stream().filter(predicate).collect(Collectors.toList());
+    }
+}
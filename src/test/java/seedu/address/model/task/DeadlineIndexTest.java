@@ -0,0 +1,59 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.testutil.PersonBuilder;
+
+public class DeadlineIndexTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObservableList<Task> tasks = FXCollections.observableArrayList(ALICE, BENSON, CARL);
+    private final DeadlineIndex index = new DeadlineIndex(tasks);
+
+    @Test
+    public void constructor_nullList_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new DeadlineIndex(null);
+    }
+
+    @Test
+    public void getTaskIdsBetween_bounds_inclusive() {
+        // ALICE 1/10/2018, CARL 31/10/2018, BENSON 1/11/2018
+        assertEquals(idsOf(ALICE, CARL),
+            index.getTaskIdsBetween(new Deadline("1/10/2018"), new Deadline("31/10/2018")));
+        assertEquals(idsOf(CARL, BENSON), index.getTaskIdsBetween(new Deadline("2/10/2018"), null));
+        assertEquals(idsOf(ALICE), index.getTaskIdsBetween(null, new Deadline("1/10/2018")));
+        assertEquals(idsOf(ALICE, BENSON, CARL), index.getTaskIdsBetween(null, null));
+        assertEquals(new TaskIdSet(), index.getTaskIdsBetween(new Deadline("2/11/2018"), null));
+    }
+
+    @Test
+    public void getTaskIdsBetween_listChanged_indexUpdated() {
+        Task editedCarl = new PersonBuilder(CARL).withDeadline("1/12/2018").build();
+        tasks.set(2, editedCarl);
+        tasks.remove(ALICE);
+        tasks.add(DANIEL);
+        assertEquals(idsOf(BENSON), index.getTaskIdsBetween(null, new Deadline("30/11/2018")));
+        assertEquals(idsOf(editedCarl, DANIEL), index.getTaskIdsBetween(new Deadline("1/12/2018"), null));
+    }
+
+    private TaskIdSet idsOf(Task... tasks) {
+        TaskIdSet ids = new TaskIdSet();
+        Stream.of(tasks).mapToInt(Task::getId).forEach(ids::add);
+        return ids;
+    }
+}
@@ -1,5 +1,6 @@
 package seedu.address.model.task;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -9,6 +10,7 @@ import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.model.TaskCollection;
 import seedu.address.testutil.PersonBuilder;
 
 public class NameContainsKeywordsPredicateTest {
@@ -78,4 +80,24 @@ public class NameContainsKeywordsPredicateTest {
         assertFalse(predicate.test(new PersonBuilder().withName("Alice").withPhone("12345")
             .withEmail("alice@email.com").withAddress("Main Street").build()));
     }
+
+    @Test
+    public void getCandidateIds_keywords_unionOfMatchingTasks() {
+        TaskCollection taskCollection = new TaskCollection();
+        taskCollection.addPerson(new PersonBuilder().withName("Alice Bob").build());
+        taskCollection.addPerson(new PersonBuilder().withName("Carol").build());
+        taskCollection.addPerson(new PersonBuilder().withName("Bobby Dan").build());
+        List<Task> tasks = taskCollection.getTaskList();
+
+        TaskIdSet expectedIds = new TaskIdSet();
+        expectedIds.add(tasks.get(0).getId());
+        expectedIds.add(tasks.get(1).getId());
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("bOB", "carol"));
+        assertEquals(expectedIds, predicate.getCandidateIds(taskCollection));
+
+        // edited and removed tasks are no longer found by their old names
+        taskCollection.updateTask(tasks.get(0), new PersonBuilder(tasks.get(0)).withName("Alice").build());
+        taskCollection.removeTask(tasks.get(1));
+        assertTrue(predicate.getCandidateIds(taskCollection).isEmpty());
+    }
 }
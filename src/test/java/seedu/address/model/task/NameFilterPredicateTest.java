@@ -0,0 +1,72 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.model.TaskCollection;
+import seedu.address.testutil.PersonBuilder;
+
+public class NameFilterPredicateTest {
+
+    private static final String[] NAMES = {"Alice Pauline", "Benson Meier", "Carl Kurz", "Al", "B", "al ice",
+        "Paul", "ALICE", "Bob 2", "x"};
+    private static final String[] PHRASES = {"alice", "ALI", "li", "a", "Alice Pauline", "Al", "b", "bob 2 x",
+        "Paul", "Carl Kurz and Alice", "zzz", " ice "};
+
+    @Test
+    public void trigramsOf_shortName_keyedByWholeName() {
+        assertEquals(Set.of("al"), Name.trigramsOf("Al"));
+        assertEquals(Set.of("ali", "lic", "ice"), Name.trigramsOf("ALICE"));
+        assertEquals(Set.of("bob", "ob ", "b b", " bo"), Name.trigramsOf("Bob bob "));
+    }
+
+    @Test
+    public void getCandidateIds_allOperators_containAllMatchingTasks() throws Exception {
+        TaskCollection taskCollection = new TaskCollection();
+        for (String name : NAMES) {
+            taskCollection.addPerson(new PersonBuilder().withName(name).build());
+        }
+
+        for (FilterOperator operator : new FilterOperator[] {FilterOperator.EQUAL, FilterOperator.LESS,
+            FilterOperator.GREATER, FilterOperator.CONVENIENCE}) {
+            for (String phrase : PHRASES) {
+                NameFilterPredicate predicate = new NameFilterPredicate(operator, phrase);
+                TaskIdSet candidateIds = predicate.getCandidateIds(taskCollection);
+                for (Task task : taskCollection.getTaskList()) {
+                    String message = task.getName() + " " + operator + " " + phrase;
+                    assertTrue(message, !predicate.test(task) || candidateIds.contains(task.getId()));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void getCandidateIds_longPhrase_narrowsCandidates() throws Exception {
+        TaskCollection taskCollection = new TaskCollection();
+        Task alice = new PersonBuilder().withName("Alice Pauline").build();
+        Task benson = new PersonBuilder().withName("Benson Meier").build();
+        taskCollection.addPerson(alice);
+        taskCollection.addPerson(benson);
+
+        NameFilterPredicate predicate = new NameFilterPredicate(FilterOperator.GREATER, "pAUl");
+        TaskIdSet candidateIds = predicate.getCandidateIds(taskCollection);
+        assertTrue(candidateIds.contains(taskCollection.getTaskList().get(0).getId()));
+        assertFalse(candidateIds.contains(taskCollection.getTaskList().get(1).getId()));
+    }
+
+    @Test
+    public void test_operators() throws Exception {
+        Task alice = new PersonBuilder().withName("Alice Pauline").build();
+        assertTrue(new NameFilterPredicate(FilterOperator.EQUAL, "Alice Pauline").test(alice));
+        assertFalse(new NameFilterPredicate(FilterOperator.EQUAL, "alice pauline").test(alice));
+        assertTrue(new NameFilterPredicate(FilterOperator.GREATER, "PAUL").test(alice));
+        assertTrue(new NameFilterPredicate(FilterOperator.CONVENIENCE, "ice pau").test(alice));
+        assertTrue(new NameFilterPredicate(FilterOperator.LESS, "alice pauline and bob").test(alice));
+        assertFalse(new NameFilterPredicate(FilterOperator.LESS, "alice").test(alice));
+    }
+}
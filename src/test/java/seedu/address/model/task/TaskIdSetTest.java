@@ -0,0 +1,123 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class TaskIdSetTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void add_negativeId_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new TaskIdSet().add(-1);
+    }
+
+    @Test
+    public void addRemove_sparseIds() {
+        TaskIdSet taskIds = new TaskIdSet();
+        assertTrue(taskIds.add(Task.MAX_STORED_ID - 1));
+        assertTrue(taskIds.add(3));
+        assertTrue(taskIds.add(70000));
+        assertFalse(taskIds.add(3));
+        assertEquals(3, taskIds.size());
+        assertArrayEquals(new int[] {3, 70000, Task.MAX_STORED_ID - 1}, taskIds.toArray());
+        assertTrue(taskIds.contains(70000));
+        assertFalse(taskIds.contains(70001));
+        assertFalse(taskIds.contains(-1));
+
+        assertTrue(taskIds.remove(70000));
+        assertFalse(taskIds.remove(70000));
+        assertFalse(taskIds.remove(-1));
+        assertEquals("{3, " + (Task.MAX_STORED_ID - 1) + "}", taskIds.toString());
+        assertEquals(TaskIdSet.of(Task.MAX_STORED_ID - 1, 3), taskIds);
+    }
+
+    @Test
+    public void addRemove_denseChunk_switchesContainers() {
+        int idCount = TaskIdSet.ARRAY_CONTAINER_MAX_SIZE * 2;
+        TaskIdSet taskIds = new TaskIdSet();
+        for (int id = 0; id < idCount; id++) {
+            taskIds.add(id);
+        }
+        assertEquals(idCount, taskIds.size());
+        assertTrue(taskIds.contains(idCount - 1));
+        assertFalse(taskIds.contains(idCount));
+
+        for (int id = 0; id < idCount; id += 2) {
+            taskIds.remove(id);
+        }
+        assertEquals(idCount / 2, taskIds.size());
+        assertFalse(taskIds.contains(0));
+        assertTrue(taskIds.contains(1));
+        assertEquals(1, taskIds.toArray()[0]);
+    }
+
+    @Test
+    public void andOrAndNot_mixedContainers_sameAsSortedSets() {
+        Random random = new Random(2103);
+        for (int round = 0; round < 20; round++) {
+            TreeSet<Integer> expectedFirst = new TreeSet<>();
+            TreeSet<Integer> expectedSecond = new TreeSet<>();
+            TaskIdSet first = randomIds(random, expectedFirst);
+            TaskIdSet second = randomIds(random, expectedSecond);
+
+            TaskIdSet intersection = first.copy();
+            intersection.and(second);
+            TreeSet<Integer> expectedIntersection = new TreeSet<>(expectedFirst);
+            expectedIntersection.retainAll(expectedSecond);
+            assertSameIds(expectedIntersection, intersection);
+
+            TaskIdSet union = first.copy();
+            union.or(second);
+            TreeSet<Integer> expectedUnion = new TreeSet<>(expectedFirst);
+            expectedUnion.addAll(expectedSecond);
+            assertSameIds(expectedUnion, union);
+
+            TaskIdSet difference = first.copy();
+            difference.andNot(second);
+            TreeSet<Integer> expectedDifference = new TreeSet<>(expectedFirst);
+            expectedDifference.removeAll(expectedSecond);
+            assertSameIds(expectedDifference, difference);
+
+            // the operands are unchanged, and the results can be modified independently of them
+            union.add(Task.MAX_STORED_ID - 1);
+            difference.remove(expectedFirst.isEmpty() ? 0 : expectedFirst.first());
+            assertSameIds(expectedFirst, first);
+            assertSameIds(expectedSecond, second);
+        }
+    }
+
+    /**
+     * Returns a set of random ids in a few chunks, some sparse and some dense, which are also added
+     * to {@code expectedIds}.
+     */
+    private TaskIdSet randomIds(Random random, TreeSet<Integer> expectedIds) {
+        TaskIdSet taskIds = new TaskIdSet();
+        for (int chunk = 0; chunk < 3; chunk++) {
+            int idCount = random.nextBoolean() ? random.nextInt(100) : random.nextInt(20000);
+            int chunkBase = random.nextInt(4) << 16;
+            for (int i = 0; i < idCount; i++) {
+                int id = chunkBase + random.nextInt(1 << 16);
+                taskIds.add(id);
+                expectedIds.add(id);
+            }
+        }
+        return taskIds;
+    }
+
+    private void assertSameIds(TreeSet<Integer> expectedIds, TaskIdSet taskIds) {
+        assertEquals(expectedIds.size(), taskIds.size());
+        assertArrayEquals(expectedIds.stream().mapToInt(Integer::intValue).toArray(), taskIds.toArray());
+    }
+}
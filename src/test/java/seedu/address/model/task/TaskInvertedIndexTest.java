@@ -0,0 +1,117 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
+
+public class TaskInvertedIndexTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Tag friends = new Tag("friends");
+    private final Tag owesMoney = new Tag("owesMoney");
+
+    // ALICE [friends], BENSON [owesMoney, friends], CARL []
+    private final ObservableList<Task> tasks = FXCollections.observableArrayList(ALICE, BENSON, CARL);
+    private final TaskInvertedIndex<Tag> index = new TaskInvertedIndex<>(tasks, Task::getTags);
+
+    @Test
+    public void constructor_nullList_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new TaskInvertedIndex<>(null, Task::getTags);
+    }
+
+    @Test
+    public void getTaskIds_singleKey() {
+        assertEquals(idsOf(ALICE, BENSON), index.getTaskIds(friends));
+        assertEquals(idsOf(), index.getTaskIds(new Tag("unknown")));
+    }
+
+    @Test
+    public void getTaskIdsWithAll_keys_intersection() {
+        assertEquals(idsOf(BENSON), index.getTaskIdsWithAll(Arrays.asList(friends, owesMoney)));
+        assertEquals(idsOf(ALICE, BENSON, CARL), index.getTaskIdsWithAll(Collections.emptyList()));
+        assertEquals(idsOf(), index.getTaskIdsWithAll(Arrays.asList(friends, new Tag("unknown"))));
+    }
+
+    @Test
+    public void getTaskIdsWithAll_nameTrigramsOfSparseIds_intersection() {
+        Task farAlice = withId(ALICE, Task.MAX_STORED_ID - 1);
+        Task nearAlice = withId(new PersonBuilder().withName("Alice Bee").build(), 7);
+        Task benson = withId(BENSON, 1 << 20);
+        ObservableList<Task> sparseTasks = FXCollections.observableArrayList(farAlice, nearAlice, benson);
+        TaskInvertedIndex<String> trigramIndex =
+            new TaskInvertedIndex<>(sparseTasks, task -> Name.trigramsOf(task.getName().value));
+
+        assertEquals(idsOf(nearAlice, farAlice), trigramIndex.getTaskIdsWithAll(Name.trigramsOf("alice")));
+        assertEquals(idsOf(farAlice), trigramIndex.getTaskIdsWithAll(Name.trigramsOf("ice pau")));
+        assertEquals(2, trigramIndex.getTaskCount("ali"));
+        assertEquals(3, trigramIndex.getTaskCount());
+    }
+
+    @Test
+    public void getTaskIdsWithAny_keys_union() {
+        assertEquals(idsOf(ALICE, BENSON), index.getTaskIdsWithAny(Arrays.asList(owesMoney, friends)));
+    }
+
+    @Test
+    public void getTaskIdsWithAny_nameWordsOfSparseIds_union() {
+        Task farAlice = withId(ALICE, Task.MAX_STORED_ID - 1);
+        Task benson = withId(BENSON, 3);
+        Task carl = withId(CARL, 1 << 24);
+        ObservableList<Task> sparseTasks = FXCollections.observableArrayList(farAlice, benson, carl);
+        TaskInvertedIndex<String> wordIndex =
+            new TaskInvertedIndex<>(sparseTasks, task -> Name.wordsOf(task.getName().value));
+
+        assertEquals(idsOf(benson, farAlice), wordIndex.getTaskIdsWithAny(Arrays.asList("pauline", "benson")));
+        sparseTasks.remove(farAlice);
+        assertEquals(idsOf(benson), wordIndex.getTaskIdsWithAny(Arrays.asList("pauline", "benson")));
+        assertFalse(wordIndex.getKeys().contains("alice"));
+    }
+
+    @Test
+    public void getTaskIdsWithOnly_keys_tasksWithoutOtherKeys() {
+        assertEquals(idsOf(ALICE, CARL), index.getTaskIdsWithOnly(Collections.singletonList(friends)));
+        assertEquals(idsOf(CARL), index.getTaskIdsWithOnly(Collections.emptyList()));
+    }
+
+    @Test
+    public void listChanged_indexUpdated() {
+        Task retaggedAlice = new PersonBuilder(ALICE).withTags("colleagues").build();
+        tasks.set(0, retaggedAlice);
+        tasks.remove(BENSON);
+        tasks.add(DANIEL);
+
+        assertEquals(idsOf(DANIEL), index.getTaskIds(friends));
+        assertFalse(index.getKeys().contains(owesMoney));
+        assertEquals(idsOf(retaggedAlice, CARL, DANIEL), index.getAllTaskIds());
+    }
+
+    private Task withId(Task task, int id) {
+        return new Task(id, task.getName(), task.getPhone(), task.getPriority(), task.getEmail(), task.getDeadline(),
+            task.getAddress(), task.getTags(), task.getAttachments());
+    }
+
+    private TaskIdSet idsOf(Task... tasks) {
+        TaskIdSet ids = new TaskIdSet();
+        Stream.of(tasks).mapToInt(Task::getId).forEach(ids::add);
+        return ids;
+    }
+}
@@ -0,0 +1,127 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.function.Function;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+
+public class TaskPositionIndexTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObservableList<Task> tasks = FXCollections.observableArrayList();
+    private final TaskPositionIndex<Task> index = new TaskPositionIndex<>(tasks, Function.identity());
+
+    @Test
+    public void constructor_nullList_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new TaskPositionIndex<>(null, Function.identity());
+    }
+
+    @Test
+    public void constructor_nonEmptyList_indexesExistingTasks() {
+        ObservableList<Task> existingTasks = FXCollections.observableArrayList(ALICE, BENSON);
+        TaskPositionIndex<Task> existingIndex = new TaskPositionIndex<>(existingTasks, Function.identity());
+        assertIndexMatchesList(existingTasks, existingIndex);
+    }
+
+    @Test
+    public void contains_nullTask_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        index.contains(null);
+    }
+
+    @Test
+    public void indexOf_taskNotInList_returnsMinusOne() {
+        assertFalse(index.contains(ALICE));
+        assertEquals(-1, index.indexOf(ALICE));
+    }
+
+    @Test
+    public void add_appendAndInsert_positionsTracked() {
+        tasks.addAll(ALICE, BENSON);
+        tasks.add(0, CARL);
+        assertIndexMatchesList(tasks, index);
+    }
+
+    @Test
+    public void remove_fromMiddle_laterPositionsShifted() {
+        tasks.addAll(ALICE, BENSON, CARL, DANIEL);
+        tasks.remove(1);
+        assertFalse(index.contains(BENSON));
+        assertIndexMatchesList(tasks, index);
+    }
+
+    @Test
+    public void set_replacesTask_positionsTracked() {
+        tasks.addAll(ALICE, BENSON, CARL);
+        tasks.set(1, BOB);
+        assertFalse(index.contains(BENSON));
+        assertIndexMatchesList(tasks, index);
+    }
+
+    @Test
+    public void remove_firstOfDuplicates_nextOccurrenceFound() {
+        tasks.addAll(ALICE, BENSON, ALICE);
+        tasks.remove(0);
+        assertTrue(index.contains(ALICE));
+        assertIndexMatchesList(tasks, index);
+
+        tasks.remove(1);
+        assertFalse(index.contains(ALICE));
+    }
+
+    @Test
+    public void set_firstOfDuplicates_nextOccurrenceFound() {
+        tasks.addAll(ALICE, BENSON, ALICE);
+        tasks.set(0, CARL);
+        assertIndexMatchesList(tasks, index);
+    }
+
+    @Test
+    public void indexOf_keyedById_identicalTasksToldApart() {
+        Task aliceCopy = ALICE.withNewId();
+        TaskPositionIndex<Integer> idIndex = new TaskPositionIndex<>(tasks, Task::getId);
+        tasks.addAll(ALICE, aliceCopy);
+        assertEquals(0, idIndex.indexOf(ALICE.getId()));
+        assertEquals(1, idIndex.indexOf(aliceCopy.getId()));
+        assertEquals(0, index.indexOf(aliceCopy));
+    }
+
+    @Test
+    public void sortAndSetAll_positionsTracked() {
+        tasks.addAll(DANIEL, CARL, BENSON, ALICE);
+        FXCollections.sort(tasks, Comparator.comparing(Task::getName));
+        assertIndexMatchesList(tasks, index);
+
+        tasks.setAll(Arrays.asList(BOB, ALICE));
+        assertFalse(index.contains(CARL));
+        assertIndexMatchesList(tasks, index);
+    }
+
+    /**
+     * Asserts that {@code index} answers the same as a linear scan of {@code list}.
+     */
+    private void assertIndexMatchesList(ObservableList<Task> list, TaskPositionIndex<Task> index) {
+        for (Task task : list) {
+            assertTrue(index.contains(task));
+            assertEquals(list.indexOf(task), index.indexOf(task));
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class TaskSortOrderTest {
+
+    @Test
+    public void compare_emptyOrder_allTasksEqual() {
+        assertEquals(0, new TaskSortOrder().compare(ALICE, DANIEL));
+    }
+
+    @Test
+    public void compare_singleField_matchesFieldOrder() {
+        Random random = new Random(2103);
+        List<Task> tasks = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            tasks.add(new PersonBuilder(ELLE).withName("Ab" + (char) ('a' + random.nextInt(3)) + random.nextInt(10))
+                .withDeadline((1 + random.nextInt(28)) + "/" + (1 + random.nextInt(12)) + "/2018")
+                .withPriority(String.valueOf(1 + random.nextInt(4))).build());
+        }
+
+        assertSameSigns(Comparator.comparing(Task::getName), new TaskSortOrder().thenBy(SortField.NAME, true), tasks);
+        assertSameSigns(Comparator.comparing(Task::getDeadline),
+            new TaskSortOrder().thenBy(SortField.DUE, true), tasks);
+        assertSameSigns(Comparator.comparing(Task::getPriority),
+            new TaskSortOrder().thenBy(SortField.PRIORITY, true), tasks);
+        assertSameSigns(Comparator.comparing(Task::getName).reversed(),
+            new TaskSortOrder().thenBy(SortField.NAME, false), tasks);
+    }
+
+    @Test
+    public void compare_tag_byFirstTagName() {
+        TaskSortOrder byTag = new TaskSortOrder().thenBy(SortField.TAG, true);
+
+        // same first tag -> equal
+        assertEquals(0, byTag.compare(ALICE, BENSON));
+
+        // no tags -> before every task with tags
+        assertTrue(byTag.compare(CARL, ALICE) < 0);
+
+        // ties broken by the next field
+        TaskSortOrder byTagThenPriority = byTag.thenBy(SortField.PRIORITY, false);
+        assertTrue(byTagThenPriority.compare(ALICE, BENSON) > 0);
+    }
+
+    @Test
+    public void equals() {
+        TaskSortOrder byDue = new TaskSortOrder().thenBy(SortField.DUE, true);
+
+        // same values -> returns true
+        assertTrue(byDue.equals(new TaskSortOrder().thenBy(SortField.DUE, true)));
+
+        // different direction -> returns false
+        assertFalse(byDue.equals(new TaskSortOrder().thenBy(SortField.DUE, false)));
+
+        // different fields -> returns false
+        assertFalse(byDue.equals(byDue.thenBy(SortField.NAME, true)));
+    }
+
+    /**
+     * Asserts that {@code sortOrder} orders every pair of {@code tasks} as {@code expected} does.
+     */
+    private void assertSameSigns(Comparator<Task> expected, TaskSortOrder sortOrder, List<Task> tasks) {
+        for (Task first : tasks) {
+            for (Task second : tasks) {
+                assertEquals(first + " vs " + second, Integer.signum(expected.compare(first, second)),
+                    Integer.signum(sortOrder.compare(first, second)));
+            }
+        }
+    }
+}
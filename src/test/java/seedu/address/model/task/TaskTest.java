@@ -14,6 +14,7 @@ import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.TaskCollection;
 import seedu.address.testutil.PersonBuilder;
 
 public class TaskTest {
@@ -28,6 +29,17 @@ public class TaskTest {
         task.getTags().remove(0);
     }
 
+    @Test
+    public void reserveId_onlyTasksAddedToCollection() {
+        int unusedId = new PersonBuilder().build().getId() + 1000;
+        Task readTask = new Task(unusedId, ALICE.getName(), ALICE.getPhone(), ALICE.getPriority(),
+            ALICE.getEmail(), ALICE.getDeadline(), ALICE.getAddress(), ALICE.getTags(), ALICE.getAttachments());
+        assertTrue(new PersonBuilder().build().getId() < readTask.getId());
+
+        new TaskCollection().addPerson(readTask);
+        assertTrue(new PersonBuilder().build().getId() > readTask.getId());
+    }
+
     @Test
     public void isSamePerson() {
         // same object -> returns true
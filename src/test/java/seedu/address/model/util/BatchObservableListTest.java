@@ -0,0 +1,99 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.ListChangeListener;
+
+public class BatchObservableListTest {
+
+    private final BatchObservableList<String> list = new BatchObservableList<>();
+    private final List<String> replayed = new ArrayList<>();
+    private int changeCount;
+
+    @Before
+    public void setUp() {
+        list.addAll(Arrays.asList("a", "b", "c", "d", "e", "f"));
+        replayed.addAll(list);
+        list.addListener((ListChangeListener<String>) change -> {
+            changeCount++;
+            replay(change);
+        });
+    }
+
+    @Test
+    public void removeAt_separateRuns_singleChange() {
+        BitSet indexes = new BitSet();
+        indexes.set(0);
+        indexes.set(2, 4);
+        indexes.set(5);
+
+        list.removeAt(indexes);
+        assertEquals(Arrays.asList("b", "e"), list);
+        assertEquals(1, changeCount);
+        assertEquals(list, replayed);
+    }
+
+    @Test
+    public void removeAt_noIndexes_noChange() {
+        list.removeAt(new BitSet());
+        assertEquals(0, changeCount);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void removeAt_indexOutOfRange_throwsIndexOutOfBoundsException() {
+        BitSet indexes = new BitSet();
+        indexes.set(6);
+        list.removeAt(indexes);
+    }
+
+    @Test
+    public void addAll_middle_singleChange() {
+        assertFalse(list.addAll(2, Collections.emptyList()));
+        list.addAll(2, Arrays.asList("x", "y"));
+        assertEquals(Arrays.asList("a", "b", "x", "y", "c", "d", "e", "f"), list);
+        assertEquals(1, changeCount);
+        assertEquals(list, replayed);
+    }
+
+    @Test
+    public void applyAsOneChange_severalModifications_singleChange() {
+        list.applyAsOneChange(() -> {
+            list.set(1, "x");
+            list.set(4, "y");
+            list.remove(0);
+            list.add("z");
+        });
+        assertEquals(Arrays.asList("x", "c", "d", "y", "f", "z"), list);
+        assertEquals(1, changeCount);
+        assertEquals(list, replayed);
+    }
+
+    /**
+     * Applies {@code change} to {@code replayed}, as a listener that mirrors the list would.
+     */
+    private void replay(ListChangeListener.Change<? extends String> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<String> permuted = new ArrayList<>(replayed);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), replayed.get(i));
+                }
+                replayed.clear();
+                replayed.addAll(permuted);
+                continue;
+            }
+            replayed.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+            replayed.addAll(change.getFrom(), change.getAddedSubList());
+        }
+    }
+}
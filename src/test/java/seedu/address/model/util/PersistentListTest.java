@@ -0,0 +1,139 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final PersistentList<String> list = PersistentList.of(Arrays.asList("a", "b", "c"));
+
+    @Test
+    public void of_nullList_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        PersistentList.of(null);
+    }
+
+    @Test
+    public void empty_noElements() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(0, PersistentList.empty().size());
+        assertFalse(PersistentList.empty().iterator().hasNext());
+    }
+
+    @Test
+    public void get_indexOutOfRange_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        list.get(3);
+    }
+
+    @Test
+    public void set_validIndex_originalUnchanged() {
+        PersistentList<String> updated = list.set(1, "x");
+        assertEquals(Arrays.asList("a", "x", "c"), updated.toList());
+        assertEquals(Arrays.asList("a", "b", "c"), list.toList());
+    }
+
+    @Test
+    public void addAndRemove_validIndex_originalUnchanged() {
+        assertEquals(Arrays.asList("x", "a", "b", "c"), list.add(0, "x").toList());
+        assertEquals(Arrays.asList("a", "b", "c", "x"), list.add(3, "x").toList());
+        assertEquals(Arrays.asList("a", "c"), list.remove(1).toList());
+        assertEquals(Arrays.asList("a", "b", "c"), list.toList());
+    }
+
+    @Test
+    public void lowerBound_sortedList_findsFirstNotLess() {
+        Comparator<String> natural = Comparator.naturalOrder();
+        assertEquals(0, list.lowerBound("a", natural));
+        assertEquals(1, list.lowerBound("aa", natural));
+        assertEquals(2, list.lowerBound("c", natural));
+        assertEquals(3, list.lowerBound("d", natural));
+        assertEquals(0, PersistentList.<String>empty().lowerBound("a", natural));
+    }
+
+    @Test
+    public void add_indexOutOfRange_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        list.add(4, "x");
+    }
+
+    @Test
+    public void replace_range_elementsReplaced() {
+        assertEquals(Arrays.asList("a", "x", "y", "z"), list.replace(1, 3, Arrays.asList("x", "y", "z")).toList());
+        assertEquals(Arrays.asList("c"), list.replace(0, 2, Collections.emptyList()).toList());
+    }
+
+    @Test
+    public void descendingIterator_elementsInReverse() {
+        List<String> reversed = new ArrayList<>();
+        Iterator<String> iterator = list.descendingIterator();
+        iterator.forEachRemaining(reversed::add);
+        assertEquals(Arrays.asList("c", "b", "a"), reversed);
+    }
+
+    @Test
+    public void randomUpdates_matchArrayList() {
+        Random random = new Random(2103);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 2000; i++) {
+            int operation = expected.isEmpty() ? 0 : random.nextInt(3);
+            if (operation == 0) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.add(index, i);
+            } else if (operation == 1) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.set(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.remove(index);
+            }
+            versions.add(actual);
+            expectedVersions.add(new ArrayList<>(expected));
+        }
+
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i).toList());
+        }
+        assertEquals(expected.get(expected.size() / 2), actual.get(expected.size() / 2));
+    }
+
+    @Test
+    public void equals() {
+        // same values -> returns true
+        assertTrue(list.equals(PersistentList.of(Arrays.asList("a", "b", "c"))));
+        assertEquals(list.hashCode(), PersistentList.of(Arrays.asList("a", "b", "c")).hashCode());
+
+        // same object -> returns true
+        assertTrue(list.equals(list));
+
+        // null -> returns false
+        assertFalse(list.equals(null));
+
+        // different values -> returns false
+        assertFalse(list.equals(list.set(0, "x")));
+        assertFalse(list.equals(list.remove(2)));
+    }
+}
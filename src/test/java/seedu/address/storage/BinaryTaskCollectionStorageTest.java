@@ -0,0 +1,96 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTaskCollection;
+import seedu.address.model.TaskCollection;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryTaskCollectionStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private BinaryTaskCollectionStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("tasks.dat");
+        storage = new BinaryTaskCollectionStorage(filePath);
+    }
+
+    @Test
+    public void readTaskCollection_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readTaskCollection().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTaskCollection_allInOrder_success() throws Exception {
+        TaskCollection original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder(HOON).withAddress("Straße 5, 東京").withDeadline("29/2/1600").build());
+
+        storage.saveTaskCollection(original);
+        assertTrue(BinaryTaskCollectionStorage.isBinaryFile(filePath));
+        assertEquals(original, new TaskCollection(storage.readTaskCollection().get()));
+
+        // a smaller deadline manager replaces the file
+        original.removeTask(HOON);
+        storage.saveTaskCollection(original);
+        assertEquals(original, new TaskCollection(storage.readTaskCollection().get()));
+    }
+
+    @Test
+    public void readTaskCollection_xmlFile_readAsXml() throws Exception {
+        new XmlTaskCollectionStorage(filePath).saveTaskCollection(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), new TaskCollection(storage.readTaskCollection().get()));
+    }
+
+    @Test
+    public void saveTaskCollection_xmlFileWithJournal_journalKeptUntilReplaced() throws Exception {
+        TaskCollection tasks = JournaledTaskCollectionStorageTest.saveTypicalTasksWithJournal(filePath);
+        Path journalPath = JournaledTaskCollectionStorage.getJournalFilePath(filePath);
+        assertEquals(getTypicalAddressBook(), new XmlTaskCollectionStorage(filePath).readTaskCollection().get());
+
+        ReadOnlyTaskCollection readTasks = storage.readTaskCollection().get();
+        assertEquals(tasks, new TaskCollection(readTasks));
+        storage.saveTaskCollection(readTasks);
+        assertFalse(Files.exists(journalPath));
+        assertEquals(tasks, new TaskCollection(storage.readTaskCollection().get()));
+    }
+
+    @Test
+    public void readTaskCollection_corruptedFile_throwsDataConversionException() throws Exception {
+        storage.saveTaskCollection(getTypicalAddressBook());
+        long middle = Files.size(filePath) / 2;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer oneByte = ByteBuffer.allocate(1);
+            channel.read(oneByte, middle);
+            oneByte.put(0, (byte) ~oneByte.get(0)).rewind();
+            channel.write(oneByte, middle);
+        }
+
+        thrown.expect(DataConversionException.class);
+        storage.readTaskCollection();
+    }
+}
@@ -0,0 +1,182 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.events.model.TaskCollectionChangedEvent;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyTaskCollection;
+import seedu.address.model.TaskCollection;
+import seedu.address.model.TaskCollectionSnapshot;
+import seedu.address.model.TaskDelta;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class JournaledTaskCollectionStorageTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private Path filePath;
+    private Path journalPath;
+    private JournaledTaskCollectionStorage storage;
+    private Model model;
+
+    @Before
+    public void setUp() throws Exception {
+        filePath = testFolder.getRoot().toPath().resolve("tasks.xml");
+        journalPath = JournaledTaskCollectionStorage.getJournalFilePath(filePath);
+        storage = new JournaledTaskCollectionStorage(filePath);
+        storage.saveTaskCollection(getTypicalAddressBook());
+        model = new ModelManager(storage.readTaskCollection().get(), new UserPrefs());
+    }
+
+    @Test
+    public void saveTaskCollection_changesSinceLoad_appendedToJournal() throws Exception {
+        byte[] snapshotBeforeChanges = Files.readAllBytes(filePath);
+        long journalSizeBeforeChanges = Files.size(journalPath);
+
+        model.addPerson(HOON);
+        saveLatestSnapshot();
+        model.updatePerson(ALICE, new PersonBuilder(ALICE).withPriority("4").build());
+        saveLatestSnapshot();
+        model.deletePerson(HOON);
+        saveLatestSnapshot();
+
+        assertArrayEquals(snapshotBeforeChanges, Files.readAllBytes(filePath));
+        assertTrue(Files.size(journalPath) > journalSizeBeforeChanges);
+        assertEquals(new TaskCollection(model.getAddressBook()), readWithNewStorage());
+    }
+
+    @Test
+    public void readTaskCollection_recordCutShort_recordDropped() throws Exception {
+        model.addPerson(HOON);
+        saveLatestSnapshot();
+        TaskCollection savedTasks = new TaskCollection(model.getAddressBook());
+        model.addPerson(IDA);
+        saveLatestSnapshot();
+
+        long journalSize = Files.size(journalPath);
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.WRITE)) {
+            channel.truncate(journalSize - 10);
+        }
+        assertEquals(savedTasks, readWithNewStorage());
+
+        // the next record replaces the one cut short
+        JournaledTaskCollectionStorage reloadedStorage = new JournaledTaskCollectionStorage(filePath);
+        Model reloadedModel = new ModelManager(reloadedStorage.readTaskCollection().get(), new UserPrefs());
+        reloadedModel.addPerson(IDA);
+        reloadedStorage.saveTaskCollection(latestSnapshot());
+        assertEquals(new TaskCollection(reloadedModel.getAddressBook()), readWithNewStorage());
+    }
+
+    @Test
+    public void readTaskCollection_snapshotReplacedWithoutJournal_journalIgnored() throws Exception {
+        model.addPerson(HOON);
+        saveLatestSnapshot();
+
+        TaskCollection otherTasks = new TaskCollection();
+        otherTasks.addPerson(IDA);
+        new XmlTaskCollectionStorage(filePath).saveTaskCollection(otherTasks);
+        assertEquals(otherTasks, readWithNewStorage());
+    }
+
+    @Test
+    public void saveTaskCollection_notBasedOnSavedVersion_compacted() throws Exception {
+        long emptyJournalSize = Files.size(journalPath);
+        model.addPerson(HOON);
+        saveLatestSnapshot();
+        assertTrue(Files.size(journalPath) > emptyJournalSize);
+
+        TaskCollection tasks = new TaskCollection(model.getAddressBook());
+        storage.saveTaskCollection(tasks);
+        assertEquals(emptyJournalSize, Files.size(journalPath));
+        assertEquals(tasks, new XmlTaskCollectionStorage(filePath).readTaskCollection().get());
+        assertEquals(tasks, readWithNewStorage());
+    }
+
+    @Test
+    public void saveTaskCollection_otherPath_plainSnapshot() throws Exception {
+        Path otherPath = testFolder.getRoot().toPath().resolve("other.xml");
+        storage.saveTaskCollection(getTypicalAddressBook(), otherPath);
+        assertFalse(Files.exists(JournaledTaskCollectionStorage.getJournalFilePath(otherPath)));
+        assertEquals(getTypicalAddressBook(), new XmlTaskCollectionStorage(otherPath).readTaskCollection().get());
+    }
+
+    @Test
+    public void mergeJournal_leftoverJournal_replayedIntoSnapshotAndDeleted() throws Exception {
+        Path otherPath = testFolder.getRoot().toPath().resolve("other.xml");
+        TaskCollection tasks = saveTypicalTasksWithJournal(otherPath);
+
+        JournaledTaskCollectionStorage.mergeJournal(otherPath);
+        assertFalse(Files.exists(JournaledTaskCollectionStorage.getJournalFilePath(otherPath)));
+        assertEquals(tasks, new XmlTaskCollectionStorage(otherPath).readTaskCollection().get());
+
+        // without a journal, the snapshot is left as it is
+        byte[] mergedSnapshot = Files.readAllBytes(otherPath);
+        JournaledTaskCollectionStorage.mergeJournal(otherPath);
+        assertArrayEquals(mergedSnapshot, Files.readAllBytes(otherPath));
+    }
+
+    @Test
+    public void mergeJournal_journalWithoutSnapshot_journalDeleted() throws Exception {
+        Files.delete(filePath);
+        JournaledTaskCollectionStorage.mergeJournal(filePath);
+        assertFalse(Files.exists(filePath));
+        assertFalse(Files.exists(journalPath));
+    }
+
+    /**
+     * Saves the typical tasks at {@code filePath} as a snapshot with a journal that adds {@code HOON}, and
+     * returns the tasks that the snapshot and the journal hold together.
+     */
+    static TaskCollection saveTypicalTasksWithJournal(Path filePath) throws Exception {
+        JournaledTaskCollectionStorage journaledStorage = new JournaledTaskCollectionStorage(filePath);
+        journaledStorage.saveTaskCollection(getTypicalAddressBook());
+        journaledStorage.readTaskCollection();
+
+        TaskCollection tasks = getTypicalAddressBook();
+        tasks.addPerson(HOON);
+        Task addedTask = tasks.getTaskList().get(tasks.size() - 1);
+        TaskDelta delta = new TaskDelta(tasks.size() - 1, Collections.emptyList(),
+            Collections.singletonList(addedTask));
+        journaledStorage.saveTaskCollection(new TaskCollectionSnapshot(tasks, TaskCollectionSnapshot.INITIAL_VERSION,
+            TaskCollectionSnapshot.INITIAL_VERSION + 1, Collections.singletonList(delta)));
+        return tasks;
+    }
+
+    private ReadOnlyTaskCollection latestSnapshot() {
+        return ((TaskCollectionChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent()).data;
+    }
+
+    private void saveLatestSnapshot() throws Exception {
+        storage.saveTaskCollection(latestSnapshot());
+    }
+
+    private TaskCollection readWithNewStorage() throws Exception {
+        return new TaskCollection(new JournaledTaskCollectionStorage(filePath).readTaskCollection().get());
+    }
+}
@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTaskCollection;
+import seedu.address.model.TaskCollection;
+
+public class JsonTaskCollectionStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private JsonTaskCollectionStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("tasks.json");
+        storage = new JsonTaskCollectionStorage(filePath);
+    }
+
+    @Test
+    public void readTaskCollection_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readTaskCollection().isPresent());
+    }
+
+    @Test
+    public void readAndSaveTaskCollection_allInOrder_success() throws Exception {
+        TaskCollection original = getTypicalAddressBook();
+        storage.saveTaskCollection(original);
+        assertTrue(JsonTaskCollectionStorage.isJsonFile(filePath));
+        assertEquals(original, new TaskCollection(storage.readTaskCollection().get()));
+
+        original.addPerson(HOON);
+        original.removeTask(ALICE);
+        storage.saveTaskCollection(original);
+        assertEquals(original, new TaskCollection(storage.readTaskCollection().get()));
+    }
+
+    @Test
+    public void readTaskCollection_xmlFile_readAsXml() throws Exception {
+        new XmlTaskCollectionStorage(filePath).saveTaskCollection(getTypicalAddressBook());
+        assertEquals(getTypicalAddressBook(), new TaskCollection(storage.readTaskCollection().get()));
+    }
+
+    @Test
+    public void saveTaskCollection_xmlFileWithJournal_journalKeptUntilReplaced() throws Exception {
+        TaskCollection tasks = JournaledTaskCollectionStorageTest.saveTypicalTasksWithJournal(filePath);
+        Path journalPath = JournaledTaskCollectionStorage.getJournalFilePath(filePath);
+
+        ReadOnlyTaskCollection readTasks = storage.readTaskCollection().get();
+        assertEquals(tasks, new TaskCollection(readTasks));
+        storage.saveTaskCollection(readTasks);
+        assertFalse(Files.exists(journalPath));
+        assertFalse(Files.exists(testFolder.getRoot().toPath().resolve("tasks.json.tmp")));
+        assertEquals(tasks, new TaskCollection(storage.readTaskCollection().get()));
+    }
+
+    @Test
+    public void readTaskCollection_unknownFieldsAndMissingId_success() throws Exception {
+        FileUtil.writeToFile(filePath, "{ \"version\" : { \"major\" : 2 }, \"tasks\" : [ {"
+            + " \"name\" : \"Write report\", \"phone\" : \"123\", \"priority\" : \"2\", \"deadline\" : \"1/10/2018\","
+            + " \"email\" : \"a@example.com\", \"address\" : \"Office\", \"colour\" : [ 1, 2 ] } ] }");
+        assertEquals(1, storage.readTaskCollection().get().getTaskList().size());
+    }
+
+    @Test
+    public void readTaskCollection_invalidTask_throwsDataConversionException() throws Exception {
+        storage.saveTaskCollection(getTypicalAddressBook());
+        String json = new String(Files.readAllBytes(filePath), "UTF-8");
+        FileUtil.writeToFile(filePath, json.replaceFirst("\"priority\" : \"\\d\"", "\"priority\" : \"9\""));
+
+        thrown.expect(DataConversionException.class);
+        storage.readTaskCollection();
+    }
+
+    @Test
+    public void readTaskCollection_fileCutShort_throwsDataConversionException() throws Exception {
+        storage.saveTaskCollection(getTypicalAddressBook());
+        String json = new String(Files.readAllBytes(filePath), "UTF-8");
+        FileUtil.writeToFile(filePath, json.substring(0, json.length() / 2));
+
+        thrown.expect(DataConversionException.class);
+        storage.readTaskCollection();
+    }
+}
@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.TaskCollection;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Measures how long it takes to save and load deadline managers of different sizes. This is not a test,
+ * and is run with {@code gradlew storageBenchmark}.
+ * <p>
+ * Each case is run a number of times to warm up the JIT before it is timed, and the mean time of a
+ * save or load is printed. Results vary between machines, so only compare results from the same run.
+ */
+public class StorageBenchmark {
+
+    private static final int[] TASK_COUNTS = {1, 100, 10000};
+    private static final int WARM_UP_TASKS = 5000;
+    private static final int MEASURED_TASKS = 5000;
+    private static final int MIN_RUNS = 5;
+
+    /**
+     * Something to be timed with the deadline manager that is saved in a file.
+     */
+    @FunctionalInterface
+    private interface Operation {
+        void run(TaskCollection tasks, Path file) throws Exception;
+    }
+
+    /**
+     * Prints the mean time of a save with and without cached JAXB contexts, and the mean time of a save
+     * and a load in each storage format, for each size of deadline manager.
+     */
+    public static void main(String[] args) throws Exception {
+        Path file = Files.createTempFile("benchmark", ".dat");
+        try {
+            System.out.println(String.format("%8s %28s %28s", "tasks", "new JAXBContext (ms/save)",
+                "cached JAXBContext (ms/save)"));
+            for (int taskCount : TASK_COUNTS) {
+                TaskCollection tasks = createTasks(taskCount);
+                double uncachedMillis = measure(StorageBenchmark::saveWithNewContext, tasks, file);
+                double cachedMillis = measure((data, path) -> XmlUtil.saveDataToFile(path,
+                    new XmlSerializableTaskCollection(data)), tasks, file);
+                System.out.println(String.format("%8d %28.3f %28.3f", taskCount, uncachedMillis, cachedMillis));
+            }
+
+            System.out.println();
+            System.out.println(String.format("%8s %8s %16s %16s %16s", "tasks", "format", "save (ms)", "load (ms)",
+                "file (bytes)"));
+            for (int taskCount : TASK_COUNTS) {
+                TaskCollection tasks = createTasks(taskCount);
+                printFormat("XML", new XmlTaskCollectionStorage(file), tasks, file);
+                printFormat("JSON", new JsonTaskCollectionStorage(file), tasks, file);
+                printFormat("BINARY", new BinaryTaskCollectionStorage(file), tasks, file);
+            }
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    /**
+     * Prints the mean times that {@code storage} takes to save and load {@code tasks}, and the size of
+     * the file it writes.
+     */
+    private static void printFormat(String format, TaskCollectionStorage storage, TaskCollection tasks, Path file)
+        throws Exception {
+        double saveMillis = measure((data, path) -> storage.saveTaskCollection(data, path), tasks, file);
+        double loadMillis = measure((data, path) -> storage.readTaskCollection(path), tasks, file);
+        System.out.println(String.format("%8d %8s %16.3f %16.3f %16d", tasks.getTaskList().size(), format,
+            saveMillis, loadMillis, Files.size(file)));
+    }
+
+    /**
+     * Saves {@code tasks} the way {@code XmlUtil} did before it cached contexts, creating a context and a
+     * marshaller for every save.
+     */
+    private static void saveWithNewContext(TaskCollection tasks, Path file) throws JAXBException {
+        XmlSerializableTaskCollection data = new XmlSerializableTaskCollection(tasks);
+        Marshaller marshaller = JAXBContext.newInstance(data.getClass()).createMarshaller();
+        marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        marshaller.marshal(data, file.toFile());
+    }
+
+    /**
+     * Returns the mean time in milliseconds that {@code operation} takes with {@code tasks}. Enough runs
+     * are made to handle about the same number of tasks in total whatever the size of {@code tasks}.
+     */
+    private static double measure(Operation operation, TaskCollection tasks, Path file) throws Exception {
+        int taskCount = Math.max(1, tasks.getTaskList().size());
+        for (int i = 0; i < Math.max(MIN_RUNS, WARM_UP_TASKS / taskCount); i++) {
+            operation.run(tasks, file);
+        }
+        int runCount = Math.max(MIN_RUNS, MEASURED_TASKS / taskCount);
+        long start = System.nanoTime();
+        for (int i = 0; i < runCount; i++) {
+            operation.run(tasks, file);
+        }
+        return (System.nanoTime() - start) / 1e6 / runCount;
+    }
+
+    /**
+     * Returns a deadline manager with {@code taskCount} different tasks.
+     */
+    static TaskCollection createTasks(int taskCount) {
+        TaskCollection tasks = new TaskCollection();
+        for (int i = 0; i < taskCount; i++) {
+            tasks.addPerson(new PersonBuilder().withName("Task " + i).build());
+        }
+        return tasks;
+    }
+}
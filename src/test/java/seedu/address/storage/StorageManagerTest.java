@@ -2,12 +2,16 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -82,10 +86,46 @@ public class StorageManagerTest {
             new XmlTaskCollectionStorageExceptionThrowingStub(Paths.get("dummy")),
             new JsonUserPrefsStorage(Paths.get("dummy")));
         storage.handleTaskCollectionChangedEvent(new TaskCollectionChangedEvent(new TaskCollection()));
+        storage.flushTaskCollection();
         assertTrue(eventsCollectorRule.eventsCollector
             .getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleAddressBookChangedEvent_burstOfChanges_latestSnapshotSavedOnce() throws Exception {
+        BlockingTaskCollectionStorageStub blockingStorage = new BlockingTaskCollectionStorageStub();
+        Storage storage = new StorageManager(blockingStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        TaskCollection firstTasks = new TaskCollection();
+        storage.handleTaskCollectionChangedEvent(new TaskCollectionChangedEvent(firstTasks));
+        blockingStorage.saveStarted.await();
+
+        // changes made while the first save is in progress are coalesced into one save
+        TaskCollection lastTasks = null;
+        for (int i = 0; i < 5; i++) {
+            lastTasks = new TaskCollection();
+            storage.handleTaskCollectionChangedEvent(new TaskCollectionChangedEvent(lastTasks));
+        }
+        blockingStorage.canFinishSave.countDown();
+        storage.flushTaskCollection();
+
+        assertEquals(2, blockingStorage.savedTaskCollections.size());
+        assertSame(firstTasks, blockingStorage.savedTaskCollections.get(0));
+        assertSame(lastTasks, blockingStorage.savedTaskCollections.get(1));
+    }
+
+    @Test
+    public void shutdownTaskCollectionSaver_pendingChange_savedBeforeReturning() {
+        BlockingTaskCollectionStorageStub blockingStorage = new BlockingTaskCollectionStorageStub();
+        Storage storage = new StorageManager(blockingStorage, new JsonUserPrefsStorage(getTempFilePath("prefs")));
+        TaskCollection tasks = new TaskCollection();
+        blockingStorage.canFinishSave.countDown();
+        storage.handleTaskCollectionChangedEvent(new TaskCollectionChangedEvent(tasks));
+        storage.shutdownTaskCollectionSaver();
+
+        assertEquals(1, blockingStorage.savedTaskCollections.size());
+        assertSame(tasks, blockingStorage.savedTaskCollections.get(0));
+    }
+
     @Test
     public void exportOnWorkingFile_exceptionThrown() throws IOException {
         // Exporting with file name equal to the working file should throw IllegalValueException.
@@ -109,6 +149,32 @@ public class StorageManagerTest {
     }
 
 
+    /**
+     * A Stub class that records the task collections it saves, and blocks its first save until
+     * {@code canFinishSave} is counted down.
+     */
+    class BlockingTaskCollectionStorageStub extends XmlTaskCollectionStorage {
+
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private final CountDownLatch canFinishSave = new CountDownLatch(1);
+        private final List<ReadOnlyTaskCollection> savedTaskCollections = new ArrayList<>();
+
+        public BlockingTaskCollectionStorageStub() {
+            super(getTempFilePath("blocking"));
+        }
+
+        @Override
+        public void saveTaskCollection(ReadOnlyTaskCollection addressBook, Path filePath) throws IOException {
+            saveStarted.countDown();
+            try {
+                canFinishSave.await();
+            } catch (InterruptedException e) {
+                throw new AssertionError(e);
+            }
+            savedTaskCollections.add(addressBook);
+        }
+    }
+
     /**
      * A Stub class to throw an exception when the save method is called
      */
@@ -0,0 +1,75 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.StorageFormat;
+import seedu.address.model.TaskCollection;
+
+public class TaskCollectionFileConverterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void convert_xmlToBinaryAndBack_noDataLost() throws Exception {
+        Path xmlFile = testFolder.getRoot().toPath().resolve("tasks.xml");
+        Path binaryFile = testFolder.getRoot().toPath().resolve("tasks.dat");
+        Path convertedXmlFile = testFolder.getRoot().toPath().resolve("converted.xml");
+        new XmlTaskCollectionStorage(xmlFile).saveTaskCollection(getTypicalAddressBook());
+
+        assertEquals(StorageFormat.BINARY, TaskCollectionFileConverter.convert(xmlFile, binaryFile));
+        assertTrue(BinaryTaskCollectionStorage.isBinaryFile(binaryFile));
+        assertEquals(StorageFormat.XML, TaskCollectionFileConverter.convert(binaryFile, convertedXmlFile));
+        assertEquals(getTypicalAddressBook(),
+            new TaskCollection(new XmlTaskCollectionStorage(convertedXmlFile).readTaskCollection().get()));
+    }
+
+    @Test
+    public void convert_binaryToJson_noDataLost() throws Exception {
+        Path binaryFile = testFolder.getRoot().toPath().resolve("tasks.dat");
+        Path jsonFile = testFolder.getRoot().toPath().resolve("tasks.json");
+        new BinaryTaskCollectionStorage(binaryFile).saveTaskCollection(getTypicalAddressBook());
+
+        assertEquals(StorageFormat.JSON, TaskCollectionFileConverter.convert(binaryFile, jsonFile, StorageFormat.JSON));
+        assertEquals(StorageFormat.JSON, TaskCollectionFileConverter.getFormat(jsonFile));
+        assertEquals(getTypicalAddressBook(),
+            new TaskCollection(new JsonTaskCollectionStorage(jsonFile).readTaskCollection().get()));
+    }
+
+    @Test
+    public void convert_xmlFileWithJournal_journalChangesConverted() throws Exception {
+        Path xmlFile = testFolder.getRoot().toPath().resolve("tasks.xml");
+        Path binaryFile = testFolder.getRoot().toPath().resolve("tasks.dat");
+        TaskCollection tasks = JournaledTaskCollectionStorageTest.saveTypicalTasksWithJournal(xmlFile);
+
+        assertEquals(StorageFormat.BINARY, TaskCollectionFileConverter.convert(xmlFile, binaryFile));
+        assertEquals(tasks, new TaskCollection(new BinaryTaskCollectionStorage(binaryFile).readTaskCollection().get()));
+        assertTrue(Files.exists(JournaledTaskCollectionStorage.getJournalFilePath(xmlFile)));
+        assertFalse(Files.exists(JournaledTaskCollectionStorage.getJournalFilePath(binaryFile)));
+    }
+
+    @Test
+    public void convert_targetExists_throwsIoException() throws Exception {
+        Path xmlFile = testFolder.getRoot().toPath().resolve("tasks.xml");
+        new XmlTaskCollectionStorage(xmlFile).saveTaskCollection(getTypicalAddressBook());
+
+        thrown.expect(IOException.class);
+        thrown.expectMessage(Storage.MESSAGE_WRITE_FILE_EXISTS_ERROR);
+        TaskCollectionFileConverter.convert(xmlFile, xmlFile);
+    }
+}
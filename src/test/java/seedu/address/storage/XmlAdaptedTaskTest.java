@@ -17,6 +17,7 @@ import seedu.address.model.task.Email;
 import seedu.address.model.task.Name;
 import seedu.address.model.task.Phone;
 import seedu.address.model.task.Priority;
+import seedu.address.model.task.Task;
 import seedu.address.testutil.Assert;
 
 public class XmlAdaptedTaskTest {
@@ -49,6 +50,21 @@ public class XmlAdaptedTaskTest {
         assertEquals(BENSON, person.toModelType());
     }
 
+    @Test
+    public void toModelType_validPersonDetails_keepsId() throws Exception {
+        XmlAdaptedTask person = new XmlAdaptedTask(BENSON);
+        assertEquals(BENSON.getId(), person.toModelType().getId());
+    }
+
+    @Test
+    public void toModelType_idOutOfRange_throwsIllegalValueException() {
+        for (int id : new int[] {-3, Task.MAX_STORED_ID, Integer.MAX_VALUE}) {
+            XmlAdaptedTask person = new XmlAdaptedTask(id, VALID_NAME, VALID_PHONE, VALID_PRIORITY, VALID_DEADLINE,
+                VALID_EMAIL, VALID_ADDRESS, VALID_TAGS, VALID_ATTACHMENTS);
+            Assert.assertThrows(IllegalValueException.class, Task.MESSAGE_ID_CONSTRAINTS, person::toModelType);
+        }
+    }
+
     @Test
     public void toModelType_invalidName_throwsIllegalValueException() {
         XmlAdaptedTask person =
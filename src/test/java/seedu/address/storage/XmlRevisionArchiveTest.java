@@ -0,0 +1,81 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.TaskDelta;
+
+public class XmlRevisionArchiveTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final List<TaskDelta> addRevision = Collections.singletonList(
+        new TaskDelta(0, Collections.emptyList(), Arrays.asList(ALICE, BENSON)));
+    private final List<TaskDelta> editRevision = Arrays.asList(
+        new TaskDelta(1, Collections.singletonList(BENSON), Collections.singletonList(CARL)),
+        new TaskDelta(0, Collections.singletonList(ALICE), Collections.emptyList()));
+
+    @Test
+    public void constructor_nullFilePath_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new XmlRevisionArchive(null);
+    }
+
+    @Test
+    public void pushAndPop_multipleRevisions_poppedInReverseOrder() throws Exception {
+        XmlRevisionArchive archive = new XmlRevisionArchive(
+            testFolder.getRoot().toPath().resolve("history").resolve("undohistory.dat"));
+        archive.push(addRevision);
+        archive.push(editRevision);
+        assertEquals(2, archive.size());
+
+        assertEquals(editRevision, archive.pop());
+        archive.push(editRevision);
+        assertEquals(editRevision, archive.pop());
+        assertEquals(addRevision, archive.pop());
+        assertEquals(0, archive.size());
+    }
+
+    @Test
+    public void pop_revisionKeepsTaskIds() throws Exception {
+        XmlRevisionArchive archive = new XmlRevisionArchive(testFolder.getRoot().toPath().resolve("undohistory.dat"));
+        archive.push(addRevision);
+        List<TaskDelta> popped = archive.pop();
+        assertEquals(ALICE.getId(), popped.get(0).getAdded().get(0).getId());
+    }
+
+    @Test
+    public void push_staleFile_overwritten() throws Exception {
+        XmlRevisionArchive archive = new XmlRevisionArchive(testFolder.getRoot().toPath().resolve("undohistory.dat"));
+        Files.write(archive.getFilePath(), "left over from an earlier session".getBytes());
+
+        archive.push(addRevision);
+        assertEquals(addRevision, archive.pop());
+    }
+
+    @Test
+    public void clear_fileDeleted() throws Exception {
+        XmlRevisionArchive archive = new XmlRevisionArchive(testFolder.getRoot().toPath().resolve("undohistory.dat"));
+        archive.push(addRevision);
+        archive.clear();
+        assertEquals(0, archive.size());
+        assertFalse(Files.exists(archive.getFilePath()));
+    }
+}
@@ -105,6 +105,21 @@ public class XmlTaskCollectionStorageTest {
 
     }
 
+    @Test
+    public void saveAndReadTaskCollection_sameFormatAsJaxb_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTaskCollection.xml");
+        XmlTaskCollectionStorage xmlTaskCollectionStorage = new XmlTaskCollectionStorage(filePath);
+        TaskCollection original = getTypicalAddressBook();
+
+        // streamed file read as a whole
+        xmlTaskCollectionStorage.saveTaskCollection(original);
+        assertEquals(original, XmlFileStorage.loadDataFromSaveFile(filePath).toModelType());
+
+        // whole file streamed back
+        XmlFileStorage.saveDataToFile(filePath, new XmlSerializableTaskCollection(original));
+        assertEquals(original, new TaskCollection(xmlTaskCollectionStorage.readTaskCollection().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.task.Task;
+
+public class XmlTaskReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data");
+    private static final Path TYPICAL_TASKS_FILE = TEST_DATA_FOLDER.resolve("XmlSerializableTaskCollectionTest")
+        .resolve("typicalTasksInTaskCollection.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void readBatch_typicalTasksFile_allTasksInBatches() throws Exception {
+        List<Task> tasks = new ArrayList<>();
+        try (XmlTaskReader reader = new XmlTaskReader(TYPICAL_TASKS_FILE)) {
+            List<Task> batch = reader.readBatch(3);
+            assertEquals(3, batch.size());
+            while (!batch.isEmpty()) {
+                assertTrue(batch.size() <= 3);
+                tasks.addAll(batch);
+                batch = reader.readBatch(3);
+            }
+        }
+        assertEquals(getTypicalPersons(), tasks);
+    }
+
+    @Test
+    public void constructor_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new XmlTaskReader(TEST_DATA_FOLDER.resolve("XmlTaskCollectionStorageTest")
+            .resolve("NotXmlFormatTaskCollection.xml"));
+    }
+
+    @Test
+    public void readBatch_invalidTask_throwsDataConversionException() throws Exception {
+        try (XmlTaskReader reader = new XmlTaskReader(TEST_DATA_FOLDER.resolve("XmlSerializableTaskCollectionTest")
+            .resolve("invalidTaskInTaskCollection.xml"))) {
+            thrown.expect(DataConversionException.class);
+            reader.readBatch(1);
+        }
+    }
+}
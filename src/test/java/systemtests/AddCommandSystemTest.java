@@ -28,6 +28,7 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PRIORITY_BOB;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
@@ -261,10 +262,16 @@ public class AddCommandSystemTest extends TaskCollectionSystemTest {
      */
     private void assertCommandSuccess(String command, Task toAdd) {
         Model expectedModel = getModel();
+        boolean isFiltered = expectedModel.getFilteredPersonList().size()
+            < expectedModel.getAddressBook().getTaskList().size();
         Task toAddWithoutAttachments = new PersonBuilder(toAdd)
             .withAttachments()
             .build();
         expectedModel.addPerson(toAddWithoutAttachments);
+        // a filtered list keeps its filter, which the tasks added to it in this test do not satisfy
+        if (!isFiltered) {
+            expectedModel.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
         String expectedResultMessage = String.format(AddCommand.MESSAGE_SUCCESS, toAddWithoutAttachments);
 
         assertCommandSuccess(command, expectedModel, expectedResultMessage);
@@ -250,9 +250,14 @@ public class EditCommandSystemTest extends TaskCollectionSystemTest {
     private void assertCommandSuccess(String command, Index toEdit, Task editedTask,
                                       Index expectedSelectedCardIndex) {
         Model expectedModel = getModel();
+        boolean isFiltered = expectedModel.getFilteredPersonList().size()
+            < expectedModel.getAddressBook().getTaskList().size();
         expectedModel.updatePerson(expectedModel.getFilteredPersonList().get(toEdit.getZeroBased()),
             editedTask);
-        expectedModel.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        // a filtered list keeps its filter, which the edited tasks in this test no longer satisfy
+        if (!isFiltered) {
+            expectedModel.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
 
         assertCommandSuccess(command, expectedModel,
             String.format(EditCommand.MESSAGE_EDIT_PERSON_SUCCESS, editedTask),
@@ -267,6 +272,7 @@ public class EditCommandSystemTest extends TaskCollectionSystemTest {
      */
     private void assertCommandSuccess(String command, Model expectedModel,
                                       String expectedResultMessage) {
+        expectedModel.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         assertCommandSuccess(command, expectedModel, expectedResultMessage, null);
     }
 
@@ -287,7 +293,6 @@ public class EditCommandSystemTest extends TaskCollectionSystemTest {
                                       String expectedResultMessage,
                                       Index expectedSelectedCardIndex) {
         executeCommand(command);
-        expectedModel.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         assertApplicationDisplaysExpected("", expectedResultMessage, expectedModel);
         assertCommandBoxShowsDefaultStyle();
         if (expectedSelectedCardIndex != null) {